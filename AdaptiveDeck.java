@@ -0,0 +1,342 @@
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: AdaptiveDeck.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * AdaptiveDeck deals the question of a category and point value whose difficulty best suits
+ * the player, instead of a random one. It is off unless the program is run with
+ * -Djeopardy.adaptive=true.
+ *
+ * <p>Players and questions both have Elo ratings. A player rated the same as a question
+ * answers it correctly half the time, and every 400 points of difference multiplies the odds
+ * by ten. After each answer the player's rating and the question's rating move towards what
+ * happened, the player's faster since a player answers far fewer questions than a question
+ * is asked. Players are remembered by name for as long as the program runs, and questions
+ * start from the correct rates QuestionAnalytics has counted, if any.
+ *
+ * <p>The target of a draw is the rating at which the player should answer correctly
+ * EASIEST_TARGET of the time on the lowest point value, falling evenly to HARDEST_TARGET on
+ * the highest. Each bucket keeps its questions sorted by rating, so the question nearest the
+ * target is found by a binary search. Dealt questions are skipped with two arrays that link
+ * each dealt position to the nearest undealt one on either side and are shortened as they
+ * are followed, so a draw takes O(log n) time however large the bucket is and however many
+ * of its questions have been dealt. As with QuestionDeck, no question is dealt again until
+ * its whole bucket has been dealt. The sorted order is rebuilt with the latest ratings at
+ * the start of each pass through a bucket.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class AdaptiveDeck
+{
+	/** Whether games deal adaptively, set with -Djeopardy.adaptive=true. */
+	public static final boolean ENABLED = Boolean.getBoolean("jeopardy.adaptive");
+
+	/** The rating of a new player, and of a question nothing is known about. */
+	public static final double INITIAL_RATING = 1500;
+
+	/** How often a player should answer the questions of the lowest point value correctly. */
+	public static final double EASIEST_TARGET = 0.8;
+
+	/** How often a player should answer the questions of the highest point value correctly. */
+	public static final double HARDEST_TARGET = 0.4;
+
+	private static final double PLAYER_K = 32; // the most a player's rating moves on one answer
+	private static final double QUESTION_K = 8; // the most a question's rating moves on one answer
+	private static final double SEED_SPREAD = 1; // new questions differ by up to this much, so ties are dealt in random order
+
+	private static final Object SHARED_LOCK = new Object();
+	private static AdaptiveDeck shared;
+
+	private final QuestionSource bank;
+	private final float[] ratings; // the rating of each question, by question id
+	private final Bucket[] buckets; // one index per category and value
+	private final ConcurrentHashMap<String, Double> skills = new ConcurrentHashMap<>(); // the rating of each player, by name
+
+	/**
+	 * Creates a deck in which every question has the initial rating.
+	 *
+	 * @param bank the bank to deal questions from
+	 */
+	public AdaptiveDeck(QuestionSource bank)
+	{
+		this.bank = bank;
+		ratings = new float[bank.size()];
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int id = 0; id < ratings.length; id++) {
+			ratings[id] = (float) (INITIAL_RATING + random.nextDouble(-SEED_SPREAD, SEED_SPREAD));
+		}
+		buckets = new Bucket[bank.categoryCount() * bank.valueCount()];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new Bucket();
+		}
+	}
+
+	/**
+	 * Returns the deck shared by every game that deals from a bank, with question ratings
+	 * started from the statistics of the shared QuestionAnalytics. Those statistics are read
+	 * from the journal in the background at startup, so the ratings are seeded again once
+	 * they are all counted. A new deck is made when the bank is reloaded.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @param bank the question bank of the game
+	 * @return the shared deck for the bank
+	 */
+	public static AdaptiveDeck shared(QuestionSource bank)
+	{
+		synchronized (SHARED_LOCK) {
+			if (shared == null || shared.bank != bank) {
+				AdaptiveDeck deck = new AdaptiveDeck(bank);
+				QuestionAnalytics analytics = QuestionAnalytics.shared();
+				deck.seed(analytics.snapshot());
+				analytics.whenHistoryLoaded(() -> deck.seed(analytics.snapshot()));
+				shared = deck;
+			}
+			return shared;
+		}
+	}
+
+	/**
+	 * Sets the rating of every question that has been answered from how often it was
+	 * answered correctly, as if by players of the initial rating. Buckets nothing has been
+	 * dealt from yet are sorted again on their next draw; the others use the new ratings
+	 * from their next pass.
+	 *
+	 * @param snapshot the statistics of the questions
+	 */
+	public void seed(QuestionAnalytics.Snapshot snapshot)
+	{
+		for (QuestionAnalytics.Row row : snapshot.getRows()) {
+			int id = row.getQuestion();
+			if (id >= ratings.length || row.getAnswers() == 0) {
+				continue;
+			}
+			double correctRate = row.smoothedCorrectRate(0.5);
+			synchronized (bucketOf(id)) {
+				ratings[id] = (float) (INITIAL_RATING + 400 * Math.log10((1 - correctRate) / correctRate));
+			}
+		}
+		for (Bucket bucket : buckets) {
+			synchronized (bucket) {
+				if (bucket.dealt == 0) {
+					bucket.ids = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the bank this deck deals from.
+	 *
+	 * @return the question bank
+	 */
+	public QuestionSource bank()
+	{
+		return bank;
+	}
+
+	/**
+	 * Deals the undealt question of a category and point value nearest the player's target.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @param player the player the question is for
+	 * @return the id of the dealt question
+	 * @throws IllegalStateException if the bucket has no questions
+	 */
+	public int draw(int category, int value, Player player)
+	{
+		double target = targetRating(getSkill(player.getUserName()), value, bank.valueCount());
+		Bucket bucket = buckets[category * bank.valueCount() + value];
+		synchronized (bucket) {
+			if (bucket.ids == null || bucket.dealt == bucket.ids.length) {
+				build(bucket, category, value);
+			}
+			float[] sorted = bucket.ratings;
+
+			// The first position rated at or above the target, and the undealt ones either side of it
+			int position = Arrays.binarySearch(sorted, (float) target);
+			if (position < 0) {
+				position = -position - 1;
+			}
+			int above = find(bucket.above, position);
+			int below = find(bucket.below, position) - 1;
+			int pick;
+			if (above == sorted.length) {
+				pick = below;
+			} else if (below < 0) {
+				pick = above;
+			} else {
+				pick = sorted[above] - target <= target - sorted[below] ? above : below;
+			}
+
+			// Link the dealt position to its neighbours, so later searches step over it
+			bucket.above[pick] = pick + 1;
+			bucket.below[pick + 1] = pick;
+			bucket.dealt++;
+			return bucket.ids[pick];
+		}
+	}
+
+	/**
+	 * Moves a player's rating and a question's rating after the player answered it.
+	 * A question that timed out counts as answered wrongly.
+	 *
+	 * @param player the player who answered
+	 * @param question the question id
+	 * @param correct whether the answer was correct
+	 */
+	public void update(Player player, int question, boolean correct)
+	{
+		String name = player.getUserName();
+		double skill = getSkill(name);
+		double surprise;
+		synchronized (bucketOf(question)) {
+			double rating = ratings[question];
+			surprise = (correct ? 1 : 0) - expectedCorrect(skill, rating);
+			ratings[question] = (float) (rating - QUESTION_K * surprise);
+		}
+		double change = PLAYER_K * surprise;
+		skills.merge(name, INITIAL_RATING + change, (old, unused) -> old + change);
+	}
+
+	/**
+	 * Returns a player's rating.
+	 *
+	 * @param name the player's name
+	 * @return the rating, or INITIAL_RATING for a player who has not answered yet
+	 */
+	public double getSkill(String name)
+	{
+		return skills.getOrDefault(name, INITIAL_RATING);
+	}
+
+	/**
+	 * Returns a question's rating.
+	 *
+	 * @param question the question id
+	 * @return the rating
+	 */
+	public double getRating(int question)
+	{
+		synchronized (bucketOf(question)) {
+			return ratings[question];
+		}
+	}
+
+	/**
+	 * Returns how likely a player is to answer a question correctly.
+	 *
+	 * @param skill the player's rating
+	 * @param rating the question's rating
+	 * @return the chance of a correct answer, from 0 to 1
+	 */
+	public static double expectedCorrect(double skill, double rating)
+	{
+		return 1 / (1 + Math.pow(10, (rating - skill) / 400));
+	}
+
+	/**
+	 * Returns the rating of the question a player should be dealt at a point value.
+	 *
+	 * @param skill the player's rating
+	 * @param value the value id
+	 * @param values the number of point values
+	 * @return the target rating
+	 */
+	public static double targetRating(double skill, int value, int values)
+	{
+		double correctRate = values <= 1 ? EASIEST_TARGET
+				: EASIEST_TARGET + (HARDEST_TARGET - EASIEST_TARGET) * value / (values - 1);
+		return skill + 400 * Math.log10((1 - correctRate) / correctRate);
+	}
+
+	/**
+	 * Sorts a bucket's questions by their current rating and marks them all undealt.
+	 * Called with the bucket locked.
+	 */
+	private void build(Bucket bucket, int category, int value)
+	{
+		int size = bank.bucketSize(category, value);
+		if (size == 0) {
+			throw new IllegalStateException("There are no " + bank.pointValue(value)
+					+ " point questions in " + bank.categoryName(category));
+		}
+
+		// Sort positions by rating as one long each, the rating in the high half, so no boxing is needed
+		long[] keys = new long[size];
+		for (int index = 0; index < size; index++) {
+			keys[index] = (long) sortable(ratings[bank.questionId(category, value, index)]) << 32 | index;
+		}
+		Arrays.sort(keys);
+
+		bucket.ids = new int[size];
+		bucket.ratings = new float[size];
+		for (int i = 0; i < size; i++) {
+			int id = bank.questionId(category, value, (int) keys[i]);
+			bucket.ids[i] = id;
+			bucket.ratings[i] = ratings[id];
+		}
+		bucket.above = new int[size + 1];
+		bucket.below = new int[size + 1];
+		for (int i = 0; i <= size; i++) {
+			bucket.above[i] = i;
+			bucket.below[i] = i;
+		}
+		bucket.dealt = 0;
+	}
+
+	/**
+	 * Follows the links of dealt positions from a start to the first position linked to
+	 * itself, halving the path on the way so it is shorter next time.
+	 */
+	private static int find(int[] links, int start)
+	{
+		int position = start;
+		while (links[position] != position) {
+			links[position] = links[links[position]];
+			position = links[position];
+		}
+		return position;
+	}
+
+	/**
+	 * Returns a float's bits as an int that sorts in the same order as the float.
+	 */
+	private static int sortable(float rating)
+	{
+		int bits = Float.floatToIntBits(rating);
+		return bits ^ ((bits >> 31) & 0x7fffffff);
+	}
+
+	private Bucket bucketOf(int question)
+	{
+		return buckets[bank.categoryOf(question) * bank.valueCount() + bank.valueOf(question)];
+	}
+
+	/**
+	 * The sorted index and deal state of one category and value.
+	 */
+	private static class Bucket
+	{
+		int[] ids; // question ids from the lowest rated to the highest, or null until the bucket is first used
+		float[] ratings; // the rating of each question in ids when the index was built
+		int[] above; // the undealt position at or above each position, once followed; size is the end
+		int[] below; // one more than the undealt position below each position, once followed; 0 is the end
+		int dealt; // how many have been dealt in this pass
+	}
+}
@@ -0,0 +1,110 @@
+import java.util.SplittableRandom;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: AnswerShuffler.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * AnswerShuffler decides the order the answer choices of a question are shown in.
+ * The order is a permutation of the clue's answer indexes kept in a byte array, so a shuffle
+ * allocates nothing, and the correct answer's slot is found by its index rather than by
+ * comparing answer text, so two choices with the same text cannot be confused.
+ *
+ * <p>Each game has its own shuffler and random number generator, so games never contend
+ * for a shared Random, and a seeded shuffler shows the same orders every time.
+ * A shuffler is not thread-safe.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class AnswerShuffler
+{
+	private final SplittableRandom random;
+	private final byte[] order = new byte[QuestionSource.ANSWER_COUNT]; // the clue answer index shown in each slot
+	private int correctSlot; // the slot showing clue answer 0
+
+	/**
+	 * Creates a shuffler with its own unpredictable seed.
+	 */
+	public AnswerShuffler()
+	{
+		this(new SplittableRandom());
+	}
+
+	/**
+	 * Creates a shuffler that shows the same orders every time for the same seed.
+	 *
+	 * @param seed the seed for the shuffle
+	 */
+	public AnswerShuffler(long seed)
+	{
+		this(new SplittableRandom(seed));
+	}
+
+	private AnswerShuffler(SplittableRandom random)
+	{
+		this.random = random;
+		for (int i = 0; i < order.length; i++) {
+			order[i] = (byte) i;
+		}
+	}
+
+	/**
+	 * Shuffles the answer order with a Fisher-Yates shuffle, so every order is equally likely.
+	 */
+	public void shuffle()
+	{
+		for (int i = 0; i < order.length; i++) {
+			order[i] = (byte) i;
+		}
+		for (int i = order.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			byte swap = order[i];
+			order[i] = order[j];
+			order[j] = swap;
+		}
+		for (int slot = 0; slot < order.length; slot++) {
+			if (order[slot] == 0) {
+				correctSlot = slot;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of slots.
+	 *
+	 * @return the number of answer choices
+	 */
+	public int size()
+	{
+		return order.length;
+	}
+
+	/**
+	 * Returns which of the clue's answers is shown in a slot.
+	 *
+	 * @param slot the slot, from 0 to size() - 1
+	 * @return the index of the answer in the clue, where 0 is the correct answer
+	 */
+	public int answerAt(int slot)
+	{
+		return order[slot];
+	}
+
+	/**
+	 * Returns the slot that shows the correct answer.
+	 *
+	 * @return the correct slot
+	 */
+	public int correctSlot()
+	{
+		return correctSlot;
+	}
+}
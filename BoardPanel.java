@@ -0,0 +1,245 @@
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import javax.swing.JComponent;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: BoardPanel.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * BoardPanel draws the game board: a row of category names, then a row of cells for each
+ * point value, with a column for each category. Cells that have been answered are left blank.
+ *
+ * <p>The whole board, with every value showing, is drawn once into an image the size of the
+ * panel, at the screen's scale so text stays sharp on high resolution displays, and drawn
+ * again only when the panel's size changes. A paint copies the part of the image it needs and
+ * blanks the answered cells in it. Which cells are answered is read from the GameEngine's
+ * bitset, so the board keeps no state of its own, and when a cell is picked only that cell
+ * is repainted.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class BoardPanel extends JComponent
+{
+	private static final long serialVersionUID = 1L;
+
+	private static final Color CELL_COLOR = Color.BLUE;
+	private static final Color TEXT_COLOR = Color.WHITE;
+	private static final Color GRID_COLOR = Color.BLACK;
+	private static final int ROW_HEIGHT = 85; // the preferred height of a row
+	private static final int PADDING = 6; // the space kept between a cell's text and its edges
+
+	private final String[] categories;
+	private final String[] values;
+	private transient GameEngine engine;
+	private transient BufferedImage background; // the board with every value showing, drawn at the size and scale below
+	private int backgroundWidth;
+	private int backgroundHeight;
+	private double backgroundScaleX;
+	private double backgroundScaleY;
+
+	/**
+	 * Creates a board for the categories and point values of a question bank.
+	 *
+	 * @param bank the question bank
+	 * @param font the font of the category names and values
+	 */
+	public BoardPanel(QuestionSource bank, Font font)
+	{
+		categories = new String[bank.categoryCount()];
+		for (int category = 0; category < categories.length; category++) {
+			categories[category] = bank.categoryName(category);
+		}
+		values = new String[bank.valueCount()];
+		for (int value = 0; value < values.length; value++) {
+			values[value] = "$" + bank.pointValue(value);
+		}
+		setFont(font);
+		setOpaque(true);
+		setPreferredSize(new Dimension(categories.length * 150, (values.length + 1) * ROW_HEIGHT));
+	}
+
+	/**
+	 * Shows the cells of a game, blanking those it has answered or that have no question.
+	 *
+	 * @param engine the game being played
+	 */
+	public void setEngine(GameEngine engine)
+	{
+		this.engine = engine;
+		repaint();
+	}
+
+	/**
+	 * Repaints one cell after it was picked. Nothing else on the board is painted.
+	 *
+	 * @param category the category of the cell
+	 * @param value the value id of the cell
+	 */
+	public void cellChanged(int category, int value)
+	{
+		repaint(cellBounds(category, value + 1));
+	}
+
+	/**
+	 * Finds the category of the column at a point.
+	 *
+	 * @param point a point in the panel
+	 * @return the category, or -1 if the point is outside the board
+	 */
+	public int categoryAt(Point point)
+	{
+		if (point.x < 0 || point.x >= getWidth() || categories.length == 0) {
+			return -1;
+		}
+		return (int) ((long) point.x * categories.length / getWidth());
+	}
+
+	/**
+	 * Finds the point value of the row at a point.
+	 *
+	 * @param point a point in the panel
+	 * @return the value id, or -1 if the point is on the category names or outside the board
+	 */
+	public int valueAt(Point point)
+	{
+		if (point.y < 0 || point.y >= getHeight()) {
+			return -1;
+		}
+		return (int) ((long) point.y * (values.length + 1) / getHeight()) - 1;
+	}
+
+	/**
+	 * Copies the part of the cached board that needs painting and blanks the answered cells in it.
+	 */
+	@Override
+	protected void paintComponent(Graphics g)
+	{
+		Graphics2D g2 = (Graphics2D) g;
+		Rectangle clip = g2.getClipBounds();
+		if (clip == null) {
+			clip = new Rectangle(0, 0, getWidth(), getHeight());
+		}
+		BufferedImage image = background(g2.getDeviceConfiguration());
+		int right = clip.x + clip.width;
+		int bottom = clip.y + clip.height;
+		g2.drawImage(image, clip.x, clip.y, right, bottom, (int) Math.floor(clip.x * backgroundScaleX), (int) Math.floor(clip.y * backgroundScaleY),
+				(int) Math.ceil(right * backgroundScaleX), (int) Math.ceil(bottom * backgroundScaleY), null);
+
+		GameEngine game = engine;
+		if (game == null) {
+			return;
+		}
+		g2.setColor(CELL_COLOR);
+		int rows = values.length + 1;
+		int firstColumn = Math.max(0, clip.x * categories.length / Math.max(getWidth(), 1));
+		int firstRow = Math.max(1, clip.y * rows / Math.max(getHeight(), 1));
+		for (int category = firstColumn; category < categories.length; category++) {
+			Rectangle column = cellBounds(category, 0);
+			if (column.x >= clip.x + clip.width) {
+				break;
+			}
+			for (int row = firstRow; row < rows; row++) {
+				Rectangle cell = cellBounds(category, row);
+				if (cell.y >= clip.y + clip.height) {
+					break;
+				}
+				if (game.isAnswered(category, row - 1)) {
+					g2.fillRect(cell.x, cell.y, cell.width - 1, cell.height - 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the cached board, drawing it again if the panel's size or the screen's scale changed.
+	 */
+	private BufferedImage background(GraphicsConfiguration configuration)
+	{
+		AffineTransform transform = configuration == null ? new AffineTransform() : configuration.getDefaultTransform();
+		double scaleX = transform.getScaleX();
+		double scaleY = transform.getScaleY();
+		int width = Math.max(getWidth(), 1);
+		int height = Math.max(getHeight(), 1);
+		if (background != null && backgroundWidth == width && backgroundHeight == height
+				&& backgroundScaleX == scaleX && backgroundScaleY == scaleY) {
+			return background;
+		}
+
+		BufferedImage image = new BufferedImage((int) Math.ceil(width * scaleX), (int) Math.ceil(height * scaleY), BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		try {
+			g.scale(scaleX, scaleY);
+			g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+			g.setColor(GRID_COLOR);
+			g.fillRect(0, 0, width, height);
+			g.setFont(getFont());
+			FontMetrics metrics = g.getFontMetrics();
+			for (int category = 0; category < categories.length; category++) {
+				for (int row = 0; row <= values.length; row++) {
+					Rectangle cell = cellBounds(category, row);
+					// The grid shows through on the right and bottom edge of every cell
+					g.setColor(CELL_COLOR);
+					g.fillRect(cell.x, cell.y, cell.width - 1, cell.height - 1);
+					g.setColor(TEXT_COLOR);
+					String text = fit(row == 0 ? categories[category] : values[row - 1], metrics, cell.width - 2 * PADDING);
+					g.drawString(text, cell.x + (cell.width - 1 - metrics.stringWidth(text)) / 2,
+							cell.y + (cell.height - 1 - metrics.getHeight()) / 2 + metrics.getAscent());
+				}
+			}
+		} finally {
+			g.dispose();
+		}
+		background = image;
+		backgroundWidth = width;
+		backgroundHeight = height;
+		backgroundScaleX = scaleX;
+		backgroundScaleY = scaleY;
+		return image;
+	}
+
+	/**
+	 * Returns the bounds of a cell, where row 0 holds the category names. The columns and
+	 * rows share the panel's size between them, so the board always fills it.
+	 */
+	private Rectangle cellBounds(int category, int row)
+	{
+		int rows = values.length + 1;
+		int x = category * getWidth() / categories.length;
+		int y = row * getHeight() / rows;
+		return new Rectangle(x, y, (category + 1) * getWidth() / categories.length - x, (row + 1) * getHeight() / rows - y);
+	}
+
+	/**
+	 * Shortens text that is too wide for its cell and ends it with "...".
+	 */
+	private static String fit(String text, FontMetrics metrics, int width)
+	{
+		if (metrics.stringWidth(text) <= width) {
+			return text;
+		}
+		int length = text.length();
+		while (length > 0 && metrics.stringWidth(text.substring(0, length) + "...") > width) {
+			length--;
+		}
+		return text.substring(0, length) + "...";
+	}
+}
@@ -0,0 +1,282 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: CategoryIndex.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * CategoryIndex gives every distinct category name a small int id, in the order the names
+ * are first added. Names are found through an open-addressing hash table of ids, so a lookup
+ * hashes the name once and usually compares it with a single stored name, however many
+ * categories there are.
+ *
+ * <p>A name can be looked up as a range of characters or as UTF-8 bytes, without making a
+ * String for it. Both forms hash the name's UTF-8 bytes, so the same name gets the same id
+ * either way, and a scanner reading bytes can build the hash with {@link #mix} as it goes
+ * instead of hashing the name again afterwards. An index is not thread-safe.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class CategoryIndex
+{
+	/** The hash of an empty name, which {@link #mix} builds on. */
+	public static final int EMPTY_HASH = 0x811C9DC5;
+
+	private int[] slots = new int[16]; // id + 1 of the name in each slot, 0 for an empty slot
+	private String[] names = new String[8];
+	private byte[][] utf8 = new byte[8][];
+	private int[] hashes = new int[8];
+	private int size;
+
+	/**
+	 * Adds one UTF-8 byte to a name hash (FNV-1a).
+	 *
+	 * @param hash the hash of the bytes so far, starting from {@link #EMPTY_HASH}
+	 * @param b the next byte
+	 * @return the hash including the byte
+	 */
+	public static int mix(int hash, int b)
+	{
+		return (hash ^ (b & 0xFF)) * 0x01000193;
+	}
+
+	/**
+	 * Hashes a range of characters as the UTF-8 bytes String.getBytes would give for it.
+	 *
+	 * @param source the text holding the name
+	 * @param start the index of the first character
+	 * @param end the index one past the last character
+	 * @return the hash of the name
+	 */
+	public static int hash(CharSequence source, int start, int end)
+	{
+		int hash = EMPTY_HASH;
+		for (int i = start; i < end; i++) {
+			char c = source.charAt(i);
+			if (c < 0x80) {
+				hash = mix(hash, c);
+			} else if (c < 0x800) {
+				hash = mix(mix(hash, 0xC0 | (c >> 6)), 0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(source.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, source.charAt(++i));
+				hash = mix(hash, 0xF0 | (codePoint >> 18));
+				hash = mix(hash, 0x80 | ((codePoint >> 12) & 0x3F));
+				hash = mix(hash, 0x80 | ((codePoint >> 6) & 0x3F));
+				hash = mix(hash, 0x80 | (codePoint & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				hash = mix(hash, '?'); // String.getBytes writes a lone surrogate as '?'
+			} else {
+				hash = mix(mix(mix(hash, 0xE0 | (c >> 12)), 0x80 | ((c >> 6) & 0x3F)), 0x80 | (c & 0x3F));
+			}
+		}
+		return hash;
+	}
+
+	/**
+	 * Hashes UTF-8 bytes.
+	 *
+	 * @param name the bytes holding the name
+	 * @param length the number of bytes in the name
+	 * @return the hash of the name
+	 */
+	public static int hash(byte[] name, int length)
+	{
+		int hash = EMPTY_HASH;
+		for (int i = 0; i < length; i++) {
+			hash = mix(hash, name[i]);
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns the id of a name, adding it if it is new.
+	 *
+	 * @param source the text holding the name
+	 * @param start the index of the first character of the name
+	 * @param end the index one past the last character of the name
+	 * @return the category id
+	 */
+	public int add(CharSequence source, int start, int end)
+	{
+		int hash = hash(source, start, end);
+		int slot = find(hash, source, start, end);
+		if (slots[slot] != 0) {
+			return slots[slot] - 1;
+		}
+		String name = source.subSequence(start, end).toString();
+		return insert(slot, hash, name, name.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the id of a name.
+	 *
+	 * @param name the category name
+	 * @return the category id
+	 */
+	public int add(String name)
+	{
+		return add(name, 0, name.length());
+	}
+
+	/**
+	 * Returns the id of a name given as UTF-8 bytes, adding it if it is new.
+	 *
+	 * @param hash the hash of the name from {@link #hash(byte[], int)} or {@link #mix}
+	 * @param name the bytes holding the name
+	 * @param length the number of bytes in the name
+	 * @return the category id
+	 */
+	public int add(int hash, byte[] name, int length)
+	{
+		int slot = find(hash, name, length);
+		if (slots[slot] != 0) {
+			return slots[slot] - 1;
+		}
+		byte[] bytes = Arrays.copyOf(name, length);
+		return insert(slot, hash, new String(bytes, StandardCharsets.UTF_8), bytes);
+	}
+
+	/**
+	 * Returns the id of a name without adding it.
+	 *
+	 * @param name the category name
+	 * @return the category id, or -1 if the name has not been added
+	 */
+	public int idOf(String name)
+	{
+		return slots[find(hash(name, 0, name.length()), name, 0, name.length())] - 1;
+	}
+
+	/**
+	 * Returns the name of a category.
+	 *
+	 * @param id the category id
+	 * @return the category name
+	 */
+	public String name(int id)
+	{
+		if (id < 0 || id >= size) {
+			throw new IndexOutOfBoundsException("No category " + id);
+		}
+		return names[id];
+	}
+
+	/**
+	 * Returns the number of names added.
+	 *
+	 * @return the number of categories
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns every name, indexed by id.
+	 *
+	 * @return a new array of the category names
+	 */
+	public String[] toArray()
+	{
+		return Arrays.copyOf(names, size);
+	}
+
+	/**
+	 * Finds the slot holding a name given as characters, or the empty slot where it belongs.
+	 */
+	private int find(int hash, CharSequence source, int start, int end)
+	{
+		int mask = slots.length - 1;
+		for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+			int id = slots[slot] - 1;
+			if (id < 0 || hashes[id] == hash && regionEquals(names[id], source, start, end)) {
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * Finds the slot holding a name given as UTF-8 bytes, or the empty slot where it belongs.
+	 */
+	private int find(int hash, byte[] name, int length)
+	{
+		int mask = slots.length - 1;
+		for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+			int id = slots[slot] - 1;
+			if (id < 0 || hashes[id] == hash && Arrays.equals(utf8[id], 0, utf8[id].length, name, 0, length)) {
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * Stores a new name in an empty slot, growing the table to keep it at most half full.
+	 */
+	private int insert(int slot, int hash, String name, byte[] bytes)
+	{
+		if (size == names.length) {
+			names = Arrays.copyOf(names, size * 2);
+			utf8 = Arrays.copyOf(utf8, size * 2);
+			hashes = Arrays.copyOf(hashes, size * 2);
+		}
+		int id = size++;
+		names[id] = name;
+		utf8[id] = bytes;
+		hashes[id] = hash;
+		slots[slot] = id + 1;
+		if (size * 2 > slots.length) {
+			rehash(slots.length * 2);
+		}
+		return id;
+	}
+
+	/**
+	 * Rebuilds the table at a new size from the stored hashes, without hashing any name again.
+	 */
+	private void rehash(int capacity)
+	{
+		slots = new int[capacity];
+		int mask = capacity - 1;
+		for (int id = 0; id < size; id++) {
+			int slot = spread(hashes[id]) & mask;
+			while (slots[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = id + 1;
+		}
+	}
+
+	/**
+	 * Mixes the high bits of a hash into the low bits the table uses.
+	 */
+	private static int spread(int hash)
+	{
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Checks whether a string equals a range of characters without copying the range.
+	 */
+	private static boolean regionEquals(String string, CharSequence source, int start, int end)
+	{
+		int length = end - start;
+		if (string.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (string.charAt(i) != source.charAt(start + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * ---------------------------------------------------------------------------
+ * File name: Clue.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Clue is a read-only view of one question in a question bank.
+ * A QuestionHandler keeps a single Clue and points it at each question it draws, so
+ * drawing a question does not copy the question and its answers into a new array.
+ * A Clue therefore only describes the most recent draw; copy what you need to keep.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class Clue
+{
+	private QuestionSource bank; // the bank the question belongs to
+	private int id = -1; // the id of the question in the bank
+
+	/**
+	 * Points this view at a question.
+	 *
+	 * @param bank the bank holding the question
+	 * @param id the question id
+	 */
+	void bind(QuestionSource bank, int id)
+	{
+		this.bank = bank;
+		this.id = id;
+	}
+
+	/**
+	 * Returns the id of the question in its bank.
+	 *
+	 * @return the question id
+	 */
+	public int id()
+	{
+		return id;
+	}
+
+	/**
+	 * Returns the question text.
+	 *
+	 * @return the question
+	 */
+	public String question()
+	{
+		return bank.questionText(id);
+	}
+
+	/**
+	 * Returns the number of answer choices.
+	 *
+	 * @return the number of answers
+	 */
+	public int answerCount()
+	{
+		return QuestionSource.ANSWER_COUNT;
+	}
+
+	/**
+	 * Returns an answer with its prefix, for example "What is 1995".
+	 * Answer 0 is always the correct one.
+	 *
+	 * @param answer the answer index, from 0 to answerCount() - 1
+	 * @return the prefixed answer
+	 */
+	public String answer(int answer)
+	{
+		return bank.answer(id, answer);
+	}
+
+	/**
+	 * Returns the category id of the question.
+	 *
+	 * @return the category id
+	 */
+	public int category()
+	{
+		return bank.categoryOf(id);
+	}
+
+	/**
+	 * Returns the value id of the question.
+	 *
+	 * @return the value id
+	 */
+	public int value()
+	{
+		return bank.valueOf(id);
+	}
+
+	/**
+	 * Returns how many points the question is worth.
+	 *
+	 * @return the point value
+	 */
+	public int pointValue()
+	{
+		return bank.pointValue(bank.valueOf(id));
+	}
+}
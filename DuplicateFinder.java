@@ -0,0 +1,383 @@
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: DuplicateFinder.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * DuplicateFinder finds questions whose text is nearly the same as another question's, and
+ * questions whose text repeats itself, as happens when a line is pasted twice.
+ *
+ * <p>Each question's text is lower-cased, cut down to letters, digits and single spaces, and
+ * split into overlapping five character shingles. Two questions are as similar as the share
+ * of their shingles they have in common (their Jaccard similarity), which is estimated with
+ * MinHash: each question is given a signature of HASHES values, and the share of equal values
+ * in two signatures estimates their similarity. Rather than hash every shingle HASHES times,
+ * each shingle is hashed once, the top bits of the hash pick one of HASHES bins and the
+ * signature keeps the smallest hash in each bin (one permutation hashing). A bin no shingle
+ * fell in borrows the value of the next bin that has one, shifted by how far away it is, so
+ * short texts still get a full signature. Only the low 16 bits of each value are kept, which
+ * makes a signature 64 bytes and hardly changes the estimate.
+ *
+ * <p>Comparing every pair of questions would take too long for a large bank, so the
+ * signatures are cut into BANDS bands and only questions that agree on a whole band are
+ * compared (locality-sensitive hashing). For each band the questions are sorted by a hash of
+ * the band, so questions that agree on it sit next to each other. Questions at least about
+ * 60% similar agree on some band more often than not, and at 80% they almost always do.
+ * Each question is compared with the one before it in every run, and questions similar
+ * enough are joined into a group, so a family of near copies is reported once as a group
+ * instead of as every pair in it, and the work stays linear however large the family.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class DuplicateFinder
+{
+	/** The smallest estimated similarity reported by default. */
+	public static final double DEFAULT_SIMILARITY = 0.8;
+
+	/** The number of hash functions in a signature. */
+	public static final int HASHES = 32;
+
+	/** The number of bands the signatures are cut into. */
+	public static final int BANDS = 8;
+
+	private static final int ROWS = HASHES / BANDS; // the values in each band
+	private static final int SHINGLE = 5; // the characters in a shingle
+	private static final int REPEAT_LENGTH = 20; // how much of the start of a text must appear again for it to repeat itself
+	private static final long SEED = 0x5DEECE66DL;
+	private static final int EMPTY = Integer.MAX_VALUE; // a bin no shingle fell in
+	private static final int BORROWED = 0x9E3779B9; // added to a borrowed value for each bin it is moved
+
+	/**
+	 * Class with only static methods, so it is never created.
+	 */
+	private DuplicateFinder()
+	{
+	}
+
+	/**
+	 * Finds the near duplicate and self-repeating questions of a bank.
+	 *
+	 * @param bank the question bank
+	 * @param similarity the smallest estimated similarity to report, from 0 to 1
+	 * @return the groups of similar questions, largest first, and the questions that repeat themselves
+	 */
+	public static Report find(QuestionSource bank, double similarity)
+	{
+		int size = bank.size();
+
+		// A signature of HASHES 16-bit minimums for each question
+		short[] signatures = new short[size * HASHES];
+		int[] minimums = new int[HASHES];
+		List<Integer> repeats = new ArrayList<>();
+		for (int id = 0; id < size; id++) {
+			String text = normalize(bank.questionText(id));
+			if (repeatsItself(text)) {
+				repeats.add(id);
+			}
+			sign(text, minimums);
+			for (int i = 0; i < HASHES; i++) {
+				signatures[id * HASHES + i] = (short) minimums[i];
+			}
+		}
+
+		// Questions that agree on a band end up side by side when sorted by a hash of it,
+		// with the question id in the low bits
+		int idBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(size - 1, 1)));
+		long[] keys = new long[size];
+		long mask = (1L << idBits) - 1;
+		int[] parent = new int[size]; // a tree of each group's questions, with the group's first question at its root
+		float[] weakest = new float[size]; // the lowest similarity that joined a root's group
+		for (int id = 0; id < size; id++) {
+			parent[id] = id;
+			weakest[id] = 1;
+		}
+		for (int band = 0; band < BANDS; band++) {
+			for (int id = 0; id < size; id++) {
+				long packed = 0;
+				for (int row = 0; row < ROWS; row++) {
+					packed = packed << 16 | (signatures[id * HASHES + band * ROWS + row] & 0xffff);
+				}
+				keys[id] = mix(packed + band) >>> idBits << idBits | id;
+			}
+			Arrays.sort(keys);
+			for (int end = 0; end < size; ) {
+				int start = end;
+				long run = keys[start] >>> idBits;
+				while (end < size && keys[end] >>> idBits == run) {
+					end++;
+				}
+				for (int i = start + 1; i < end; i++) {
+					int a = find(parent, (int) (keys[i - 1] & mask));
+					int b = find(parent, (int) (keys[i] & mask));
+					double estimate = estimate(signatures, (int) (keys[i - 1] & mask), (int) (keys[i] & mask));
+					if (a != b && estimate >= similarity) {
+						int root = Math.min(a, b);
+						parent[Math.max(a, b)] = root;
+						weakest[root] = (float) Math.min(estimate, Math.min(weakest[a], weakest[b]));
+					}
+				}
+			}
+		}
+
+		// Collect each group's questions, in question id order
+		int[] groupSize = new int[size];
+		for (int id = 0; id < size; id++) {
+			groupSize[find(parent, id)]++;
+		}
+		int[][] members = new int[size][];
+		int[] filled = new int[size];
+		List<Group> groups = new ArrayList<>();
+		for (int id = 0; id < size; id++) {
+			int root = find(parent, id);
+			if (groupSize[root] < 2) {
+				continue;
+			}
+			if (members[root] == null) {
+				members[root] = new int[groupSize[root]];
+				groups.add(new Group(members[root], weakest[root]));
+			}
+			members[root][filled[root]++] = id;
+		}
+		groups.sort((x, y) -> x.questions.length != y.questions.length ? Integer.compare(y.questions.length, x.questions.length)
+				: Integer.compare(x.questions[0], y.questions[0]));
+		return new Report(groups, repeats);
+	}
+
+	/**
+	 * Fills in the MinHash signature of a normalized text.
+	 */
+	private static void sign(String text, int[] minimums)
+	{
+		Arrays.fill(minimums, EMPTY);
+		int shingles = Math.max(1, text.length() - SHINGLE + 1);
+		for (int start = 0; start < shingles; start++) {
+			long shingle = SEED;
+			for (int i = start; i < start + SHINGLE && i < text.length(); i++) {
+				shingle = shingle * 31 + text.charAt(i);
+			}
+			long hash = mix(shingle);
+			int bin = (int) ((hash >>> 32) * HASHES >>> 32);
+			int value = (int) hash >>> 1;
+			if (value < minimums[bin]) {
+				minimums[bin] = value;
+			}
+		}
+
+		// Empty bins borrow from the next full one, going backwards from a full bin so each
+		// borrows from a bin that is already filled; there is always one, as there is a shingle
+		int full = 0;
+		while (minimums[full] == EMPTY) {
+			full++;
+		}
+		for (int step = 1; step < HASHES; step++) {
+			int i = (full - step + HASHES) % HASHES;
+			if (minimums[i] == EMPTY) {
+				minimums[i] = minimums[(i + 1) % HASHES] + BORROWED;
+			}
+		}
+	}
+
+	/**
+	 * Returns the root of a question's group, halving the path on the way.
+	 */
+	private static int find(int[] parent, int id)
+	{
+		while (parent[id] != id) {
+			parent[id] = parent[parent[id]];
+			id = parent[id];
+		}
+		return id;
+	}
+
+	/**
+	 * Cuts text down to lower-case letters, digits and single spaces.
+	 *
+	 * @param text the text
+	 * @return the normalized text
+	 */
+	static String normalize(String text)
+	{
+		StringBuilder normalized = new StringBuilder(text.length());
+		boolean space = true;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				normalized.append(Character.toLowerCase(c));
+				space = false;
+			} else if (!space) {
+				normalized.append(' ');
+				space = true;
+			}
+		}
+		int length = normalized.length();
+		if (length > 0 && normalized.charAt(length - 1) == ' ') {
+			normalized.setLength(length - 1);
+		}
+		return normalized.toString();
+	}
+
+	/**
+	 * Checks whether the start of a normalized text appears again later in it.
+	 */
+	static boolean repeatsItself(String text)
+	{
+		return text.length() >= 2 * REPEAT_LENGTH && text.indexOf(text.substring(0, REPEAT_LENGTH), REPEAT_LENGTH) >= 0;
+	}
+
+	/**
+	 * Returns the share of two questions' signature values that are equal.
+	 */
+	private static double estimate(short[] signatures, int a, int b)
+	{
+		int equal = 0;
+		for (int i = 0; i < HASHES; i++) {
+			if (signatures[a * HASHES + i] == signatures[b * HASHES + i]) {
+				equal++;
+			}
+		}
+		return (double) equal / HASHES;
+	}
+
+	/**
+	 * Spreads the bits of a value over the whole long (the finalizer of SplitMix64).
+	 */
+	private static long mix(long value)
+	{
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+
+	/**
+	 * Group is a set of questions whose text is nearly the same.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Group
+	{
+		private final int[] questions;
+		private final double similarity;
+
+		private Group(int[] questions, double similarity)
+		{
+			this.questions = questions;
+			this.similarity = similarity;
+		}
+
+		/**
+		 * Returns the questions of the group.
+		 *
+		 * @return the question ids, ascending
+		 */
+		public int[] getQuestions()
+		{
+			return questions.clone();
+		}
+
+		/**
+		 * Returns the lowest estimated similarity between two questions that joined the group.
+		 * Every question is at least this similar to another question in the group.
+		 *
+		 * @return the similarity, from 0 to 1
+		 */
+		public double getSimilarity()
+		{
+			return similarity;
+		}
+	}
+
+	/**
+	 * Report holds what DuplicateFinder found in a bank.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Report
+	{
+		private final List<Group> groups;
+		private final List<Integer> repeats;
+
+		private Report(List<Group> groups, List<Integer> repeats)
+		{
+			this.groups = Collections.unmodifiableList(groups);
+			this.repeats = Collections.unmodifiableList(repeats);
+		}
+
+		/**
+		 * Returns the groups of near duplicate questions, largest first.
+		 *
+		 * @return the groups
+		 */
+		public List<Group> getGroups()
+		{
+			return groups;
+		}
+
+		/**
+		 * Returns the questions whose text repeats itself.
+		 *
+		 * @return the question ids, ascending
+		 */
+		public List<Integer> getRepeats()
+		{
+			return repeats;
+		}
+
+		/**
+		 * Prints the report, with the text of each question, up to a limit so a huge bank
+		 * does not flood the console.
+		 *
+		 * @param out where to print it
+		 * @param bank the bank the report is about
+		 * @param limit the most groups, and questions of each group, to print
+		 */
+		public void print(PrintStream out, QuestionSource bank, int limit)
+		{
+			out.printf("%,d groups of near duplicates, %,d questions that repeat their own text%n", groups.size(), repeats.size());
+			for (int g = 0; g < groups.size() && g < limit; g++) {
+				Group group = groups.get(g);
+				out.printf("%,d questions at least %.0f%% similar:%n", group.questions.length, group.similarity * 100);
+				for (int i = 0; i < group.questions.length && i < limit; i++) {
+					printQuestion(out, bank, group.questions[i]);
+				}
+				if (group.questions.length > limit) {
+					out.printf("  ... and %,d more%n", group.questions.length - limit);
+				}
+			}
+			if (groups.size() > limit) {
+				out.printf("... and %,d more groups%n", groups.size() - limit);
+			}
+			if (!repeats.isEmpty()) {
+				out.println("Repeats its own text:");
+				for (int i = 0; i < repeats.size() && i < limit; i++) {
+					printQuestion(out, bank, repeats.get(i));
+				}
+				if (repeats.size() > limit) {
+					out.printf("  ... and %,d more%n", repeats.size() - limit);
+				}
+			}
+		}
+
+		private static void printQuestion(PrintStream out, QuestionSource bank, int id)
+		{
+			out.printf("  %6d  %s $%d: %s%n", id, bank.categoryName(bank.categoryOf(id)),
+					bank.pointValue(bank.valueOf(id)), bank.questionText(id));
+		}
+	}
+}
@@ -1,8 +1,9 @@
-import java.io.File;
+import java.io.BufferedReader;
 import javax.swing.JOptionPane;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 /**
@@ -16,17 +17,35 @@ import java.nio.file.Path;
  */
 
 /**
- * FileManager class is responsible for reading the question and high score files
+ * FileManager class is responsible for reading the question file and naming the high score files
  */
 public class FileManager
 {
 	// Declare class variables
-	private String questionFileContents;
-	private String highScoreFileContents;
+	static final Path QUESTIONS_FILE = Path.of("Questions.txt");
+	static final Path COMPILED_QUESTIONS_FILE = Path.of("Questions.jqb");
+	// Questions files are always UTF-8, whatever the platform's default charset is
+	static final Charset QUESTIONS_CHARSET = StandardCharsets.UTF_8;
+	// The spreadsheet the questions are written in, read when Questions.txt is missing
+	static final Path QUESTIONS_WORKBOOK = Path.of("QuestionBank.xlsx");
+	// When this directory exists, its question packs are loaded in parallel instead of Questions.txt
+	static final Path QUESTION_PACKS = Path.of("QuestionPacks");
+	static final Path HIGH_SCORE_FILE = Path.of("HighScore.txt");
+	static final Path HIGH_SCORE_LOG = Path.of("HighScore.log");
+	// Where GameJournal records every pick and answer
+	static final Path JOURNAL_DIRECTORY = Path.of("journal");
+	// Where QuestionAnalytics saves its statistics for each question
+	static final Path QUESTION_STATS_FILE = Path.of("QuestionStats.csv");
+	// The standard board order; any other categories and values in a file are added after these
+	private static final String[] CATEGORY_NAMES = {"Math", "Computer History", "Food", "Animals", "U.S. History", "Sports"};
+	private static final int[] POINT_VALUES = {200, 400, 600, 800, 1000};
+	// Questions files larger than this are read lazily instead of being loaded onto the heap
+	private static final long PAGED_THRESHOLD = 256L << 20;
 	
 	/**
-	 * Constructor that reads the questions and high scores files and stores their contents
-	 * in instance variables.
+	 * Constructor for a FileManager.
+	 * The questions file is streamed when the questions are requested, so it is never held in memory whole,
+	 * and the high scores are kept by the shared Leaderboard.
 	 * 
 	 * <hr>
 	 * Date created: Apr 16, 2023
@@ -34,212 +53,449 @@ public class FileManager
 	 */
 	public FileManager()
 	{
-		// Call the methods to read the question and high score files
-		readQuestionsFile();
-		readHighScoreFile();
 	}
-	
+
+	/**
+	 * Reads the point value that occupies the given range of a line.
+	 * The digits are read directly from the line instead of parsing a substring.
+	 *
+	 * <hr>
+	 * Date created: May 9, 2023
+	 * <hr>
+	 * @param line The line containing the point value
+	 * @param start The index of the first digit of the point value
+	 * @param end The index one past the last digit of the point value
+	 * @return The point value, or -1 if the range is not a plain positive number.
+	 */
+	private static int parsePointValue(String line, int start, int end)
+	{
+	    // Accumulate the digits, giving up on anything that is not a plain number
+	    if (start >= end) {
+	        return -1;
+	    }
+	    int value = 0;
+	    for (int i = start; i < end; i++) {
+	        char c = line.charAt(i);
+	        if (c < '0' || c > '9' || value > 100000) {
+	            return -1;
+	        }
+	        value = value * 10 + (c - '0');
+	    }
+	    return value;
+	}
+
 	/**
-	 * Method to read the questions file
+	 * Reads questions from a file and returns them as a 4D array.
+	 * The first two dimensions of the array represent the category and difficulty level of the question.
+	 * The third dimension represents the index of the question within the category and difficulty level.
+	 * The fourth dimension contains the question and its possible answers.
+	 *
+	 * <hr>
+	 * Date created: May 9, 2023
+	 * <hr>
 	 * 
-	 *  <hr>
-	 * Date created: Apr 16, 2023
+	 * @return a 4D array of questions
+	 */
+	public String[][][][] getQuestionsFromFile() {
+	    return getQuestionBank().toArray();
+	}
+
+	/**
+	 * Loads the question bank. When a QuestionPacks directory exists, all of its packs are
+	 * parsed in parallel and merged. Otherwise a compiled Questions.jqb is memory-mapped when it
+	 * was compiled from the current Questions.txt, or the text file is streamed line by line into
+	 * a compact QuestionBank, or indexed and read lazily when it is too large for the heap.
+	 * Without a Questions.txt, the questions are imported from QuestionBank.xlsx.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
 	 * <hr>
+	 * 
+	 * @return the question bank, which is empty if the questions could not be read
 	 */
-	private void readQuestionsFile()
+	public QuestionSource getQuestionBank()
 	{
-		try {
-			// Use the Files class to read the contents of the questions file
-			String read = Files.readString(Path.of("Questions.txt"));
-			// Store the contents of the file in the questionFileContents variable
-			questionFileContents = read;
-			
-		} catch (IOException e) {
-			// Print the error message to the console
-			System.out.println(e);
-			// Show an error message dialog to the user
-			JOptionPane.showMessageDialog(null, "Unable to Locate the Questions", "Error", JOptionPane.ERROR_MESSAGE);
-		}
+	    return readQuestionBank();
 	}
-	
+
 	/**
-	 * This method reads the contents of the HighScore.txt file and stores them in the highScoreFileContents field.
-	 * If there is an error while reading the file, an error message is displayed using JOptionPane.
+	 * Loads the question bank from disk without going through an instance.
+	 * Games should use {@link QuestionBankCache#get()}, which loads the bank only once.
 	 *
 	 * <hr>
-	 * Date created: Apr 16, 2023
+	 * Date created: Oct 18, 2026
 	 * <hr>
+	 * 
+	 * @return the question bank, which is empty if the questions could not be read
 	 */
-	private void readHighScoreFile()
+	static QuestionSource readQuestionBank()
 	{
 	    try {
-	        // read contents of HighScore.txt file and assign it to highScoreFileContents
-	        String read = Files.readString(Path.of("HighScore.txt"));
-	        highScoreFileContents = read;
-	        
+	        return loadQuestionBank();
 	    } catch (IOException e) {
-	        // if there's an exception, print the error message to console and show an error message dialog
+	        // Print the error message to the console
 	        System.out.println(e);
-	        JOptionPane.showMessageDialog(null, "Unable to Locate the High Scores", "Error", JOptionPane.ERROR_MESSAGE);
+	        // Show an error message dialog to the user and fall back to an empty board
+	        JOptionPane.showMessageDialog(null, "Unable to Locate the Questions", "Error", JOptionPane.ERROR_MESSAGE);
+	        return newBankBuilder().build();
 	    }
 	}
 
 	/**
-	 * This method takes a category name as a String and returns the index of that category in the categories array.
+	 * Loads the question bank from disk the same way as {@link #readQuestionBank()}, but fails
+	 * instead of falling back to an empty board, so a reload can keep the bank it already has.
 	 *
 	 * <hr>
-	 * Date created: Apr 16, 2023
+	 * Date created: Oct 18, 2026
 	 * <hr>
 	 * 
-	 * @param category The category name to find the index of
-	 * @return The index of the category in the categories array, or -1 if the category is not found
+	 * @return the question bank
+	 * @throws IOException if the questions could not be read
 	 */
-	private int getCategoryIndex(String category) //{"Math","Computer History","Food","Animals","U.S.History","Sports"}
+	static QuestionSource loadQuestionBank() throws IOException
 	{
-	    switch (category) {
-	        // assign category indexes based on the category name
-	        case "Math": return 0;
-	        case "Computer History": return 1;
-	        case "Food": return 2;
-	        case "Animals": return 3;
-	        case "U.S. History": return 4;
-	        case "Sports": return 5;
-	        default: return -1; // return -1 if category is not found
+	    long start = Metrics.start();
+	    try {
+	        return loadQuestionSource();
+	    } finally {
+	        Metrics.BANK_LOAD.stop(start);
 	    }
 	}
 
 	/**
-	 * Returns the index of the value in the list of point values.
+	 * Loads the question bank for {@link #loadQuestionBank()}, from the first source that is there.
+	 */
+	private static QuestionSource loadQuestionSource() throws IOException
+	{
+	    if (Files.isDirectory(QUESTION_PACKS)) {
+	        try {
+	            QuestionPackLoader.Result packs = QuestionPackLoader.load(QUESTION_PACKS.toString());
+	            packs.print(System.out);
+	            return packs.getBank();
+	        } catch (IOException e) {
+	            // Packs that cannot be read are not fatal, Questions.txt is read instead
+	            System.out.println(e);
+	        }
+	    }
+
+	    // The spreadsheet is only needed when nobody has exported it to text
+	    Path source = !Files.exists(QUESTIONS_FILE) && Files.exists(QUESTIONS_WORKBOOK) ? QUESTIONS_WORKBOOK : QUESTIONS_FILE;
+	    try {
+	        // Prefer the compiled bank, which opens in constant time, if it was compiled from that file
+	        QuestionSource compiled = QuestionBankFile.openIfFresh(COMPILED_QUESTIONS_FILE, source);
+	        if (compiled != null) {
+	            return compiled;
+	        }
+	    } catch (IOException e) {
+	        // A damaged compiled bank is not fatal, the text file is read instead
+	        System.out.println(e);
+	    }
+
+	    if (source == QUESTIONS_WORKBOOK) {
+	        return importWorkbook(QUESTIONS_WORKBOOK);
+	    }
+	    // A very large file is indexed and its questions are read only when they are dealt
+	    if (Files.size(QUESTIONS_FILE) > PAGED_THRESHOLD) {
+	        return openPagedQuestionBank(QUESTIONS_FILE);
+	    }
+	    ParseErrors errors = new ParseErrors();
+	    QuestionBank bank;
+	    try (BufferedReader reader = openQuestionsFile(QUESTIONS_FILE)) {
+	        bank = parseQuestionBank(reader, errors);
+	    }
+	    if (!errors.isEmpty()) {
+	        errors.print(System.out, QUESTIONS_FILE);
+	    }
+	    return bank;
+	}
+
+	/**
+	 * Opens a questions file for reading as UTF-8. Bytes that are not valid UTF-8 are read as
+	 * replacement characters instead of failing the whole file.
 	 *
 	 * <hr>
-	 * Date created: May 9, 2023
+	 * Date created: Oct 18, 2026
 	 * <hr>
-	 * @param value The point value of a question.
-	 * @return The index of the point value in the list of point values, or -1 if not found.
+	 * 
+	 * @param file the questions file
+	 * @return a reader for the file
+	 * @throws IOException if the file cannot be opened
 	 */
-	private int getValueIndex (String value)
+	public static BufferedReader openQuestionsFile(Path file) throws IOException
 	{
-	    // Use a switch statement to map the value to an index in the list of point values
-	    switch(value)
-	    {
-	        case "200": return 0;
-	        case "400": return 1;
-	        case "600": return 2;
-	        case "800": return 3;
-	        case "1000": return 4;
-	        default : return -1; // Return -1 if the value is not found in the list of point values
+	    return new BufferedReader(new InputStreamReader(Files.newInputStream(file), QUESTIONS_CHARSET), 1 << 16);
+	}
+
+	/**
+	 * Parses questions from a reader in a single pass. Each line is split on "%" by hand and
+	 * goes straight into the bank, so no per-line arrays or substrings are created.
+	 * Lines that are not questions are skipped without being reported.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 * 
+	 * @param reader the reader to take the question lines from
+	 * @return the question bank
+	 * @throws IOException if the reader fails
+	 */
+	public static QuestionBank parseQuestionBank(BufferedReader reader) throws IOException
+	{
+	    return parseQuestionBank(reader, null);
+	}
+
+	/**
+	 * Parses questions from a reader in a single pass, collecting every problem with its line
+	 * number. A bad line is skipped rather than stopping the parse.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 * 
+	 * @param reader the reader to take the question lines from
+	 * @param errors where to collect the problems, or null to skip bad lines silently
+	 * @return the question bank
+	 * @throws IOException if the reader fails
+	 */
+	public static QuestionBank parseQuestionBank(BufferedReader reader, ParseErrors errors) throws IOException
+	{
+	    QuestionBank.Builder builder = newBankBuilder();
+	    String line;
+	    int lineNumber = 0;
+	    while ((line = reader.readLine()) != null) {
+	        addLine(builder, line, ++lineNumber, errors);
 	    }
+	    return builder.build();
 	}
 
 	/**
-	 * Reads questions from a file and returns them as a 4D array.
-	 * The first two dimensions of the array represent the category and difficulty level of the question.
-	 * The third dimension represents the index of the question within the category and difficulty level.
-	 * The fourth dimension contains the question and its possible answers.
+	 * Indexes a questions file and opens it for lazy reading, so only the questions that are
+	 * dealt are ever decoded. The heap use stays at a few MB however large the file is.
 	 *
 	 * <hr>
-	 * Date created: May 9, 2023
+	 * Date created: Oct 18, 2026
 	 * <hr>
 	 * 
-	 * @return a 4D array of questions
+	 * @param file the questions file
+	 * @return the paged question bank, with the standard board layout
+	 * @throws IOException if the file cannot be indexed
 	 */
-	public String[][][][] getQuestionsFromFile() {
+	public static PagedQuestionBank openPagedQuestionBank(Path file) throws IOException
+	{
+	    return PagedQuestionBank.open(file, CATEGORY_NAMES, POINT_VALUES, PagedQuestionBank.DEFAULT_CACHE_SIZE);
+	}
 
-	    // Split the raw data into lines
-	    String[] lines = questionFileContents.split("\\r?\\n");
-
-	    // Initialize the 4-dimensional array with known sizes for the first two dimensions
-	    // The first dimension represents the category (e.g., history, science, etc.)
-	    // The second dimension represents the difficulty level (e.g., 200, 400, 600, 800, or 1000)
-	    // The third dimension represents the question index for the given category and difficulty level
-	    // The fourth dimension represents the component of the question, where index 0 is the question itself
-	    // and indices 1 through 4 are the four possible answer choices
-	    String[][][][] myArray = new String[6][5][10][5];
-
-	    // Keep track of the current question index for each category and difficulty level
-	    int[][] currentIndex = new int[6][5];
-
-	    // Process each line of the data
-	    for (String line : lines) {
-	        // Split the line into its components
-	        String[] parts = line.split("%");
-
-	        // Extract the category, value, question, and answers from the line
-	        String category = parts[0];
-	        String value = parts[1];
-	        String question = parts[2];
-	        String[] answers = Arrays.copyOfRange(parts, 4, parts.length);
-
-	        // Check if we need to expand the array for this category and difficulty level
-	        // If the current index is greater than or equal to the length of the array, we need to expand it
-	        if (currentIndex[getCategoryIndex(category)][getValueIndex(value)] >= myArray[getCategoryIndex(category)][getValueIndex(value)].length) {
-	            myArray[getCategoryIndex(category)][getValueIndex(value)] = Arrays.copyOf(myArray[getCategoryIndex(category)][getValueIndex(value)], myArray[getCategoryIndex(category)][getValueIndex(value)].length * 2);
-	        }
+	/**
+	 * Imports the questions on the first sheet of an Excel workbook. The sheet is streamed, so
+	 * large workbooks import without building the whole document in memory.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 * 
+	 * @param workbook the .xlsx file, laid out like QuestionBank.xlsx
+	 * @return the question bank, with the standard board layout
+	 * @throws IOException if the workbook cannot be read
+	 */
+	public static QuestionBank importWorkbook(Path workbook) throws IOException
+	{
+	    QuestionBank.Builder builder = newBankBuilder();
+	    new XlsxQuestionImporter(builder, CATEGORY_NAMES).read(workbook);
+	    return builder.build();
+	}
+
+	/**
+	 * Creates a bank builder that already knows the standard board, so the standard
+	 * categories and values keep the board positions the game has always used.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 * 
+	 * @return a new question bank builder
+	 */
+	static QuestionBank.Builder newBankBuilder()
+	{
+	    QuestionBank.Builder builder = new QuestionBank.Builder();
+	    for (String category : CATEGORY_NAMES) {
+	        builder.categoryId(category);
+	    }
+	    for (int value : POINT_VALUES) {
+	        builder.valueId(value);
+	    }
+	    return builder;
+	}
 
-	        // Add the question and answers to the array
-	        // The question is added to the 0th index of the 4th dimension
-	        // The answers are added to indices 1-4 of the 4th dimension
-	        myArray[getCategoryIndex(category)][getValueIndex(value)][currentIndex[getCategoryIndex(category)][getValueIndex(value)]][0] = question;
-	        for (int i = 0; i < answers.length; i++) {
-	            myArray[getCategoryIndex(category)][getValueIndex(value)][currentIndex[getCategoryIndex(category)][getValueIndex(value)]][i+1] = parts[3]+" "+answers[i];
+	/**
+	 * Tokenizes a single line of the form category%value%question%prefix%answer1%answer2%answer3%answer4
+	 * and adds it to the bank. Lines without enough fields or without a numeric value are skipped.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 * 
+	 * @param builder the bank being built
+	 * @param line the line to add
+	 * @return true if the line was added
+	 */
+	static boolean addLine(QuestionBank.Builder builder, String line)
+	{
+	    return addLine(builder, line, 0, null);
+	}
+
+	/**
+	 * Tokenizes a single line and adds it to the bank, reporting what is wrong with it.
+	 * Blank lines are skipped without a report. A line with fewer than five fields or a point
+	 * value that is not a whole number is skipped; missing answers are left blank and extra
+	 * fields are ignored, with a warning.
+	 *
+	 * <p>Almost every line is plain text and is added straight from the line. Only a line with
+	 * a quote mark or a replacement character takes the slower path through
+	 * {@link #cleanField}, which removes the quotes around a field and turns the replacement
+	 * characters left by a badly converted file back into quote marks.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 * 
+	 * @param builder the bank being built
+	 * @param line the line to add
+	 * @param lineNumber the number of the line, for error messages
+	 * @param errors where to collect the problems, or null to skip bad lines silently
+	 * @return true if the line was added
+	 */
+	static boolean addLine(QuestionBank.Builder builder, String line, int lineNumber, ParseErrors errors)
+	{
+	    // Find the delimiters that end the category, value, question and prefix fields
+	    int categoryEnd = line.indexOf('%');
+	    int valueEnd = categoryEnd < 0 ? -1 : line.indexOf('%', categoryEnd + 1);
+	    int questionEnd = valueEnd < 0 ? -1 : line.indexOf('%', valueEnd + 1);
+	    int prefixEnd = questionEnd < 0 ? -1 : line.indexOf('%', questionEnd + 1);
+	    if (prefixEnd < 0) {
+	        if (errors != null && !line.isBlank()) {
+	            int fields = categoryEnd < 0 ? 1 : valueEnd < 0 ? 2 : questionEnd < 0 ? 3 : 4;
+	            errors.skip(lineNumber, "expected " + (QuestionSource.ANSWER_COUNT + 4)
+	                    + " fields separated by %, but found " + fields);
 	        }
+	        return false;
+	    }
 
-	        // Increment the current index for this category and difficulty level
-	        currentIndex[getCategoryIndex(category)][getValueIndex(value)]++;
+	    // Look up the category and value only once for the whole line
+	    int pointValue = parsePointValue(line, categoryEnd + 1, valueEnd);
+	    if (pointValue < 0) {
+	        if (errors != null) {
+	            errors.skip(lineNumber, "the point value \"" + line.substring(categoryEnd + 1, valueEnd)
+	                    + "\" is not a whole number");
+	        }
+	        return false;
 	    }
+	    int category = builder.categoryId(line, 0, categoryEnd);
+	    int value = builder.valueId(pointValue);
 
-	    // Trim the array to remove any unused entries
-	    // This is done by copying each sub-array up to the current index
-	    for (int i = 0; i < myArray.length; i++) {
-	        for (int j = 0; j < myArray[i].length; j++) {
-	            myArray[i][j] = Arrays.copyOf(myArray[i][j], currentIndex[i][j]);
+	    // The question comes first, followed by the answers with the correct one first
+	    boolean clean = line.indexOf('"') < 0 && line.indexOf('\uFFFD') < 0;
+	    if (clean) {
+	        builder.startQuestion(category, value, line, questionEnd + 1, prefixEnd);
+	        builder.addText(line, valueEnd + 1, questionEnd);
+	    } else {
+	        String prefix = cleanField(line, questionEnd + 1, prefixEnd, lineNumber, errors);
+	        builder.startQuestion(category, value, prefix, 0, prefix.length());
+	        String question = cleanField(line, valueEnd + 1, questionEnd, lineNumber, errors);
+	        builder.addText(question, 0, question.length());
+	    }
+	    int answerStart = prefixEnd + 1;
+	    int answers = 0;
+	    for (; answers < QuestionSource.ANSWER_COUNT && answerStart <= line.length(); answers++) {
+	        int answerEnd = line.indexOf('%', answerStart);
+	        if (answerEnd < 0) {
+	            answerEnd = line.length();
 	        }
+	        if (clean) {
+	            builder.addText(line, answerStart, answerEnd);
+	        } else {
+	            String answer = cleanField(line, answerStart, answerEnd, lineNumber, errors);
+	            builder.addText(answer, 0, answer.length());
+	        }
+	        answerStart = answerEnd + 1;
 	    }
+	    builder.finishQuestion();
 
-	    // Return the fully-populated 4-dimensional array of questions and answers
-	    return myArray;
+	    if (errors != null && answers < QuestionSource.ANSWER_COUNT) {
+	        errors.warn(lineNumber, "only " + answers + " of " + QuestionSource.ANSWER_COUNT + " answers, the rest are blank");
+	    } else if (errors != null && answerStart <= line.length()) {
+	        errors.warn(lineNumber, "more than " + (QuestionSource.ANSWER_COUNT + 4) + " fields, the extra ones are ignored");
+	    }
+	    return true;
 	}
 
 	/**
-	 * Returns an array of high score information read from the high score file.
+	 * Cleans up a question, prefix or answer field that has quote marks or replacement
+	 * characters. A field wrapped in double quotes, as spreadsheet exports write them, loses
+	 * the wrapping quotes and has its doubled quotes undoubled. A replacement character,
+	 * which is what a smart quote becomes when a file is converted with the wrong charset, is
+	 * turned back into a quote mark: an apostrophe between letters, an opening quote after a
+	 * space, and a closing quote anywhere else.
 	 *
 	 * <hr>
-	 * Date created: May 9, 2023
+	 * Date created: Oct 18, 2026
 	 * <hr>
 	 * 
-	 * @return an array of strings containing the high score information
+	 * @param line the line holding the field
+	 * @param start the index of the first character of the field
+	 * @param end the index one past the last character of the field
+	 * @param lineNumber the number of the line, for error messages
+	 * @param errors where to collect the problems, or null
+	 * @return the cleaned field
 	 */
-	public String[] getHighScoreInfoFromFile()
+	static String cleanField(String line, int start, int end, int lineNumber, ParseErrors errors)
 	{
-	    // Split the raw data into lines using "%" as the delimiter
-	    String[] lines = highScoreFileContents.split("%");
-	    
-	    return lines;
-	    
+	    StringBuilder field = new StringBuilder(end - start);
+	    if (end - start >= 2 && line.charAt(start) == '"' && line.charAt(end - 1) == '"') {
+	        for (int i = start + 1; i < end - 1; i++) {
+	            char c = line.charAt(i);
+	            field.append(c);
+	            if (c == '"' && i + 1 < end - 1 && line.charAt(i + 1) == '"') {
+	                i++;
+	            }
+	        }
+	    } else {
+	        if (errors != null && end > start && line.charAt(start) == '"') {
+	            errors.warn(lineNumber, "a field opens a quote that is never closed");
+	        }
+	        field.append(line, start, end);
+	    }
+
+	    for (int i = 0; i < field.length(); i++) {
+	        if (field.charAt(i) == '\uFFFD') {
+	            boolean letterBefore = i > 0 && Character.isLetterOrDigit(field.charAt(i - 1));
+	            boolean letterAfter = i + 1 < field.length() && Character.isLetter(field.charAt(i + 1));
+	            boolean spaceBefore = i == 0 || Character.isWhitespace(field.charAt(i - 1)) || field.charAt(i - 1) == '(';
+	            field.setCharAt(i, letterBefore && letterAfter ? '\u2019' : spaceBefore ? '\u201C' : '\u201D');
+	            if (errors != null) {
+	                errors.repaired();
+	            }
+	        }
+	    }
+	    return field.toString();
 	}
 
 	/**
-	 * Writes new high score data to the high score file.
+	 * Cleans up a whole field that may have quote marks or replacement characters, returning
+	 * it unchanged when it has neither.
 	 *
 	 * <hr>
-	 * Date created: May 9, 2023
+	 * Date created: Oct 18, 2026
 	 * <hr>
 	 * 
-	 * @param newHighScoreData an array of strings containing the new high score data
+	 * @param field the field text
+	 * @return the cleaned field
 	 */
-	public void writeHighScoreToFile(String[] newHighScoreData)
+	static String cleanField(String field)
 	{
-	    try {
-	        File file = new File("HighScore.txt");
-	        FileWriter writer = new FileWriter(file, false); // false means overwrite the existing file
-	        String data = newHighScoreData[0] + "%" + newHighScoreData[1]; // Combine the new high score data into a single string using "%" as the delimiter
-	        writer.write(data); // Write the data to the file
-	        writer.close(); // Close the FileWriter
-	    } catch (IOException e) {
-	        JOptionPane.showMessageDialog(null, "Unable to write to file","ERROR", JOptionPane.ERROR_MESSAGE); // Display an error message if there was an error writing to the file
+	    if (field.indexOf('"') < 0 && field.indexOf('\uFFFD') < 0) {
+	        return field;
 	    }
+	    return cleanField(field, 0, field.length(), 0, null);
 	}
 
 }
-
-
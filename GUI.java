@@ -1,6 +1,6 @@
 import java.awt.BorderLayout;
+import java.awt.CardLayout;
 import java.awt.Color;
-import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
@@ -8,13 +8,9 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.swing.*;
 import javax.swing.border.Border;
-import javax.swing.table.TableCellRenderer;
-import javax.swing.text.Element;
 import javax.swing.text.SimpleAttributeSet;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.StyledDocument;
@@ -30,37 +26,44 @@ import javax.swing.text.StyledDocument;
  */
 public class GUI extends JFrame {
 
+    // Names of the cards the content pane switches between
+    private static final String BOARD_CARD = "board";
+    private static final String QUESTION_CARD = "question";
+    private static final String END_CARD = "end";
+
+    // Fonts shared by every component and game, so showing a question creates none
+    private static final Font BOARD_FONT = new Font("Arial", Font.PLAIN, 24);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 18);
+    private static final Font QUESTION_FONT = new Font("Arial", Font.BOLD, 40);
+    private static final Font ANSWER_FONT = new Font("Arial", Font.PLAIN, 36);
+    private static final Font END_TITLE_FONT = new Font("Arial", Font.BOLD, 48);
+    private static final Font END_FONT = new Font("Arial", Font.BOLD, 36);
+
     // Variables for building the GUI
-    private final String[] columnNames = {"Math","Computer History","Food","Animals","U.S.History","Sports"}; // column names for the JTable
-    private final Object[][] data = { // data to populate the JTable
-            {"Math","Computer History","Food","Animals","U.S. History","Sports"},
-            {"$200", "$200", "$200", "$200", "$200", "$200"},
-            {"$400", "$400", "$400", "$400", "$400", "$400"},
-            {"$600", "$600", "$600", "$600", "$600", "$600"},
-            {"$800", "$800", "$800", "$800", "$800", "$800"},
-            {"$1000", "$1000", "$1000", "$1000", "$1000", "$1000"}
-    };
-    private final Border border = BorderFactory.createLineBorder(Color.BLACK); 			// a border for the JTable cells
-    private Timer timer; 																// a timer to keep track of the time for each question
-    private int TIMER_DELAY = 1000; 													// the delay for the timer (in milliseconds)
-    private int seconds = 30; 															// the number of seconds for each question
-    private int correctAnswerIndex; 													// the index of the correct answer for each question
-    private int scoreValue; 															// the value of the current question
+    private final Border border = BorderFactory.createLineBorder(Color.BLACK); 			// a border for the new game button
+    private TimingWheel.Timeout countdown; 												// the next tick of the countdown on the shared game clock
+    private int countdownNumber; 														// counts countdowns, so a tick left over from an old question is ignored
     private String question; 															// the current question
-    private String[] answers; 															// the answers for the current question
-    private JTable table; 																// the JTable that displays the categories and question values
+    private final String[] answers = new String[QuestionSource.ANSWER_COUNT]; 			// the answers for the current question, in the order they are shown
+    private BoardPanel board; 															// the board of categories and question values
     private JPanel mainPanel, questionPanel, scorePanel, endGamePanel, topRibbonPanel; 	// the main game panel and subpanels
+    private final CardLayout cardLayout = new CardLayout(); 							// switches between the board, the question and the end of the game
+    private final JPanel cards = new JPanel(cardLayout); 								// the panel holding the cards, which fills the content pane
+    private JTextPane questionPane; 													// the text pane showing the current question
+    private final SimpleAttributeSet questionStyle = new SimpleAttributeSet(); 			// the alignment and spacing of the question text
     private JLabel timerLbl, highScoreNameLbl, highScoreLbl, playerLbl, scoreLbl; 		// labels for displaying the timer, high score, player name, and score
     private JButton[] answerButtons; 													// an array of buttons for the answer choices
     private boolean newHighScore = false; 												// a flag for whether a new high score has been achieved
     private Player player; 																// the current player
     private QuestionHandler questionHandler; 											// a question handler object for generating and displaying questions
+    private GameEngine engine; 															// the rules and state of the game being played
+    private long questionShownAt; 														// when the open question was shown, for the answer latency metric
     
 
    
     /**
 	 *  Constructor for the GUI class.
-     * Sets up the main game panel and table, and prompts the user for their name.     
+     * Sets up the main game panel and board, and prompts the user for their name.     
 	 *
 	 * <hr>
 	 * Date created: Apr 8, 2023
@@ -81,7 +84,14 @@ public class GUI extends JFrame {
 
         // Creates the Main Game Panel and Table
         initializeMainPanel();
-        getContentPane().add(mainPanel, BorderLayout.CENTER);
+
+        // Creates the question panel once; every question is shown in it
+        initializeQuestionPanel();
+
+        // The board and the question are cards, so switching between them rebuilds nothing
+        cards.add(mainPanel, BOARD_CARD);
+        cards.add(questionPanel, QUESTION_CARD);
+        getContentPane().add(cards, BorderLayout.CENTER);
 
         // Prompt the user for their name
         String playerName = JOptionPane.showInputDialog(this, "Please enter your name:");
@@ -119,9 +129,9 @@ public class GUI extends JFrame {
         initializeTopRibbon();
         mainPanel.add(topRibbonPanel, BorderLayout.NORTH);
 
-        // Initializes the game board table and adds it to the main panel at the center border
-        initializeBoardTable();
-        mainPanel.add(table, BorderLayout.CENTER);
+        // Initializes the game board and adds it to the main panel at the center border
+        initializeBoard();
+        mainPanel.add(board, BorderLayout.CENTER);
 
         // Initializes the score panel and adds it to the main panel at the south border
         initializeScorePanel();
@@ -206,10 +216,10 @@ public class GUI extends JFrame {
         scoreLbl = new JLabel("$"+0); // Set initial score to 0 and add dollar sign
         
         // Set font size and type for labels
-        highScoreLbl.setFont(new Font("Arial", Font.BOLD, 18));
-        highScoreNameLbl.setFont(new Font("Arial", Font.BOLD, 18));
-        playerLbl.setFont(new Font("Arial", Font.BOLD, 18));
-        scoreLbl.setFont(new Font("Arial", Font.BOLD, 18));
+        highScoreLbl.setFont(LABEL_FONT);
+        highScoreNameLbl.setFont(LABEL_FONT);
+        playerLbl.setFont(LABEL_FONT);
+        scoreLbl.setFont(LABEL_FONT);
         
         // Center align the labels
         highScoreLbl.setHorizontalAlignment (JLabel.CENTER);
@@ -225,51 +235,28 @@ public class GUI extends JFrame {
     }
 
     /**
-     * Initializes the board table with the categories and point values. 
-     * Sets the table to be uneditable and sets the cell renderer to center align text and set the color scheme. 
+     * Initializes the board with the categories and point values of the question bank,
+     * one column per category and one row per point value.
+     * The board is drawn once into an image and only the picked cell is repainted after that.
      *
      * <hr>
 	 * Date created: Apr 8, 2023
      * 
      * <hr>
      */
-    private void initializeBoardTable()
+    private void initializeBoard()
     {
-        // create the JTable object with the given data and column names
-        table = new JTable(data,columnNames) {
-            // override isCellEditable method to make the cells uneditable
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-
-            // override prepareRenderer method to center align text and set the color scheme of the cells
-            @Override
-            public Component prepareRenderer(TableCellRenderer renderer, int row, int column) {
-                Component component = super.prepareRenderer(renderer, row, column);
-                component.setForeground(Color.WHITE);
-                component.setBackground(Color.BLUE);
-                ((JLabel) component).setHorizontalAlignment (JLabel.CENTER);
-                if (getValueAt(row, column) == null) {
-                    component.setBackground(Color.BLUE);
-                }
-                return component;
-            }
-        };
+        // build the board from the categories and point values in the question bank
+        board = new BoardPanel(questionHandler.questions, BOARD_FONT);
 
-        // set the row height, font, and fills viewport height
-        table.setRowHeight(85);
-        table.setFont(new Font("Arial", Font.PLAIN, 24));
-        table.setFillsViewportHeight(true);
-
-        // add a mouse listener to the table
-        table.addMouseListener(new MyMouseAdapter());
+        // add a mouse listener to the board
+        board.addMouseListener(new MyMouseAdapter());
     }
 
     
     /**
-     * The MyMouseAdapter class is a custom implementation of the MouseAdapter class that handles mouse click events on the Jeopardy game board table.
-     * When a user clicks on a valid question cell in the table, the corresponding question panel is displayed and the board panel is hidden.
+     * The MyMouseAdapter class is a custom implementation of the MouseAdapter class that handles mouse click events on the Jeopardy game board.
+     * When a user clicks on a valid question cell on the board, the corresponding question panel is displayed and the board panel is hidden.
      * * <hr>
 	 * Date created: Apr 8, 2023
      * 
@@ -278,132 +265,133 @@ public class GUI extends JFrame {
     private class MyMouseAdapter extends MouseAdapter
     {
         /**
-         * Handles the mouseClicked event for the Jeopardy game board table.
-         * When a user clicks on a valid question cell in the table, the corresponding question panel is displayed and the board panel is hidden.
+         * Handles the mouseClicked event for the Jeopardy game board.
+         * When a user clicks on a valid question cell on the board, the corresponding question panel is displayed and the board panel is hidden.
          * @param e The MouseEvent object that contains information about the mouse click event.
          */
     	 @Override
     	    public void mouseClicked(MouseEvent e) {
-    	        // Get the row and column that was clicked
-    	        int row = table.rowAtPoint(e.getPoint());
-    	        int column = table.columnAtPoint(e.getPoint());
+    	        // Get the value and category of the cell that was clicked
+    	        int value = board.valueAt(e.getPoint());
+    	        int column = board.categoryAt(e.getPoint());
     	        
     	        // Check if the clicked cell is valid and not already selected
-    	        if (row >= 1 && column >= 0 && table.getValueAt(row, column) != null) 
+    	        if (engine != null && value >= 0 && column >= 0 && !engine.isAnswered(column, value)) 
     	        {
-    	            // Remove the score value from the board and get the corresponding question panel
-    	            table.setValueAt(null, row, column);
-    	            scoreValue = getScoreValue(row);
-    	            questionPanel = createQuestionPanel(questionHandler.getQuestion (column, row-1));
-    	            
-    	            // Switch to question panel
-    	            getContentPane().removeAll();
-    	            getContentPane().add(questionPanel, BorderLayout.CENTER);
-    	            revalidate();
-    	            repaint();
+    	            // Remove the score value from the board and show the question in the question panel
+    	            Clue clue = engine.pick(column, value);
+    	            board.cellChanged(column, value);
+    	            showQuestion(clue);
     	        }
     	    }
     	}
     
     /**
-     * Creates a JPanel that displays the given question and answer choices.
+     * Creates the panel that shows a question and its answer choices. It is built once, and
+     * showQuestion only changes its text, so no components, fonts or listeners are created
+     * for each question.
      *
      * <hr>
 	 * Date created: Apr 8, 2023
      * 
      * <hr>
-     * @param QA an array of Strings representing the question and answer choices
-     * @return a JPanel containing the question and answer choices
      */
-    private JPanel createQuestionPanel(String[] QA) {
-        // Shuffle the answer choices to randomize their order
-        shuffleAnswers(QA);
-
+    private void initializeQuestionPanel() {
         // Create a new JPanel with a BorderLayout
-        JPanel panel = new JPanel(new BorderLayout());
+        questionPanel = new JPanel(new BorderLayout());
 
         // Create a JTextPane to display the question text
-        JTextPane questionPane = new JTextPane();
-        questionPane.setText(question);
+        questionPane = new JTextPane();
         questionPane.setBackground(Color.BLUE);
         questionPane.setForeground(Color.WHITE);
-        questionPane.setFont(new Font("Arial", Font.BOLD, 40));
+        questionPane.setFont(QUESTION_FONT);
         questionPane.setBorder(border);
 
-        // Center the text horizontally
-        StyledDocument doc = questionPane.getStyledDocument();
-        SimpleAttributeSet center = new SimpleAttributeSet();
-        StyleConstants.setAlignment(center, StyleConstants.ALIGN_CENTER);
-        doc.setParagraphAttributes(0, doc.getLength(), center, false);
-
-        // Center the text vertically
-        StyledDocument doc1 = questionPane.getStyledDocument();
-        SimpleAttributeSet vertical = new SimpleAttributeSet();
-        StyleConstants.setAlignment(vertical, StyleConstants.ALIGN_CENTER);
-        StyleConstants.setSpaceAbove(vertical, 0);
-        StyleConstants.setSpaceBelow(vertical, 0);
-        StyleConstants.setLineSpacing(vertical, .2f);
-        Element paragraph = doc1.getParagraphElement(0);
-        doc1.setParagraphAttributes(paragraph.getStartOffset(), paragraph.getEndOffset(), vertical, false);
+        // Center the text horizontally and vertically; the style is applied again to each question's text
+        StyleConstants.setAlignment(questionStyle, StyleConstants.ALIGN_CENTER);
+        StyleConstants.setSpaceAbove(questionStyle, 0);
+        StyleConstants.setSpaceBelow(questionStyle, 0);
+        StyleConstants.setLineSpacing(questionStyle, .2f);
 
         // Add the question pane to the center of the panel
-        panel.add(questionPane, BorderLayout.CENTER);
+        questionPanel.add(questionPane, BorderLayout.CENTER);
 
         // Create a JPanel to hold the answer buttons
         JPanel answerPanel = new JPanel(new GridLayout(4, 1, 10, 10));
         answerPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
-        // Create an array of JButtons to hold the answer choices
-        answerButtons = new JButton[4];
+        // Create the answer buttons, which share one listener
+        BtnClicked listener = new BtnClicked();
+        answerButtons = new JButton[answers.length];
         for (int i = 0; i < answerButtons.length; i++) {
-            answerButtons[i] = new JButton(answers[i]);
-            answerButtons[i].setFont(new Font("Arial", Font.PLAIN, 36));
-            answerButtons[i].addActionListener(new BtnClicked());
+            answerButtons[i] = new JButton();
+            answerButtons[i].setFont(ANSWER_FONT);
+            answerButtons[i].addActionListener(listener);
             answerPanel.add(answerButtons[i]);
         }
 
-        // Create a new timer and add it to the top of the panel
-        newTimer();
-        panel.add(timerLbl, BorderLayout.NORTH);
+        // Create the timer and add its label to the top of the panel
+        initializeTimer();
+        questionPanel.add(timerLbl, BorderLayout.NORTH);
 
         // Add the answer panel to the bottom of the panel
-        panel.add(answerPanel, BorderLayout.SOUTH);
+        questionPanel.add(answerPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Shows the given question and answer choices in the question panel and starts its timer.
+     *
+     * <hr>
+	 * Date created: Apr 8, 2023
+     * 
+     * <hr>
+     * @param QA the question and its answer choices, with the correct answer first
+     */
+    private void showQuestion(Clue QA) {
+        long start = Metrics.start();
 
-        // Return the completed panel
-        return panel;
+        // Shuffle the answer choices to randomize their order
+        shuffleAnswers(QA);
+
+        // Replace the question text and center it again, since new text loses the old paragraph style
+        questionPane.setText(question);
+        StyledDocument doc = questionPane.getStyledDocument();
+        doc.setParagraphAttributes(0, doc.getLength(), questionStyle, false);
+
+        // Label the answer buttons in the order they are shown
+        for (int i = 0; i < answerButtons.length; i++) {
+            answerButtons[i].setText(answers[i]);
+        }
+
+        // Start the countdown and switch to the question card
+        startTimer();
+        cardLayout.show(cards, QUESTION_CARD);
+        Metrics.QUESTION_PANEL.stop(start);
+        questionShownAt = Metrics.start();
     }
 
     /**
-     * Randomly shuffles the order of the answer choices for a given question.
+     * Lays out the answer choices of a given question in the random order the game engine
+     * shuffled them into when the question was picked.
      *
      * <hr>
 	 * Date created: Apr 8, 2023
      * 
      * <hr>
-     * @param QA a String array containing the question at index 0 and answer choices at indices 1-4
+     * @param QA the question and its answer choices, with the correct answer first
      */
-    public void shuffleAnswers(String[] QA)
+    public void shuffleAnswers(Clue QA)
     {
-    	// Set the question text to the first element in the array
-    	question = QA[0];
-    	
-    	// Copy the answer choices from the input array to the 'answers' array
-    	answers = Arrays.copyOfRange (QA, 1, 5);
-    	
-    	// The correct answer index is initially set to 0 (the first answer choice)
-    	correctAnswerIndex = 0;
-    	
-    	// Convert the answer choices array to a List so it can be shuffled
-    	List<String> answerList = Arrays.asList(answers);
-    	
-    	// Shuffle the answer choices
-    	Collections.shuffle(answerList);
+    	// Set the question text to the question of the clue
+    	question = QA.question();
     	
-    	// Update the correct answer index to reflect the new position of the correct answer choice
-    	correctAnswerIndex = answerList.indexOf(QA[1]);
+    	// Fill the 'answers' array in the engine's order; the order holds answer positions, not text,
+    	// so equal answers can't be confused
+    	AnswerShuffler order = engine.getAnswerOrder();
+    	for (int i = 0; i < answers.length; i++) {
+    		answers[i] = QA.answer(order.answerAt(i));
+    	}
     	
-    	// Convert the shuffled answer choices List back to an array and update the 'answers' array
-    	answerList.toArray(answers);
     }
 
     
@@ -430,22 +418,15 @@ public class GUI extends JFrame {
         public void actionPerformed(ActionEvent e) {
             JButton clickedButton = (JButton) e.getSource();
 
-            // Check if the clicked button is the correct answer button.
+            // Find the clicked button and let the game engine judge the answer it shows.
             for (int i = 0; i < answerButtons.length; i++) {
                 if (clickedButton == answerButtons[i]) {
-                    if (i == correctAnswerIndex) {
-                        // The clicked button is the correct answer.
-                        timer.stop();
-                        updatePlayerScore(true, scoreValue);
-                        closeQuestionPane();
-                        JOptionPane.showMessageDialog(null, "Correct!");
-                    } else {
-                        // The clicked button is the wrong answer.
-                        timer.stop();
-                        updatePlayerScore(false, scoreValue);
-                        closeQuestionPane();
-                        JOptionPane.showMessageDialog(null, "Incorrect!");
-                    }
+                    stopTimer();
+                    Metrics.ANSWER_LATENCY.stop(questionShownAt);
+                    GameEngine.Outcome outcome = engine.answerChoice(i);
+                    showPlayerScore();
+                    closeQuestionPane();
+                    JOptionPane.showMessageDialog(null, getOutcomeMessage(outcome));
                 }
             }
         }
@@ -463,112 +444,129 @@ public class GUI extends JFrame {
     private void closeQuestionPane()
     {
         // Check if there are any more questions left to be answered
-        if(isTableEmpty(table))
+        if(engine.isOver())
         {
             // If there are no more questions, end the game
             endGame();
         }
         else {
-            // If there are more questions, switch back to table panel
-            getContentPane().removeAll(); // remove all components from the content pane
-            getContentPane().add(mainPanel, BorderLayout.CENTER); // add main panel to the content pane
-            revalidate(); // validate the container hierarchy
-            repaint(); // repaint the container hierarchy
+            // If there are more questions, switch back to the board card
+            cardLayout.show(cards, BOARD_CARD);
         }
     }
 
     /**
-     * Starts a new timer with a countdown of 30 seconds, updating the timer
-     * label every second. If the timer reaches 15 seconds, the label will start
-     * flashing to indicate the remaining time. If the timer reaches 0 seconds,
-     * the game will end and the player's score will be updated accordingly.
+     * Creates the timer label that shows the seconds the game engine has left on the question.
+     * The label is created once and reused for each question.
      * 
      * <hr>
      * Date created: Apr 8, 2023
      * 
      * <hr>
      */
-    private void newTimer()
+    private void initializeTimer()
     {
-        // If there is an existing timer, stop it
-        if(timer != null)
-            timer.stop();
-        
-        seconds = 30; // set the timer to 30 seconds
-        timerLbl = new JLabel(""+seconds);
+        timerLbl = new JLabel();
         timerLbl.setBackground(Color.RED); // set the background color of the timer label to red
         timerLbl.setOpaque(false);
-        timerLbl.setFont(new Font("Arial", Font.PLAIN, 36)); // set the font of the timer label
+        timerLbl.setFont(ANSWER_FONT); // set the font of the timer label
         timerLbl.setHorizontalAlignment(JLabel.CENTER); // set the horizontal alignment of the timer label
-        timer = new Timer(TIMER_DELAY, e->{
-            seconds--;
-            timerLbl.setText(""+seconds); // update the timer label with the remaining seconds
-            if(seconds <=15)
-            {
-                if(seconds % 2 == 0)
-                    timerLbl.setOpaque(true); // make the timer label opaque every other second when there are 15 seconds or less left
-                else
-                    timerLbl.setOpaque(false);
-            }
-            if(seconds <= 0) {
-                timer.stop(); // stop the timer when the time runs out
-                updatePlayerScore(false,scoreValue); // update the player's score as they ran out of time
-                closeQuestionPane(); // close the question pane
-                JOptionPane.showMessageDialog(null, "Ran Out of Time!"); // show a message dialog to inform the player that they ran out of time
-            }
-        });
-        timer.start(); // start the timer
     }
 
-    
     /**
-     * Returns the value of a given score row
+     * Starts the countdown for the question that was just picked.
      * 
      * <hr>
      * Date created: Apr 8, 2023
      * 
      * <hr>
+     */
+    private void startTimer()
+    {
+        stopTimer(); // the last question's countdown should already be stopped, but make sure
+        timerLbl.setOpaque(false); // the last question may have ended while the label was flashing
+        countdown(countdownNumber);
+    }
+
+    /**
+     * Stops the countdown of the open question.
+     * 
+     * <hr>
+     * Date created: Oct 18, 2026
      * 
-     * @param row the row of the score
-     * @return the value of the score
+     * <hr>
      */
-    private int getScoreValue(int row) {
-        switch (row) {
-            case 1: 
-                return 200;
-            case 2: 
-                return 400;
-            case 3: 
-                return 600;
-            case 4: 
-                return 800;
-            case 5: 
-                return 1000;
-            default: 
-                return 0; // default case, returns 0 for an invalid row
+    private void stopTimer()
+    {
+        countdownNumber++; // a tick already on its way to the event thread is ignored
+        if (countdown != null) {
+            countdown.cancel();
         }
     }
 
     /**
-     * Checks if a given JTable is empty or not
+     * Shows the seconds the game engine has left on the question. If 15 seconds or fewer are
+     * left, the label flashes to indicate the remaining time. When the engine reports that time
+     * ran out, the question is closed and the player's score is updated accordingly. Otherwise
+     * the shared game clock calls this again when the seconds shown change, which is worked out
+     * from the engine's deadline, so a late tick never makes the countdown drift.
      * 
      * <hr>
-     * Date created: Apr 8, 2023
+     * Date created: Oct 18, 2026
      * 
      * <hr>
      * 
-     * @param table the JTable to check
-     * @return true if the JTable is empty, false otherwise
+     * @param number the countdown the tick belongs to
      */
-    private boolean isTableEmpty(JTable table) {
-        for (int row = 1; row < table.getRowCount(); row++) {
-            for (int col = 0; col < table.getColumnCount(); col++) {
-                if (table.getValueAt(row, col) != null) {
-                    return false; // found a non-null value, table is not empty
-                }
-            }
+    private void countdown(int number)
+    {
+        if (number != countdownNumber) {
+            return; // the question this tick was for has already closed
+        }
+        int seconds = engine.getSecondsLeft();
+        timerLbl.setText(""+seconds); // update the timer label with the remaining seconds
+        if(seconds <=15)
+        {
+            if(seconds % 2 == 0)
+                timerLbl.setOpaque(true); // make the timer label opaque every other second when there are 15 seconds or less left
+            else
+                timerLbl.setOpaque(false);
+        }
+        GameEngine.Outcome outcome = engine.checkTimeout();
+        if(outcome != null) {
+            stopTimer(); // stop the countdown when the time runs out
+            showPlayerScore(); // show the player's score, which lost points as they ran out of time
+            closeQuestionPane(); // close the question pane
+            JOptionPane.showMessageDialog(null, getOutcomeMessage(outcome)); // show a message dialog to inform the player that they ran out of time
+            return;
+        }
+
+        // Wake up when the whole seconds left, rounded up, next change; at 0 that is the deadline
+        long second = TimeUnit.SECONDS.toNanos(1);
+        long delay = (engine.getNanosLeft() - 1) % second + 1;
+        countdown = TimingWheel.shared().schedule(delay, () -> SwingUtilities.invokeLater(() -> countdown(number)));
+    }
+
+    /**
+     * Returns the message shown to the player when a question ends.
+     * 
+     * <hr>
+     * Date created: Oct 18, 2026
+     * 
+     * <hr>
+     * 
+     * @param outcome how the question ended
+     * @return the message for the outcome
+     */
+    private String getOutcomeMessage(GameEngine.Outcome outcome) {
+        switch (outcome) {
+            case CORRECT:
+                return "Correct!";
+            case INCORRECT:
+                return "Incorrect!";
+            default:
+                return "Ran Out of Time!";
         }
-        return true; // all values are null, table is empty
     }
 
     /**
@@ -584,25 +582,23 @@ public class GUI extends JFrame {
     private void createPlayer(String userName) {
     	player = new Player(userName); // create a new Player object with the given username
     	playerLbl.setText(player.getUserName()); // set the label to display the player's username
+
+    	// start the game engine on a board the size of the question bank
+    	QuestionSource bank = questionHandler.questions;
+    	engine = new GameEngine(questionHandler, player, bank.categoryCount(), bank.valueCount(), System::nanoTime,
+    			new AnswerShuffler(), GameJournal.shared());
+    	board.setEngine(engine); // cells without questions are blank and can't be picked
     }
 
     /**
-     * This method updates the player's score by adding or subtracting the specified value based on whether the answer was correct or not.
+     * This method shows the player's score after the game engine has added or subtracted the value of a question.
      * 
      * <hr>
      * Date created: Apr 8, 2023
      * 
      * <hr>
-     * 
-     * @param correct A boolean indicating if the answer was correct or not.
-     * @param value The value to be added or subtracted from the player's score.
      */
-    private void updatePlayerScore(boolean correct, int value) {
-    	if (correct) {
-    		player.addPoints(value); // if the answer is correct, add the value to the player's score
-    	} else {
-    		player.subtractPoints(value); // if the answer is incorrect, subtract the value from the player's score
-    	}
+    private void showPlayerScore() {
     	if (player.getScore() < 0) {
     	    scoreLbl.setForeground(Color.RED);
         } else {
@@ -649,7 +645,7 @@ public class GUI extends JFrame {
         // create and add end of game message label to panel
         JLabel endofGame = new JLabel("Game Over! Thank you for Playing our Game");
         endofGame.setHorizontalAlignment(JLabel.CENTER);
-        endofGame.setFont(new Font("Arial", Font.BOLD, 48));
+        endofGame.setFont(END_TITLE_FONT);
         endGamePanel.add(endofGame);
 
         // check if player achieved a new high score and display appropriate message and score
@@ -658,20 +654,20 @@ public class GUI extends JFrame {
             // create and add new high score message label to panel
             JLabel newHighScoreTxt = new JLabel("NEW HIGH SCORE!");
             newHighScoreTxt.setHorizontalAlignment(JLabel.CENTER);
-            newHighScoreTxt.setFont(new Font("Arial", Font.BOLD, 36));
+            newHighScoreTxt.setFont(END_FONT);
             endGamePanel.add (newHighScoreTxt);
 
             // add high score name and score labels to panel
             endGamePanel.add(highScoreNameLbl);
             endGamePanel.add(highScoreLbl);
-            highScoreNameLbl.setFont(new Font("Arial", Font.BOLD, 36));
-            highScoreLbl.setFont(new Font("Arial", Font.BOLD, 36));
+            highScoreNameLbl.setFont(END_FONT);
+            highScoreLbl.setFont(END_FONT);
         } else {
             // add player name and score labels to panel
             endGamePanel.add(playerLbl);
             endGamePanel.add(scoreLbl);
-            playerLbl.setFont(new Font("Arial", Font.BOLD, 36));
-            scoreLbl.setFont(new Font("Arial", Font.BOLD, 36));
+            playerLbl.setFont(END_FONT);
+            scoreLbl.setFont(END_FONT);
         }
 
         // create new game button and add action listener to start a new game
@@ -688,15 +684,11 @@ public class GUI extends JFrame {
             }
         });
 
-        // add new game button and end game panel to wrapper panel and update content pane
+        // add new game button and end game panel to wrapper panel and show it as the last card
         endGameWrapperPanel.add(newGameBtn,BorderLayout.SOUTH);
         endGameWrapperPanel.add (endGamePanel,BorderLayout.CENTER);
-        getContentPane().removeAll();
-        getContentPane().add(endGameWrapperPanel);
-
-        // revalidate and repaint content pane to display changes
-        revalidate();
-        repaint();
+        cards.add(endGameWrapperPanel, END_CARD);
+        cardLayout.show(cards, END_CARD);
     }
 
 }
@@ -0,0 +1,426 @@
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: GameEngine.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * GameEngine holds the rules and state of one game of Jeopardy without any user interface,
+ * so games can be played by the Swing GUI, a server or a test alike.
+ * The board is a bitset of answered cells, scoring goes through the Player, and the time
+ * limit is measured with an injectable nanosecond clock instead of a Swing Timer.
+ *
+ * <p>A game is played by picking a cell with {@link #pick}, then either answering with
+ * {@link #answer} or letting the time run out, which {@link #checkTimeout} reports.
+ * Picking also shuffles the order the answers are shown in; every view shows them in the
+ * order of {@link #getAnswerOrder} and answers by slot with {@link #answerChoice}.
+ * An engine given a GameJournal records every pick, answer and timeout in it.
+ * An engine is not thread-safe; each game should be driven by one thread at a time.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class GameEngine
+{
+	/** The number of seconds a player has to answer a question. */
+	public static final int QUESTION_SECONDS = 30;
+
+	/**
+	 * The ways a question can end.
+	 */
+	public enum Outcome
+	{
+		/** The correct answer was chosen and its points were added. */
+		CORRECT,
+		/** A wrong answer was chosen and its points were taken away. */
+		INCORRECT,
+		/** Time ran out and the question's points were taken away. */
+		TIMED_OUT
+	}
+
+	private final QuestionHandler questionHandler; // deals the questions
+	private final Player player; // the player whose score is kept
+	private final LongSupplier clock; // the current time in nanoseconds
+	private final AnswerShuffler answerOrder; // the order the open question's answers are shown in
+	private final long questionNanos; // how long a question stays open
+	private final int categories; // the number of board columns
+	private final int values; // the number of board rows
+	private final long[] answered; // one bit per cell, set once the cell has been used
+	private int remaining; // cells that can still be picked
+	private final GameJournal journal; // records the game, or null if it is not recorded
+	private final int game; // the game's number in the journal
+
+	// The open question, if any
+	private Clue clue;
+	private int clueValue;
+	private long deadline;
+
+	/**
+	 * Creates a game over the whole question bank, timed with System.nanoTime and recorded
+	 * in the shared GameJournal.
+	 *
+	 * @param questionHandler the question handler to deal questions from
+	 * @param player the player of the game
+	 */
+	public GameEngine(QuestionHandler questionHandler, Player player)
+	{
+		this(questionHandler, player, questionHandler.questions.categoryCount(),
+				questionHandler.questions.valueCount(), System::nanoTime, new AnswerShuffler(), GameJournal.shared());
+	}
+
+	/**
+	 * Creates a game with a board of the given size and a custom clock.
+	 *
+	 * @param questionHandler the question handler to deal questions from
+	 * @param player the player of the game
+	 * @param categories the number of categories on the board, starting from category 0
+	 * @param values the number of point values on the board, starting from the lowest
+	 * @param clock the current time in nanoseconds, for example System::nanoTime
+	 */
+	public GameEngine(QuestionHandler questionHandler, Player player, int categories, int values, LongSupplier clock)
+	{
+		this(questionHandler, player, categories, values, clock, new AnswerShuffler());
+	}
+
+	/**
+	 * Creates a game with a board of the given size, a custom clock and a given answer shuffler,
+	 * which makes the answer orders repeatable when the shuffler is seeded.
+	 *
+	 * @param questionHandler the question handler to deal questions from
+	 * @param player the player of the game
+	 * @param categories the number of categories on the board, starting from category 0
+	 * @param values the number of point values on the board, starting from the lowest
+	 * @param clock the current time in nanoseconds, for example System::nanoTime
+	 * @param answerOrder the shuffler for the answer choices
+	 */
+	public GameEngine(QuestionHandler questionHandler, Player player, int categories, int values, LongSupplier clock,
+			AnswerShuffler answerOrder)
+	{
+		this(questionHandler, player, categories, values, clock, answerOrder, null);
+	}
+
+	/**
+	 * Creates a game with a board of the given size, a custom clock and a given answer shuffler
+	 * that records its picks and answers in a journal.
+	 *
+	 * @param questionHandler the question handler to deal questions from
+	 * @param player the player of the game
+	 * @param categories the number of categories on the board, starting from category 0
+	 * @param values the number of point values on the board, starting from the lowest
+	 * @param clock the current time in nanoseconds, for example System::nanoTime
+	 * @param answerOrder the shuffler for the answer choices
+	 * @param journal the journal to record the game in, or null to not record it
+	 */
+	public GameEngine(QuestionHandler questionHandler, Player player, int categories, int values, LongSupplier clock,
+			AnswerShuffler answerOrder, GameJournal journal)
+	{
+		QuestionSource bank = questionHandler.questions;
+		if (categories > bank.categoryCount() || values > bank.valueCount()) {
+			throw new IllegalArgumentException("The board is larger than the question bank");
+		}
+		this.questionHandler = questionHandler;
+		this.player = player;
+		this.clock = clock;
+		this.answerOrder = answerOrder;
+		this.questionNanos = TimeUnit.SECONDS.toNanos(QUESTION_SECONDS);
+		this.categories = categories;
+		this.values = values;
+		this.answered = new long[(categories * values + 63) >>> 6];
+
+		// Cells without any questions can never be picked, so they start out used
+		for (int category = 0; category < categories; category++) {
+			for (int value = 0; value < values; value++) {
+				if (bank.bucketSize(category, value) == 0) {
+					markAnswered(category, value);
+				} else {
+					remaining++;
+				}
+			}
+		}
+		this.journal = journal;
+		this.game = journal == null ? 0 : journal.startGame();
+	}
+
+	/**
+	 * Returns the player of this game.
+	 *
+	 * @return the player
+	 */
+	public Player getPlayer()
+	{
+		return player;
+	}
+
+	/**
+	 * Returns the number of categories on the board.
+	 *
+	 * @return the number of columns
+	 */
+	public int getCategoryCount()
+	{
+		return categories;
+	}
+
+	/**
+	 * Returns the number of point values on the board.
+	 *
+	 * @return the number of rows
+	 */
+	public int getValueCount()
+	{
+		return values;
+	}
+
+	/**
+	 * Returns the name of a category on the board.
+	 *
+	 * @param category the category id
+	 * @return the category name
+	 */
+	public String getCategoryName(int category)
+	{
+		return questionHandler.questions.categoryName(category);
+	}
+
+	/**
+	 * Returns the points a row of the board is worth.
+	 *
+	 * @param value the value id
+	 * @return the point value
+	 */
+	public int getPointValue(int value)
+	{
+		return questionHandler.questions.pointValue(value);
+	}
+
+	/**
+	 * Checks whether a cell has already been used.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @return true if the cell can no longer be picked
+	 */
+	public boolean isAnswered(int category, int value)
+	{
+		int cell = category * values + value;
+		return (answered[cell >>> 6] & (1L << cell)) != 0;
+	}
+
+	/**
+	 * Returns how many cells can still be picked.
+	 *
+	 * @return the number of unused cells
+	 */
+	public int getRemaining()
+	{
+		return remaining;
+	}
+
+	/**
+	 * Checks whether the game is over, which is when every cell has been used and no
+	 * question is open.
+	 *
+	 * @return true if the game is over
+	 */
+	public boolean isOver()
+	{
+		return remaining == 0 && clue == null;
+	}
+
+	/**
+	 * Returns the open question.
+	 *
+	 * @return the open question, or null if no question is open
+	 */
+	public Clue getClue()
+	{
+		return clue;
+	}
+
+	/**
+	 * Returns the point value of the open question.
+	 *
+	 * @return the points the open question is worth
+	 */
+	public int getCluePoints()
+	{
+		return getPointValue(clueValue);
+	}
+
+	/**
+	 * Returns the order the open question's answers are shown in. It changes with every pick.
+	 *
+	 * @return the answer order
+	 */
+	public AnswerShuffler getAnswerOrder()
+	{
+		return answerOrder;
+	}
+
+	/**
+	 * Picks a cell, using it up and opening one of its questions, and shuffles the order its
+	 * answers are shown in. The time limit starts now.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @return the question, with the correct answer first
+	 * @throws IllegalStateException if a question is already open or the cell was used
+	 */
+	public Clue pick(int category, int value)
+	{
+		if (clue != null) {
+			throw new IllegalStateException("A question is already open");
+		}
+		if (category < 0 || category >= categories || value < 0 || value >= values) {
+			throw new IllegalArgumentException("There is no cell " + category + "/" + value);
+		}
+		if (isAnswered(category, value)) {
+			throw new IllegalStateException("Cell " + category + "/" + value + " has already been used");
+		}
+		clue = questionHandler.getQuestion(category, value, player);
+		answerOrder.shuffle();
+		clueValue = value;
+		markAnswered(category, value);
+		remaining--;
+		deadline = clock.getAsLong() + questionNanos;
+		if (journal != null) {
+			journal.pick(game, category, value, clue.id());
+		}
+		return clue;
+	}
+
+	/**
+	 * Answers the open question. An answer given after the time limit counts as a timeout.
+	 *
+	 * @param answer the index of the chosen answer in the clue, where 0 is the correct one
+	 * @return how the question ended
+	 * @throws IllegalStateException if no question is open
+	 */
+	public Outcome answer(int answer)
+	{
+		if (clue == null) {
+			throw new IllegalStateException("No question is open");
+		}
+		if (answer < 0 || answer >= clue.answerCount()) {
+			throw new IllegalArgumentException("There is no answer " + answer);
+		}
+		if (clock.getAsLong() - deadline >= 0) {
+			return close(Outcome.TIMED_OUT, -1);
+		}
+		return close(answer == 0 ? Outcome.CORRECT : Outcome.INCORRECT, answer);
+	}
+
+	/**
+	 * Answers the open question with the answer shown in a slot of the answer order.
+	 *
+	 * @param slot the slot the player chose, from 0 to the number of answers - 1
+	 * @return how the question ended
+	 * @throws IllegalStateException if no question is open
+	 */
+	public Outcome answerChoice(int slot)
+	{
+		if (slot < 0 || slot >= answerOrder.size()) {
+			throw new IllegalArgumentException("There is no choice " + slot);
+		}
+		return answer(answerOrder.answerAt(slot));
+	}
+
+	/**
+	 * Closes the open question if its time limit has passed.
+	 *
+	 * @return TIMED_OUT if the question was closed, or null if no question timed out
+	 */
+	public Outcome checkTimeout()
+	{
+		if (clue != null && clock.getAsLong() - deadline >= 0) {
+			return close(Outcome.TIMED_OUT, -1);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the time left on the open question.
+	 *
+	 * @return the nanoseconds left, or 0 if no question is open or time is up
+	 */
+	public long getNanosLeft()
+	{
+		if (clue == null) {
+			return 0;
+		}
+		return Math.max(0, deadline - clock.getAsLong());
+	}
+
+	/**
+	 * Returns the whole seconds left on the open question, rounded up the way a countdown shows them.
+	 *
+	 * @return the seconds left
+	 */
+	public int getSecondsLeft()
+	{
+		long second = TimeUnit.SECONDS.toNanos(1);
+		return (int) ((getNanosLeft() + second - 1) / second);
+	}
+
+	/**
+	 * Ends the open question, scores it and records it in the journal.
+	 *
+	 * @param outcome how the question ended
+	 * @param answer the index of the chosen answer, or -1 if time ran out
+	 */
+	private Outcome close(Outcome outcome, int answer)
+	{
+		int points = getCluePoints();
+		int question = clue.id();
+		updatePlayerScore(outcome == Outcome.CORRECT, points);
+		Metrics.countOutcome(outcome);
+		clue = null;
+		if (journal != null) {
+			long latency = clock.getAsLong() - (deadline - questionNanos);
+			int delta = outcome == Outcome.CORRECT ? points : -points;
+			if (outcome == Outcome.TIMED_OUT) {
+				journal.timedOut(game, question, latency, delta);
+			} else {
+				journal.answer(game, question, answer, latency, delta);
+			}
+			if (remaining == 0) {
+				journal.endGame(game, player.getScore());
+			}
+		}
+		return outcome;
+	}
+
+	/**
+	 * Adds the value to the player's score for a correct answer, or takes it away otherwise,
+	 * and lets an adaptive question handler update the player's skill.
+	 *
+	 * @param correct whether the answer was correct
+	 * @param value the points the question is worth
+	 */
+	private void updatePlayerScore(boolean correct, int value)
+	{
+		if (correct) {
+			player.addPoints(value);
+		} else {
+			player.subtractPoints(value);
+		}
+		questionHandler.recordAnswer(player, correct);
+	}
+
+	/**
+	 * Sets the bit of a cell.
+	 */
+	private void markAnswered(int category, int value)
+	{
+		int cell = category * values + value;
+		answered[cell >>> 6] |= 1L << cell;
+	}
+}
@@ -0,0 +1,639 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: GameJournal.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * GameJournal records what players do, one fixed-width binary record per event, so any game
+ * can be replayed or audited afterwards with JournalReplayer. Every game gets a number when
+ * it starts, and its picks, answers, timeouts and end are recorded under that number.
+ *
+ * <p>Records are appended to segment files of RECORDS_PER_SEGMENT records, which are mapped
+ * into memory. A record's place is reserved with one atomic increment and written with plain
+ * stores into the mapping, so games on any number of threads record at once without a lock
+ * and without a system call. A background thread forces the written pages to disk every
+ * second, and the journal forces them again when it is closed. Each record is 32 bytes:
+ * <pre>
+ *  0 long   the time, in milliseconds since 1970
+ *  8 int    the game number
+ * 12 int    the question id, for picks, answers and timeouts
+ * 16 short  the category id, for picks
+ * 18 short  the value id, for picks
+ * 20 int    how long the player took, in microseconds, for answers and timeouts
+ * 24 int    the points added to the score (negative if taken away) for answers and
+ *           timeouts, or the final score for the end of a game
+ * 28 byte   the Event, counted from 1; 0 marks a record that was never written
+ * 29 byte   the index of the chosen answer in the question, where 0 is the correct one
+ * 30 short  unused
+ * </pre>
+ * The type is written last, so a record cut short by a crash reads as never written.
+ * Listeners, such as QuestionAnalytics, are told about every event as it is recorded.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class GameJournal implements Closeable
+{
+	/** The size of a record in bytes. */
+	public static final int RECORD_BYTES = 32;
+
+	/** The number of records in a segment file, which makes each file 32 MB. */
+	public static final int RECORDS_PER_SEGMENT = 1 << 20;
+
+	// Where each field of a record starts
+	static final int TIME = 0;
+	static final int GAME = 8;
+	static final int QUESTION = 12;
+	static final int CATEGORY = 16;
+	static final int VALUE = 18;
+	static final int LATENCY = 20;
+	static final int SCORE = 24;
+	static final int TYPE = 28;
+	static final int ANSWER = 29;
+
+	private static final long SEGMENT_BYTES = (long) RECORDS_PER_SEGMENT * RECORD_BYTES;
+	private static final long FORCE_INTERVAL_MILLIS = 1000;
+
+	/**
+	 * Event is the kind of thing a record describes.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public enum Event
+	{
+		/** A game started. */
+		START,
+		/** A cell was picked and its question shown. */
+		PICK,
+		/** The open question was answered. */
+		ANSWER,
+		/** The open question ran out of time. */
+		TIMED_OUT,
+		/** The last question closed, with the final score. */
+		END;
+
+		private static final Event[] VALUES = values();
+
+		/**
+		 * Returns the event stored as a type byte.
+		 *
+		 * @param type the type byte, counted from 1
+		 * @return the event, or null for a record that was never written or is not known
+		 */
+		static Event of(int type)
+		{
+			return type >= 1 && type <= VALUES.length ? VALUES[type - 1] : null;
+		}
+	}
+
+	/**
+	 * Listener is told about every event as it is recorded, on the thread of the game that
+	 * recorded it, so it must be quick and thread-safe.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public interface Listener
+	{
+		/**
+		 * Called after an event is recorded. The arguments are the fields of its record.
+		 *
+		 * @param event the kind of event
+		 * @param game the game number
+		 * @param question the question id, for picks, answers and timeouts
+		 * @param answer the index of the chosen answer, for answers
+		 * @param latencyMicros how long the player took, for answers and timeouts
+		 * @param score the points added, or the final score at the end of a game
+		 */
+		void recorded(Event event, int game, int question, int answer, int latencyMicros, int score);
+	}
+
+	private static final Object SHARED_LOCK = new Object();
+	private static GameJournal shared;
+
+	private final Path directory;
+	private final AtomicLong nextRecord = new AtomicLong();
+	private final AtomicInteger nextGame = new AtomicInteger(1);
+	private final Object segmentLock = new Object();
+	private volatile Segment current;
+	private volatile Segment previous;
+	private volatile Listener[] listeners = new Listener[0];
+	private ScheduledExecutorService flusher;
+	private long forcedSegment; // the first segment that may have pages that were not forced yet
+	private volatile boolean closed;
+
+	/**
+	 * Opens the journal in a directory, creating it if needed, and carries on after the last
+	 * record and game number already in it.
+	 *
+	 * @param directory the directory holding the segment files
+	 * @throws IOException if the directory or a segment cannot be opened
+	 */
+	public GameJournal(Path directory) throws IOException
+	{
+		this.directory = directory;
+		Files.createDirectories(directory);
+		List<Path> segments = segments(directory);
+		for (int i = segments.size() - 1; i >= 0; i--) {
+			long index = segmentIndex(segments.get(i));
+			MappedByteBuffer buffer = map(segments.get(i), FileChannel.MapMode.READ_ONLY);
+			int last = -1;
+			int lastGame = 0;
+			for (int record = 0; record < RECORDS_PER_SEGMENT; record++) {
+				int offset = record * RECORD_BYTES;
+				if (buffer.get(offset + TYPE) != 0) {
+					last = record;
+					lastGame = Math.max(lastGame, buffer.getInt(offset + GAME));
+				}
+			}
+			if (last >= 0) {
+				nextRecord.set(index * RECORDS_PER_SEGMENT + last + 1);
+				nextGame.set(lastGame + 1);
+				break;
+			}
+		}
+		forcedSegment = nextRecord.get() / RECORDS_PER_SEGMENT;
+		current = openSegment(forcedSegment);
+	}
+
+	/**
+	 * Creates a journal that records nothing, for when the shared journal cannot be opened.
+	 */
+	private GameJournal()
+	{
+		directory = null;
+		closed = true;
+	}
+
+	/**
+	 * Returns the journal shared by every game in the process, kept in the journal directory
+	 * of the working directory. It forces its records to disk every second and when the
+	 * program exits. If it cannot be opened the error is printed and nothing is recorded.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @return the shared journal
+	 */
+	public static GameJournal shared()
+	{
+		synchronized (SHARED_LOCK) {
+			if (shared == null) {
+				try {
+					GameJournal journal = new GameJournal(FileManager.JOURNAL_DIRECTORY);
+					journal.startFlusher();
+					Runtime.getRuntime().addShutdownHook(new Thread(journal::close, "journal-shutdown"));
+					shared = journal;
+				} catch (IOException e) {
+					System.out.println("Unable to open the game journal: " + e);
+					shared = new GameJournal();
+				}
+			}
+			return shared;
+		}
+	}
+
+	/**
+	 * Lists the segment files of a journal in the order they were written.
+	 *
+	 * @param directory the journal directory
+	 * @return the segment files, or an empty list if there are none
+	 * @throws IOException if the directory cannot be listed
+	 */
+	public static List<Path> segments(Path directory) throws IOException
+	{
+		List<Path> segments = new ArrayList<>();
+		if (!Files.isDirectory(directory)) {
+			return segments;
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			files.filter(file -> file.getFileName().toString().matches("events-\\d{6}\\.journal"))
+					.sorted()
+					.forEach(segments::add);
+		}
+		return segments;
+	}
+
+	/**
+	 * Maps a whole segment file.
+	 *
+	 * @param segment the segment file
+	 * @param mode READ_ONLY to read it, or READ_WRITE to write it, which creates it if needed
+	 * @return the mapping, in little-endian order
+	 * @throws IOException if the file cannot be mapped
+	 */
+	static MappedByteBuffer map(Path segment, FileChannel.MapMode mode) throws IOException
+	{
+		StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+				? new StandardOpenOption[] { StandardOpenOption.READ }
+				: new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE };
+		try (FileChannel channel = FileChannel.open(segment, options)) {
+			long size = mode == FileChannel.MapMode.READ_ONLY ? Math.min(channel.size(), SEGMENT_BYTES) : SEGMENT_BYTES;
+			MappedByteBuffer buffer = channel.map(mode, 0, size);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			return buffer;
+		}
+	}
+
+	/**
+	 * Adds a listener that is told about every event recorded from now on.
+	 *
+	 * @param listener the listener
+	 */
+	public synchronized void addListener(Listener listener)
+	{
+		Listener[] added = Arrays.copyOf(listeners, listeners.length + 1);
+		added[listeners.length] = listener;
+		listeners = added;
+	}
+
+	/**
+	 * Records the start of a game and gives it a number.
+	 *
+	 * @return the game number, or 0 if nothing is recorded
+	 */
+	public int startGame()
+	{
+		if (closed) {
+			return 0;
+		}
+		int game = nextGame.getAndIncrement();
+		append(Event.START, game, 0, 0, 0, 0, 0, 0);
+		return game;
+	}
+
+	/**
+	 * Records a pick.
+	 *
+	 * @param game the game number
+	 * @param category the category id of the cell
+	 * @param value the value id of the cell
+	 * @param question the id of the question that was dealt
+	 */
+	public void pick(int game, int category, int value, int question)
+	{
+		append(Event.PICK, game, question, category, value, 0, 0, 0);
+	}
+
+	/**
+	 * Records an answer.
+	 *
+	 * @param game the game number
+	 * @param question the id of the question that was answered
+	 * @param answer the index of the chosen answer in the question, where 0 is the correct one
+	 * @param latencyNanos how long the player took to answer
+	 * @param points the points added to the score, or taken away if negative
+	 */
+	public void answer(int game, int question, int answer, long latencyNanos, int points)
+	{
+		append(Event.ANSWER, game, question, 0, 0, micros(latencyNanos), points, answer);
+	}
+
+	/**
+	 * Records a question that ran out of time.
+	 *
+	 * @param game the game number
+	 * @param question the id of the question that ran out of time
+	 * @param latencyNanos how long the question was open
+	 * @param points the points taken away, as a negative number
+	 */
+	public void timedOut(int game, int question, long latencyNanos, int points)
+	{
+		append(Event.TIMED_OUT, game, question, 0, 0, micros(latencyNanos), points, 0);
+	}
+
+	/**
+	 * Records the end of a game.
+	 *
+	 * @param game the game number
+	 * @param score the final score
+	 */
+	public void endGame(int game, int score)
+	{
+		append(Event.END, game, 0, 0, 0, 0, score, 0);
+	}
+
+	/**
+	 * Returns the number of records written since the journal was created, including
+	 * those in earlier runs.
+	 *
+	 * @return the number of records
+	 */
+	public long getRecords()
+	{
+		return nextRecord.get();
+	}
+
+	/**
+	 * Forces every record written so far to disk.
+	 */
+	public void force()
+	{
+		if (directory == null) {
+			return;
+		}
+		synchronized (segmentLock) {
+			long last = current.index;
+			for (long index = forcedSegment; index <= last; index++) {
+				Segment segment = segment(index);
+				if (segment != null) {
+					segment.buffer.force();
+				}
+			}
+			forcedSegment = last;
+		}
+	}
+
+	/**
+	 * Stops recording and forces the records to disk.
+	 */
+	@Override
+	public void close()
+	{
+		if (directory == null) {
+			return;
+		}
+		closed = true;
+		if (flusher != null) {
+			flusher.shutdown();
+		}
+		force();
+	}
+
+	/**
+	 * Starts forcing the records to disk every second.
+	 */
+	private void startFlusher()
+	{
+		flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "journal-flusher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		flusher.scheduleWithFixedDelay(() -> {
+			try {
+				force();
+			} catch (UncheckedIOException e) {
+				System.out.println("Unable to save the game journal: " + e);
+			}
+		}, FORCE_INTERVAL_MILLIS, FORCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Writes one record into the next free place.
+	 */
+	private void append(Event event, int game, int question, int category, int value, int latency, int score, int answer)
+	{
+		for (Listener listener : listeners) {
+			listener.recorded(event, game, question, answer, latency, score);
+		}
+		if (closed) {
+			return;
+		}
+		long record = nextRecord.getAndIncrement();
+		Segment segment = segment(record / RECORDS_PER_SEGMENT);
+		if (segment == null) {
+			return; // the segment could not be created, which was reported
+		}
+		ByteBuffer buffer = segment.buffer;
+		int offset = (int) (record % RECORDS_PER_SEGMENT) * RECORD_BYTES;
+		buffer.putLong(offset + TIME, System.currentTimeMillis());
+		buffer.putInt(offset + GAME, game);
+		buffer.putInt(offset + QUESTION, question);
+		buffer.putShort(offset + CATEGORY, (short) category);
+		buffer.putShort(offset + VALUE, (short) value);
+		buffer.putInt(offset + LATENCY, latency);
+		buffer.putInt(offset + SCORE, score);
+		buffer.put(offset + ANSWER, (byte) answer);
+		buffer.put(offset + TYPE, (byte) (event.ordinal() + 1));
+	}
+
+	/**
+	 * Returns the mapping of a segment, creating the next segment when the records reach it.
+	 */
+	private Segment segment(long index)
+	{
+		Segment segment = current;
+		if (segment.index == index) {
+			return segment;
+		}
+		segment = previous;
+		if (segment != null && segment.index == index) {
+			return segment;
+		}
+		synchronized (segmentLock) {
+			if (current.index == index) {
+				return current;
+			}
+			try {
+				if (index > current.index) {
+					previous = current;
+					current = openSegment(index);
+					return current;
+				}
+				// A writer that fell more than a segment behind maps its segment again
+				return openSegment(index);
+			} catch (IOException e) {
+				System.out.println("Unable to open a game journal segment: " + e);
+				return null;
+			}
+		}
+	}
+
+	private Segment openSegment(long index) throws IOException
+	{
+		Path file = directory.resolve(String.format("events-%06d.journal", index));
+		return new Segment(index, map(file, FileChannel.MapMode.READ_WRITE));
+	}
+
+	static long segmentIndex(Path segment)
+	{
+		String name = segment.getFileName().toString();
+		return Long.parseLong(name.substring("events-".length(), name.length() - ".journal".length()));
+	}
+
+	private static int micros(long nanos)
+	{
+		return (int) Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Segment is the mapping of one segment file.
+	 */
+	private static class Segment
+	{
+		final long index;
+		final MappedByteBuffer buffer;
+
+		Segment(long index, MappedByteBuffer buffer)
+		{
+			this.index = index;
+			this.buffer = buffer;
+		}
+	}
+
+	/**
+	 * Cursor reads the records of one segment in order, skipping places that were never
+	 * written and records of a type it does not know, such as damaged records or those of a
+	 * newer version, so every record it stops at has an event. It reads the fields of the
+	 * current record straight from the mapping, so reading a journal creates no objects per
+	 * record.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Cursor
+	{
+		private final ByteBuffer buffer;
+		private final int limit;
+		private int offset = -RECORD_BYTES;
+
+		/**
+		 * Creates a cursor before the first record of a segment.
+		 *
+		 * @param segment the segment, as mapped by {@link GameJournal#map}
+		 */
+		public Cursor(ByteBuffer segment)
+		{
+			buffer = segment.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+			limit = buffer.limit() - RECORD_BYTES;
+		}
+
+		/**
+		 * Moves to the next record that was written with a known type.
+		 *
+		 * @return false if there are no more records
+		 */
+		public boolean next()
+		{
+			do {
+				offset += RECORD_BYTES;
+				if (offset > limit) {
+					return false;
+				}
+			} while (Event.of(buffer.get(offset + TYPE)) == null);
+			return true;
+		}
+
+		/**
+		 * Returns the kind of record.
+		 *
+		 * @return the event
+		 */
+		public Event event()
+		{
+			return Event.of(buffer.get(offset + TYPE));
+		}
+
+		/**
+		 * Returns when the event happened.
+		 *
+		 * @return the time in milliseconds since 1970
+		 */
+		public long time()
+		{
+			return buffer.getLong(offset + TIME);
+		}
+
+		/**
+		 * Returns the game number.
+		 *
+		 * @return the game number
+		 */
+		public int game()
+		{
+			return buffer.getInt(offset + GAME);
+		}
+
+		/**
+		 * Returns the question id of a pick, answer or timeout.
+		 *
+		 * @return the question id
+		 */
+		public int question()
+		{
+			return buffer.getInt(offset + QUESTION);
+		}
+
+		/**
+		 * Returns the category id of a pick.
+		 *
+		 * @return the category id
+		 */
+		public int category()
+		{
+			return buffer.getShort(offset + CATEGORY);
+		}
+
+		/**
+		 * Returns the value id of a pick.
+		 *
+		 * @return the value id
+		 */
+		public int value()
+		{
+			return buffer.getShort(offset + VALUE);
+		}
+
+		/**
+		 * Returns how long the player took on an answer or timeout.
+		 *
+		 * @return the latency in microseconds
+		 */
+		public int latencyMicros()
+		{
+			return buffer.getInt(offset + LATENCY);
+		}
+
+		/**
+		 * Returns the points added on an answer or timeout, or the final score at the end of a game.
+		 *
+		 * @return the points, negative if they were taken away
+		 */
+		public int score()
+		{
+			return buffer.getInt(offset + SCORE);
+		}
+
+		/**
+		 * Returns the index of the chosen answer in the question, where 0 is the correct one.
+		 *
+		 * @return the answer index
+		 */
+		public int answer()
+		{
+			return buffer.get(offset + ANSWER);
+		}
+	}
+}
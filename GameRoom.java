@@ -0,0 +1,354 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: GameRoom.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * GameRoom plays one game with one connected player over a simple line protocol.
+ * Every message is one UTF-8 line. The room greets the player with
+ * "WELCOME &lt;categories&gt; &lt;values&gt;" and then answers these commands:
+ * <pre>
+ * NAME name       sets the player's name before the first pick    -&gt; OK
+ * CATEGORIES      lists the category names                        -&gt; CATEGORIES name|name|...
+ * BOARD           shows which cells are still open, category by
+ *                 category with 1 for open and 0 for used         -&gt; BOARD 1101...
+ * PICK c v        opens the question at category c and value v    -&gt; QUESTION points seconds text
+ *                                                                    CHOICE 1 text ... CHOICE 4 text
+ * ANSWER n        answers the open question with choice n (1-4)   -&gt; CORRECT|INCORRECT|TIMED_OUT score
+ * SCORE           shows the score                                 -&gt; SCORE score
+ * QUIT            leaves the room                                 -&gt; BYE
+ * </pre>
+ * If the time runs out the room sends "TIMED_OUT score" on its own, when the shared
+ * TimingWheel reaches the question's deadline. After the last
+ * question the room submits the score to the shared Leaderboard, sends "GAMEOVER score"
+ * and closes. Mistakes are reported as "ERROR message" and the room stays open.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class GameRoom implements Runnable
+{
+	// How long a room waits for a player who sends nothing before giving up
+	private static final int IDLE_TIMEOUT_MILLIS = (int) TimeUnit.MINUTES.toMillis(5);
+	private static final int MAX_LINE_LENGTH = 1024;
+
+	// Sends the messages of questions that ran out of time, so a slow player never holds up the shared clock
+	private static final ExecutorService TIMEOUTS = GameServer.newRoomExecutor();
+
+	private final Socket socket;
+	private final QuestionDeck deck;
+	private InputStream in;
+	private Writer out;
+	private byte[] line = new byte[128]; // the line being read
+	private int lineLength;
+	private String playerName = "Player";
+	private GameEngine engine; // created by the first pick
+	private long questionSentAt; // when the open question was sent, for the answer latency metric
+	private TimingWheel.Timeout timeout; // closes the open question when its time runs out
+	private int questionNumber; // counts questions, so a timeout left over from an old question is ignored
+
+	/**
+	 * Creates a room for a connected player.
+	 *
+	 * @param socket the player's connection
+	 * @param deck the deck to deal questions from
+	 */
+	public GameRoom(Socket socket, QuestionDeck deck)
+	{
+		this.socket = socket;
+		this.deck = deck;
+	}
+
+	/**
+	 * Plays the game until it ends, the player leaves or the connection fails.
+	 */
+	@Override
+	public void run()
+	{
+		try (Socket connection = socket) {
+			// Small buffers keep the memory of each room low
+			in = new BufferedInputStream(connection.getInputStream(), 1024);
+			out = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8), 1024);
+			QuestionSource bank = deck.bank();
+			send("WELCOME " + bank.categoryCount() + " " + bank.valueCount());
+			out.flush();
+
+			// Question timeouts come from the shared clock, so a read only times out when the player is idle
+			connection.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+			boolean open = true;
+			while (open) {
+				String command;
+				try {
+					command = readLine();
+				} catch (SocketTimeoutException e) {
+					break;
+				}
+				if (command == null) {
+					break;
+				}
+				synchronized (this) {
+					open = handle(command.trim());
+					out.flush();
+				}
+			}
+		} catch (IOException e) {
+			// The player disconnected, or the last question ran out of time; there is nobody left to tell
+		} finally {
+			synchronized (this) {
+				questionNumber++;
+				if (timeout != null) {
+					timeout.cancel();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles one command from the player.
+	 *
+	 * @param command the command line
+	 * @return false if the room should close
+	 * @throws IOException if the reply cannot be sent
+	 */
+	private boolean handle(String command) throws IOException
+	{
+		int space = command.indexOf(' ');
+		String verb = (space < 0 ? command : command.substring(0, space)).toUpperCase(Locale.ROOT);
+		String argument = space < 0 ? "" : command.substring(space + 1).trim();
+		try {
+			switch (verb) {
+				case "NAME":
+					if (engine != null) {
+						send("ERROR the game has already started");
+					} else if (argument.isEmpty()) {
+						send("ERROR a name is needed");
+					} else {
+						playerName = argument;
+						send("OK");
+					}
+					return true;
+				case "CATEGORIES":
+					StringBuilder names = new StringBuilder("CATEGORIES ");
+					for (int i = 0; i < deck.bank().categoryCount(); i++) {
+						names.append(i == 0 ? "" : "|").append(deck.bank().categoryName(i));
+					}
+					send(names.toString());
+					return true;
+				case "BOARD":
+					send("BOARD " + board());
+					return true;
+				case "PICK":
+					return pick(argument);
+				case "ANSWER":
+					return answer(argument);
+				case "SCORE":
+					send("SCORE " + (engine == null ? 0 : engine.getPlayer().getScore()));
+					return true;
+				case "QUIT":
+					send("BYE");
+					return false;
+				default:
+					send("ERROR unknown command " + verb);
+					return true;
+			}
+		} catch (NumberFormatException e) {
+			send("ERROR expected a number but got " + argument);
+			return true;
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			send("ERROR " + e.getMessage());
+			return true;
+		}
+	}
+
+	/**
+	 * Opens the question in the requested cell and sends it with its shuffled choices.
+	 */
+	private boolean pick(String argument) throws IOException
+	{
+		String[] cell = argument.split("\\s+");
+		if (cell.length != 2) {
+			send("ERROR PICK needs a category and a value");
+			return true;
+		}
+		GameEngine game = engine();
+		if (game.getClue() != null) {
+			// Picking again after the time ran out closes the old question first
+			if (!finishQuestion(game.checkTimeout())) {
+				return false;
+			}
+		}
+		Clue clue = game.pick(Integer.parseInt(cell[0]), Integer.parseInt(cell[1]));
+		AnswerShuffler order = game.getAnswerOrder();
+		send("QUESTION " + game.getCluePoints() + " " + game.getSecondsLeft() + " " + clue.question());
+		for (int i = 0; i < order.size(); i++) {
+			send("CHOICE " + (i + 1) + " " + clue.answer(order.answerAt(i)));
+		}
+		questionSentAt = Metrics.start();
+		scheduleTimeout();
+		return true;
+	}
+
+	/**
+	 * Answers the open question with the choice the player made.
+	 */
+	private boolean answer(String argument) throws IOException
+	{
+		int choice = Integer.parseInt(argument);
+		if (choice < 1 || choice > QuestionSource.ANSWER_COUNT) {
+			send("ERROR choices are numbered 1 to " + QuestionSource.ANSWER_COUNT);
+			return true;
+		}
+		if (engine == null || engine.getClue() == null) {
+			send("ERROR no question is open");
+			return true;
+		}
+		Metrics.ANSWER_LATENCY.stop(questionSentAt);
+		return finishQuestion(engine.answerChoice(choice - 1));
+	}
+
+	/**
+	 * Reports how a question ended and ends the game after the last question.
+	 *
+	 * @param outcome how the question ended, or null if it is still open
+	 * @return false if the game is over and the room should close
+	 */
+	private boolean finishQuestion(GameEngine.Outcome outcome) throws IOException
+	{
+		if (outcome == null) {
+			return true;
+		}
+		questionNumber++;
+		timeout.cancel();
+		int score = engine.getPlayer().getScore();
+		send(outcome + " " + score);
+		if (engine.isOver()) {
+			Leaderboard.shared().submit(playerName, score);
+			send("GAMEOVER " + score);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the game, starting it on the first call.
+	 */
+	private GameEngine engine()
+	{
+		if (engine == null) {
+			engine = new GameEngine(new QuestionHandler(deck), new Player(playerName));
+		}
+		return engine;
+	}
+
+	/**
+	 * Describes the board as one character per cell: 1 if it is open and 0 if it is used.
+	 */
+	private String board()
+	{
+		QuestionSource bank = deck.bank();
+		StringBuilder board = new StringBuilder(bank.categoryCount() * bank.valueCount());
+		for (int category = 0; category < bank.categoryCount(); category++) {
+			for (int value = 0; value < bank.valueCount(); value++) {
+				boolean open = engine == null ? bank.bucketSize(category, value) > 0 : !engine.isAnswered(category, value);
+				board.append(open ? '1' : '0');
+			}
+		}
+		return board.toString();
+	}
+
+	/**
+	 * Asks the shared clock to close the open question at its deadline. The clock only hands
+	 * the work to another thread, which sends the timeout to the player.
+	 */
+	private void scheduleTimeout()
+	{
+		int question = ++questionNumber;
+		timeout = TimingWheel.shared().schedule(engine.getNanosLeft(), () -> TIMEOUTS.execute(() -> timeUp(question)));
+	}
+
+	/**
+	 * Closes a question whose time ran out and tells the player, unless it was answered first.
+	 * If it was the last question, the connection is closed to end the room.
+	 */
+	private synchronized void timeUp(int question)
+	{
+		if (question != questionNumber) {
+			return;
+		}
+		try {
+			GameEngine.Outcome outcome = engine.checkTimeout();
+			if (outcome == null) {
+				// The engine's clock is behind the wheel, so wait for the time it has left
+				scheduleTimeout();
+				return;
+			}
+			boolean open = finishQuestion(outcome);
+			out.flush();
+			if (!open) {
+				socket.close();
+			}
+		} catch (IOException e) {
+			// The player disconnected; the room's own thread will notice
+		}
+	}
+
+	/**
+	 * Reads one line.
+	 *
+	 * @return the line without its line ending, or null at the end of the stream
+	 * @throws IOException if the connection fails, the read times out or the line is too long
+	 */
+	private String readLine() throws IOException
+	{
+		while (true) {
+			int next = in.read();
+			if (next < 0) {
+				return null;
+			}
+			if (next == '\n') {
+				int length = lineLength;
+				lineLength = 0;
+				if (length > 0 && line[length - 1] == '\r') {
+					length--;
+				}
+				return new String(line, 0, length, StandardCharsets.UTF_8);
+			}
+			if (lineLength == MAX_LINE_LENGTH) {
+				throw new IOException("Line too long");
+			}
+			if (lineLength == line.length) {
+				line = Arrays.copyOf(line, Math.min(line.length * 2, MAX_LINE_LENGTH));
+			}
+			line[lineLength++] = (byte) next;
+		}
+	}
+
+	/**
+	 * Queues one line for the player. Lines are flushed once the command has been handled.
+	 */
+	private void send(String message) throws IOException
+	{
+		out.write(message);
+		out.write('\n');
+	}
+}
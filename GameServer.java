@@ -0,0 +1,186 @@
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: GameServer.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * GameServer hosts games of Jeopardy over TCP. Every connection gets its own GameRoom,
+ * which plays one game with a GameEngine and talks the line protocol described there.
+ * Rooms run on virtual threads when the Java runtime has them, so each room costs a small
+ * heap stack instead of an operating system thread, and every room deals from the one
+ * shared question bank and deck in QuestionBankCache.
+ *
+ * <p>Start it with "java Main --server [port]".
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class GameServer
+{
+	/** The port the server listens on when none is given. */
+	public static final int DEFAULT_PORT = 5150;
+
+	// Executors.newVirtualThreadPerTaskExecutor, which only exists on Java 21 and later
+	private static final Method VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+	/** Whether rooms run on virtual threads. */
+	static final boolean VIRTUAL_THREADS = VIRTUAL_EXECUTOR != null;
+
+	private final int port;
+	private final ExecutorService rooms = newRoomExecutor();
+	private final AtomicInteger openRooms = new AtomicInteger();
+	private final AtomicLong gamesPlayed = new AtomicLong();
+	private volatile ServerSocket serverSocket;
+
+	/**
+	 * Creates a server for a port. Nothing happens until {@link #run()} is called.
+	 *
+	 * @param port the port to listen on, or 0 to let the system pick one
+	 */
+	public GameServer(int port)
+	{
+		this.port = port;
+	}
+
+	/**
+	 * Listens for players and opens a room for each connection until the server is closed.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @throws IOException if the port cannot be opened
+	 */
+	public void run() throws IOException
+	{
+		// Load the shared question bank before the first player arrives
+		QuestionDeck deck = QuestionBankCache.getDeck();
+
+		try (ServerSocket server = new ServerSocket()) {
+			server.setReuseAddress(true);
+			server.bind(new InetSocketAddress(port), 1024);
+			serverSocket = server;
+			System.out.println("Jeopardy server listening on port " + server.getLocalPort() + " with "
+					+ deck.bank().size() + " questions (" + (VIRTUAL_THREADS ? "virtual" : "platform") + " threads)");
+
+			while (!server.isClosed()) {
+				Socket socket;
+				try {
+					socket = server.accept();
+				} catch (IOException e) {
+					if (server.isClosed()) {
+						break;
+					}
+					System.out.println(e);
+					continue;
+				}
+				socket.setTcpNoDelay(true);
+				openRooms.incrementAndGet();
+				rooms.execute(() -> {
+					try {
+						new GameRoom(socket, QuestionBankCache.getDeck()).run();
+						gamesPlayed.incrementAndGet();
+					} finally {
+						openRooms.decrementAndGet();
+					}
+				});
+			}
+		} finally {
+			rooms.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns the port the server is listening on, which is useful when it was started on port 0.
+	 *
+	 * @return the local port, or -1 if the server is not listening yet
+	 */
+	public int getLocalPort()
+	{
+		ServerSocket server = serverSocket;
+		return server == null ? -1 : server.getLocalPort();
+	}
+
+	/**
+	 * Returns the number of rooms with a connected player.
+	 *
+	 * @return the number of open rooms
+	 */
+	public int getOpenRooms()
+	{
+		return openRooms.get();
+	}
+
+	/**
+	 * Returns the number of rooms that have closed.
+	 *
+	 * @return the number of finished rooms
+	 */
+	public long getGamesPlayed()
+	{
+		return gamesPlayed.get();
+	}
+
+	/**
+	 * Stops accepting players. Rooms that are still open are interrupted.
+	 *
+	 * @throws IOException if the server socket cannot be closed
+	 */
+	public void close() throws IOException
+	{
+		ServerSocket server = serverSocket;
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	/**
+	 * Creates an executor with one virtual thread per task, or a cached pool of platform
+	 * threads with small stacks on runtimes older than Java 21.
+	 *
+	 * @return the executor for rooms or client connections
+	 */
+	static ExecutorService newRoomExecutor()
+	{
+		if (VIRTUAL_THREADS) {
+			try {
+				return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+			} catch (ReflectiveOperationException e) {
+				System.out.println("Unable to start virtual threads: " + e);
+			}
+		}
+		return Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(null, runnable, "game-room", 256 * 1024);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Looks up the virtual thread executor factory.
+	 */
+	private static Method findVirtualExecutor()
+	{
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,233 @@
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: JournalReplayer.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * JournalReplayer rebuilds games from a GameJournal by playing their recorded answers and
+ * timeouts back onto a Player, so a score can be checked against what actually happened.
+ *
+ * <p>Run "java JournalReplayer [directory]" to replay every game and list those whose
+ * replayed score differs from the final score that was recorded, or
+ * "java JournalReplayer [directory] game" to print one game event by event.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class JournalReplayer
+{
+	private final Path directory;
+
+	/**
+	 * Creates a replayer for a journal.
+	 *
+	 * @param directory the journal directory
+	 */
+	public JournalReplayer(Path directory)
+	{
+		this.directory = directory;
+	}
+
+	/**
+	 * Replays every game in the journal, or prints one game, and reports what it found.
+	 *
+	 * @param args the journal directory, which defaults to the game's journal, and optionally a game number
+	 * @throws IOException if the journal cannot be read
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		Path directory = args.length > 0 ? Path.of(args[0]) : FileManager.JOURNAL_DIRECTORY;
+		JournalReplayer replayer = new JournalReplayer(directory);
+		if (args.length > 1) {
+			int game = Integer.parseInt(args[1]);
+			replayer.print(game);
+			Player player = replayer.replay(game);
+			System.out.println(player == null ? "Game " + game + " is not in the journal" : "Final score: " + player.getScore());
+			return;
+		}
+
+		long start = System.nanoTime();
+		Summary summary = replayer.replayAll();
+		long millis = (System.nanoTime() - start) / 1_000_000;
+		System.out.printf("%,d events in %,d games (%,d finished) replayed in %,d ms%n",
+				summary.getEvents(), summary.getPlayers().size(), summary.getFinishedGames(), millis);
+		for (int game : summary.getMismatches().keySet()) {
+			System.out.printf("Game %d: recorded final score %d, replayed %d%n",
+					game, summary.getMismatches().get(game), summary.getPlayers().get(game).getScore());
+		}
+	}
+
+	/**
+	 * Rebuilds the final score of one game.
+	 *
+	 * @param game the game number
+	 * @return a player named after the game with the game's score, or null if the game is not in the journal
+	 * @throws IOException if the journal cannot be read
+	 */
+	public Player replay(int game) throws IOException
+	{
+		Player player = null;
+		for (Path segment : GameJournal.segments(directory)) {
+			GameJournal.Cursor cursor = new GameJournal.Cursor(GameJournal.map(segment, FileChannel.MapMode.READ_ONLY));
+			while (cursor.next()) {
+				if (cursor.game() != game) {
+					continue;
+				}
+				if (player == null) {
+					player = new Player("Game " + game);
+				}
+				apply(player, cursor);
+			}
+		}
+		return player;
+	}
+
+	/**
+	 * Rebuilds the final score of every game in one pass over the journal.
+	 *
+	 * @return the players and the games whose recorded final score does not match
+	 * @throws IOException if the journal cannot be read
+	 */
+	public Summary replayAll() throws IOException
+	{
+		Summary summary = new Summary();
+		Map<Integer, Integer> recorded = new HashMap<>();
+		for (Path segment : GameJournal.segments(directory)) {
+			GameJournal.Cursor cursor = new GameJournal.Cursor(GameJournal.map(segment, FileChannel.MapMode.READ_ONLY));
+			while (cursor.next()) {
+				summary.events++;
+				Player player = summary.players.computeIfAbsent(cursor.game(), game -> new Player("Game " + game));
+				apply(player, cursor);
+				if (cursor.event() == GameJournal.Event.END) {
+					recorded.put(cursor.game(), cursor.score());
+				}
+			}
+		}
+		summary.finishedGames = recorded.size();
+		for (Map.Entry<Integer, Integer> end : recorded.entrySet()) {
+			if (summary.players.get(end.getKey()).getScore() != end.getValue()) {
+				summary.mismatches.put(end.getKey(), end.getValue());
+			}
+		}
+		return summary;
+	}
+
+	/**
+	 * Prints every event of one game.
+	 *
+	 * @param game the game number
+	 * @throws IOException if the journal cannot be read
+	 */
+	public void print(int game) throws IOException
+	{
+		for (Path segment : GameJournal.segments(directory)) {
+			GameJournal.Cursor cursor = new GameJournal.Cursor(GameJournal.map(segment, FileChannel.MapMode.READ_ONLY));
+			while (cursor.next()) {
+				if (cursor.game() != game) {
+					continue;
+				}
+				String time = Instant.ofEpochMilli(cursor.time()).toString();
+				switch (cursor.event()) {
+					case PICK:
+						System.out.printf("%s PICK category %d value %d question %d%n", time, cursor.category(), cursor.value(), cursor.question());
+						break;
+					case ANSWER:
+						System.out.printf("%s ANSWER %d to question %d after %,d us: %+d%n", time, cursor.answer(), cursor.question(), cursor.latencyMicros(), cursor.score());
+						break;
+					case TIMED_OUT:
+						System.out.printf("%s TIMED_OUT on question %d after %,d us: %+d%n", time, cursor.question(), cursor.latencyMicros(), cursor.score());
+						break;
+					case END:
+						System.out.printf("%s END with %d%n", time, cursor.score());
+						break;
+					default:
+						System.out.printf("%s %s%n", time, cursor.event());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Scores an answer or timeout.
+	 */
+	private static void apply(Player player, GameJournal.Cursor cursor)
+	{
+		GameJournal.Event event = cursor.event();
+		if (event == GameJournal.Event.ANSWER || event == GameJournal.Event.TIMED_OUT) {
+			int points = cursor.score();
+			if (points >= 0) {
+				player.addPoints(points);
+			} else {
+				player.subtractPoints(-points);
+			}
+		}
+	}
+
+	/**
+	 * Summary holds what a replay of the whole journal found.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Summary
+	{
+		private final Map<Integer, Player> players = new HashMap<>();
+		private final Map<Integer, Integer> mismatches = new HashMap<>();
+		private long events;
+		private int finishedGames;
+
+		/**
+		 * Returns the replayed player of every game.
+		 *
+		 * @return the players by game number
+		 */
+		public Map<Integer, Player> getPlayers()
+		{
+			return players;
+		}
+
+		/**
+		 * Returns the finished games whose replayed score differs from the recorded final score.
+		 *
+		 * @return the recorded final scores by game number
+		 */
+		public Map<Integer, Integer> getMismatches()
+		{
+			return mismatches;
+		}
+
+		/**
+		 * Returns the number of records replayed.
+		 *
+		 * @return the number of events
+		 */
+		public long getEvents()
+		{
+			return events;
+		}
+
+		/**
+		 * Returns the number of games that reached their end.
+		 *
+		 * @return the number of finished games
+		 */
+		public int getFinishedGames()
+		{
+			return finishedGames;
+		}
+	}
+}
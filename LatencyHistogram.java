@@ -0,0 +1,241 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: LatencyHistogram.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * LatencyHistogram counts how often each latency happens, in buckets laid out the way
+ * HdrHistogram lays them out: the values below 128 each have a bucket, and every power of two
+ * above that is split into 64 buckets. Every value is counted within 1/64 (about 1.6%) of
+ * itself, from a nanosecond up to Long.MAX_VALUE, in a fixed array of under 4,000 counts.
+ *
+ * <p>Recording a value is one atomic increment of its bucket and one add to a LongAdder, so
+ * any number of threads can record at once without locking. A snapshot copies the counts,
+ * and percentiles are read from the copy.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // the values below this each have a bucket
+	private static final int HALF = SUB_BUCKETS >> 1; // buckets per power of two above that
+	private static final int BUCKETS = indexOf(Long.MAX_VALUE) + 1;
+
+	private final String name;
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Creates an empty histogram.
+	 *
+	 * @param name the name the histogram is reported under
+	 */
+	public LatencyHistogram(String name)
+	{
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name the histogram is reported under.
+	 *
+	 * @return the name
+	 */
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Counts one value. Negative values are counted as 0.
+	 *
+	 * @param value the value, usually in nanoseconds
+	 */
+	public void record(long value)
+	{
+		value = Math.max(value, 0);
+		counts.incrementAndGet(indexOf(value));
+		total.add(value);
+		if (value > max.get()) {
+			max.accumulateAndGet(value, Math::max);
+		}
+	}
+
+	/**
+	 * Copies the counts so far.
+	 *
+	 * @return a snapshot of the histogram
+	 */
+	public Snapshot snapshot()
+	{
+		long[] copy = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = counts.get(i);
+			count += copy[i];
+		}
+		return new Snapshot(name, copy, count, total.sum(), max.get());
+	}
+
+	/**
+	 * Returns the bucket a value is counted in.
+	 */
+	static int indexOf(long value)
+	{
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+		return shift * HALF + (int) (value >>> shift);
+	}
+
+	/**
+	 * Returns the highest value counted in a bucket.
+	 */
+	static long highestValueAt(int index)
+	{
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / HALF - 1;
+		long lowest = (long) (index - shift * HALF) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	/**
+	 * A copy of a histogram's counts. Its getters are the attributes a JMX client sees.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Snapshot
+	{
+		private final String name;
+		private final long[] counts;
+		private final long count;
+		private final long total;
+		private final long max;
+
+		private Snapshot(String name, long[] counts, long count, long total, long max)
+		{
+			this.name = name;
+			this.counts = counts;
+			this.count = count;
+			this.total = total;
+			this.max = max;
+		}
+
+		/**
+		 * Returns the name of the histogram.
+		 *
+		 * @return the name
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * Returns the number of values counted.
+		 *
+		 * @return the count
+		 */
+		public long getCount()
+		{
+			return count;
+		}
+
+		/**
+		 * Returns the average of the values counted.
+		 *
+		 * @return the mean, or 0 if nothing was counted
+		 */
+		public long getMean()
+		{
+			return count == 0 ? 0 : total / count;
+		}
+
+		/**
+		 * Returns the median of the values counted.
+		 *
+		 * @return the 50th percentile
+		 */
+		public long getMedian()
+		{
+			return percentile(50);
+		}
+
+		/**
+		 * Returns the 90th percentile of the values counted.
+		 *
+		 * @return the 90th percentile
+		 */
+		public long getP90()
+		{
+			return percentile(90);
+		}
+
+		/**
+		 * Returns the 99th percentile of the values counted.
+		 *
+		 * @return the 99th percentile
+		 */
+		public long getP99()
+		{
+			return percentile(99);
+		}
+
+		/**
+		 * Returns the 99.9th percentile of the values counted.
+		 *
+		 * @return the 99.9th percentile
+		 */
+		public long getP999()
+		{
+			return percentile(99.9);
+		}
+
+		/**
+		 * Returns the highest value counted, exactly.
+		 *
+		 * @return the maximum, or 0 if nothing was counted
+		 */
+		public long getMax()
+		{
+			return max;
+		}
+
+		/**
+		 * Returns the value that a given percentage of the values are at or below. The value
+		 * is the top of its bucket, so it is at most 1/64 above the true percentile.
+		 *
+		 * @param percent the percentage, from 0 to 100
+		 * @return the percentile, or 0 if nothing was counted
+		 */
+		public long percentile(double percent)
+		{
+			long rank = Math.max(1, (long) Math.ceil(count * percent / 100));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return Math.min(highestValueAt(i), max);
+				}
+			}
+			return max;
+		}
+	}
+}
@@ -0,0 +1,629 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: Leaderboard.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Leaderboard keeps the best scores of every game in the process, best first.
+ * The scores live in a concurrent skip list, so any number of games can submit scores at
+ * once without a global lock, and reading the high score never blocks.
+ *
+ * <p>Scores are saved in two files. Every score that makes the board is appended to a log
+ * as one line, and every so often the log is compacted: the whole board is written to a
+ * temporary file which is then atomically renamed over the snapshot, and the log is
+ * emptied. Loading reads the snapshot and replays the log over it. A line cut short by a
+ * crash is ignored, and replaying a line the snapshot already has changes nothing, so the
+ * board survives a crash at any point.
+ *
+ * <p>Submitting a score never touches the disk, so it is safe on the Swing event thread.
+ * Scores that make the board go to a bounded queue, and a background writer saves them in
+ * batches: a batch is written once it is full or a short time after its first score, and
+ * scores that have already been pushed off the board by the time of the write are skipped,
+ * so a burst of scores costs a few lines instead of one write each. If the queue ever fills
+ * up, the writer saves the whole board instead. {@link #close()} drains the queue, and the
+ * shared board is closed when the program exits.
+ *
+ * <p>Each snapshot line is "name%score%sequence", best first, so the first line still starts
+ * with the "name%score" of the old single-line HighScore.txt, and an old file loads as is.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class Leaderboard
+{
+	/** The number of scores kept on the board. */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	// How many log lines are written before the log is folded into the snapshot
+	private static final int COMPACT_AFTER = 64;
+
+	// Scores waiting to be written, and when a batch of them is written
+	private static final int QUEUE_CAPACITY = 1024;
+	private static final int FLUSH_SIZE = 64;
+	private static final long FLUSH_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+	// Best score first; equal scores are ranked by who got them first
+	private static final Comparator<Entry> RANKING = Comparator.comparingInt((Entry entry) -> -entry.score)
+			.thenComparingLong(entry -> entry.sequence);
+
+	private static final Object SHARED_LOCK = new Object();
+	private static Leaderboard shared; // created on first use, guarded by SHARED_LOCK
+
+	private final Path snapshot;
+	private final Path log;
+	private final int capacity;
+	private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(RANKING);
+	private final AtomicInteger size = new AtomicInteger(); // entries.size() without walking the list
+	private final AtomicLong sequence = new AtomicLong(1);
+
+	// The open log and how many lines it has, guarded by this
+	private FileChannel logChannel;
+	private int logLines;
+
+	// The background writer and its queue; STOP tells the writer to finish
+	private static final Entry STOP = new Entry("", 0, -1);
+	private final BlockingQueue<Entry> pending = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private volatile boolean overflowed; // a score did not fit in the queue, so save the whole board
+	private volatile Thread writer;
+
+	// Writer metrics
+	private final AtomicInteger maxQueueDepth = new AtomicInteger();
+	private final AtomicLong flushes = new AtomicLong();
+	private final AtomicLong written = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong totalFlushNanos = new AtomicLong();
+	private final AtomicLong maxFlushNanos = new AtomicLong();
+
+	/**
+	 * Opens a leaderboard, loading the snapshot and replaying the log.
+	 * Missing files are treated as an empty board.
+	 *
+	 * @param snapshot the snapshot file
+	 * @param log the log file
+	 * @param capacity the number of scores to keep
+	 * @throws IOException if the files exist but cannot be read or the log cannot be opened
+	 */
+	public Leaderboard(Path snapshot, Path log, int capacity) throws IOException
+	{
+		if (capacity < 1) {
+			throw new IllegalArgumentException("A leaderboard needs room for at least one score");
+		}
+		this.snapshot = snapshot;
+		this.log = log;
+		this.capacity = capacity;
+
+		load(snapshot);
+		long logLength = load(log);
+		logChannel = FileChannel.open(log, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+		// Drop a line a crash cut short, so the next line does not run into it
+		logChannel.truncate(logLength);
+		logChannel.position(logLength);
+		if (logLines > 0) {
+			compact();
+		}
+
+		writer = new Thread(this::writeLoop, "high-score-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Returns the leaderboard shared by every game in the process, kept in HighScore.txt and
+	 * HighScore.log in the working directory. If the files cannot be opened the error is
+	 * printed and an empty board that is not saved is used instead.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @return the shared leaderboard
+	 */
+	public static Leaderboard shared()
+	{
+		synchronized (SHARED_LOCK) {
+			if (shared == null) {
+				try {
+					Leaderboard board = new Leaderboard(FileManager.HIGH_SCORE_FILE, FileManager.HIGH_SCORE_LOG, DEFAULT_CAPACITY);
+					Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+						try {
+							board.close();
+						} catch (IOException e) {
+							System.out.println("Unable to save the high scores: " + e);
+						}
+					}, "high-score-shutdown"));
+					shared = board;
+				} catch (IOException e) {
+					System.out.println("Unable to open the high scores: " + e);
+					shared = new Leaderboard(DEFAULT_CAPACITY);
+				}
+			}
+			return shared;
+		}
+	}
+
+	/**
+	 * Returns the shared leaderboard if a game has opened it, without opening it, so the
+	 * metrics can report on the writer without loading the high scores.
+	 *
+	 * @return the shared leaderboard, or null if it has not been opened
+	 */
+	static Leaderboard sharedIfOpen()
+	{
+		synchronized (SHARED_LOCK) {
+			return shared;
+		}
+	}
+
+	/**
+	 * Creates a board that is only kept in memory.
+	 */
+	private Leaderboard(int capacity)
+	{
+		this.snapshot = null;
+		this.log = null;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Submits a score. Scores too low for a full board are turned away without any writes,
+	 * and scores that make the board are saved in the background.
+	 *
+	 * @param name the player's name
+	 * @param score the score
+	 * @return true if the score made the board
+	 */
+	public boolean submit(String name, int score)
+	{
+		// Cheap check first: most scores do not beat the lowest score on a full board
+		if (size.get() >= capacity) {
+			Entry lowest = lowest();
+			if (lowest != null && score <= lowest.score) {
+				return false;
+			}
+		}
+
+		Entry entry = new Entry(clean(name), score, sequence.getAndIncrement());
+		if (!insert(entry)) {
+			return false;
+		}
+		enqueue(entry);
+		return true;
+	}
+
+	/**
+	 * Returns the best entry.
+	 *
+	 * @return the best entry, or null if the board is empty
+	 */
+	public Entry top()
+	{
+		Iterator<Entry> best = entries.iterator();
+		return best.hasNext() ? best.next() : null;
+	}
+
+	/**
+	 * Returns the best score.
+	 *
+	 * @return the best score, or 0 if the board is empty
+	 */
+	public int getHighScore()
+	{
+		Entry top = top();
+		return top == null ? 0 : top.score;
+	}
+
+	/**
+	 * Returns the name of the player with the best score.
+	 *
+	 * @return the name, or an empty string if the board is empty
+	 */
+	public String getHighScoreName()
+	{
+		Entry top = top();
+		return top == null ? "" : top.name;
+	}
+
+	/**
+	 * Returns the entries on the board, best first.
+	 *
+	 * @return a copy of the board
+	 */
+	public List<Entry> entries()
+	{
+		return new ArrayList<>(entries);
+	}
+
+	/**
+	 * Writes the whole board to the snapshot and empties the log. The snapshot is written to a
+	 * temporary file first and then renamed over the old one, so it is never half written.
+	 *
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public synchronized void compact() throws IOException
+	{
+		if (logChannel == null) {
+			return;
+		}
+		StringBuilder board = new StringBuilder();
+		for (Entry entry : entries) {
+			board.append(entry.toLine());
+		}
+		Path temporary = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			write(channel, board.toString());
+			channel.force(true);
+		}
+		Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		// Everything in the log is in the snapshot now; a crash before this only replays it again
+		logChannel.truncate(0);
+		logChannel.position(0);
+		logChannel.force(true);
+		logLines = 0;
+	}
+
+	/**
+	 * Waits for the writer to save the queued scores, then compacts the log and closes it.
+	 * Scores submitted afterwards are only kept in memory.
+	 *
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void close() throws IOException
+	{
+		Thread running;
+		synchronized (this) {
+			running = writer;
+			writer = null;
+		}
+		if (running != null) {
+			try {
+				pending.put(STOP);
+				running.join(TimeUnit.SECONDS.toMillis(10));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		closeLog();
+	}
+
+	/**
+	 * Returns how many scores are waiting to be written.
+	 *
+	 * @return the queue depth
+	 */
+	public int getQueueDepth()
+	{
+		return pending.size();
+	}
+
+	/**
+	 * Returns the most scores that have been waiting to be written at once.
+	 *
+	 * @return the highest queue depth
+	 */
+	public int getMaxQueueDepth()
+	{
+		return maxQueueDepth.get();
+	}
+
+	/**
+	 * Returns how long the slowest flush took.
+	 *
+	 * @return the highest flush latency in nanoseconds
+	 */
+	public long getMaxFlushNanos()
+	{
+		return maxFlushNanos.get();
+	}
+
+	/**
+	 * Describes the writer's metrics for logging.
+	 *
+	 * @return the metrics as one line
+	 */
+	public String stats()
+	{
+		long count = flushes.get();
+		return "leaderboard writer: queued=" + getQueueDepth() + " maxQueued=" + getMaxQueueDepth()
+				+ " flushes=" + count + " written=" + written.get() + " coalesced=" + coalesced.get()
+				+ " avgFlushMicros=" + (count == 0 ? 0 : totalFlushNanos.get() / count / 1000)
+				+ " maxFlushMicros=" + getMaxFlushNanos() / 1000;
+	}
+
+	/**
+	 * Compacts the log one last time and closes it.
+	 */
+	private synchronized void closeLog() throws IOException
+	{
+		if (logChannel == null) {
+			return;
+		}
+		try {
+			compact();
+		} finally {
+			logChannel.close();
+			logChannel = null;
+		}
+	}
+
+	/**
+	 * Adds an entry to the skip list and trims the board back to its capacity.
+	 *
+	 * @return true if the entry is still on the board after trimming
+	 */
+	private boolean insert(Entry entry)
+	{
+		if (!entries.add(entry)) {
+			return false;
+		}
+		if (size.incrementAndGet() > capacity && entries.pollLast() != null) {
+			size.decrementAndGet();
+		}
+		return entries.contains(entry);
+	}
+
+	/**
+	 * Returns the lowest entry on the board, or null if it is empty.
+	 */
+	private Entry lowest()
+	{
+		Iterator<Entry> worst = entries.descendingIterator();
+		return worst.hasNext() ? worst.next() : null;
+	}
+
+	/**
+	 * Queues an entry for the writer without blocking. The entry is already on the board, so
+	 * if the queue is full the writer saves it with the rest of the board instead.
+	 */
+	private void enqueue(Entry entry)
+	{
+		if (writer == null) {
+			return;
+		}
+		if (!pending.offer(entry)) {
+			// The writer is busy with a full queue, so it sees the flag on its next flush
+			overflowed = true;
+		}
+		maxQueueDepth.accumulateAndGet(pending.size(), Math::max);
+	}
+
+	/**
+	 * Runs the writer: waits for a score, gathers more until the batch is full or the flush
+	 * time has passed, and writes the batch, until STOP is taken from the queue.
+	 */
+	private void writeLoop()
+	{
+		List<Entry> batch = new ArrayList<>(FLUSH_SIZE);
+		boolean running = true;
+		while (running) {
+			try {
+				Entry next = pending.take();
+				long deadline = System.nanoTime() + FLUSH_NANOS;
+				while (true) {
+					if (next == STOP) {
+						running = false;
+						break;
+					}
+					batch.add(next);
+					long left = deadline - System.nanoTime();
+					if (batch.size() >= FLUSH_SIZE || left <= 0) {
+						break;
+					}
+					next = pending.poll(left, TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+				}
+			} catch (InterruptedException e) {
+				running = false;
+			}
+			if (!batch.isEmpty() || overflowed) {
+				flush(batch);
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Writes a batch to the log, skipping entries that have been pushed off the board, and
+	 * compacts the log once it is long enough. After an overflow the whole board is saved.
+	 */
+	private synchronized void flush(List<Entry> batch)
+	{
+		if (logChannel == null) {
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			if (overflowed) {
+				overflowed = false;
+				coalesced.addAndGet(batch.size());
+				compact();
+			} else {
+				StringBuilder lines = new StringBuilder();
+				int count = 0;
+				for (Entry entry : batch) {
+					if (entries.contains(entry)) {
+						lines.append(entry.toLine());
+						count++;
+					}
+				}
+				coalesced.addAndGet(batch.size() - count);
+				if (count > 0) {
+					write(logChannel, lines.toString());
+					logChannel.force(false);
+					written.addAndGet(count);
+					logLines += count;
+					if (logLines >= COMPACT_AFTER) {
+						compact();
+					}
+				}
+			}
+		} catch (IOException e) {
+			System.out.println("Unable to save the high scores: " + e);
+		}
+		long nanos = System.nanoTime() - start;
+		totalFlushNanos.addAndGet(nanos);
+		maxFlushNanos.accumulateAndGet(nanos, Math::max);
+		flushes.incrementAndGet();
+		Metrics.HIGH_SCORE_WRITE.record(nanos);
+	}
+
+	/**
+	 * Writes text to a channel at its position.
+	 */
+	private static void write(FileChannel channel, String text) throws IOException
+	{
+		ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		while (bytes.hasRemaining()) {
+			channel.write(bytes);
+		}
+	}
+
+	/**
+	 * Adds the entries of a snapshot or log to the board. Lines without a line ending, which
+	 * a crash can leave at the end of the log, and lines that cannot be read are skipped.
+	 *
+	 * @return the length in bytes of the complete lines in the file
+	 */
+	private long load(Path file) throws IOException
+	{
+		String contents;
+		try {
+			contents = Files.readString(file, StandardCharsets.UTF_8);
+		} catch (NoSuchFileException e) {
+			return 0;
+		}
+
+		// The old HighScore.txt has one line without a line ending, so only the log is strict
+		boolean isLog = file.equals(log);
+		String complete = isLog ? contents.substring(0, contents.lastIndexOf('\n') + 1) : contents;
+		try (BufferedReader reader = new BufferedReader(new StringReader(complete))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				Entry entry = Entry.parse(line);
+				if (entry != null) {
+					insert(entry);
+					if (entry.sequence >= sequence.get()) {
+						sequence.set(entry.sequence + 1);
+					}
+					if (isLog) {
+						logLines++;
+					}
+				}
+			}
+		}
+		return complete.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	/**
+	 * Makes a name safe to store: the field delimiter and line breaks become spaces.
+	 */
+	private static String clean(String name)
+	{
+		String cleaned = name == null ? "" : name.replace('%', ' ').replace('\r', ' ').replace('\n', ' ').trim();
+		return cleaned.isEmpty() ? "Player" : cleaned;
+	}
+
+	/**
+	 * One score on the board.
+	 */
+	public static final class Entry
+	{
+		private final String name;
+		private final int score;
+		private final long sequence; // the order the scores were submitted in, unique per board
+
+		Entry(String name, int score, long sequence)
+		{
+			this.name = name;
+			this.score = score;
+			this.sequence = sequence;
+		}
+
+		/**
+		 * Returns the player's name.
+		 *
+		 * @return the name
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * Returns the score.
+		 *
+		 * @return the score
+		 */
+		public int getScore()
+		{
+			return score;
+		}
+
+		/**
+		 * Formats the entry as one line of the snapshot or log.
+		 */
+		String toLine()
+		{
+			return name + "%" + score + "%" + sequence + "\n";
+		}
+
+		/**
+		 * Reads a "name%score%sequence" line, or an old "name%score" line with sequence 0.
+		 *
+		 * @return the entry, or null if the line is not an entry
+		 */
+		static Entry parse(String line)
+		{
+			int first = line.indexOf('%');
+			if (first <= 0) {
+				return null;
+			}
+			int second = line.indexOf('%', first + 1);
+			try {
+				int score = Integer.parseInt(line.substring(first + 1, second < 0 ? line.length() : second).trim());
+				long sequence = second < 0 ? 0 : Long.parseLong(line.substring(second + 1).trim());
+				return new Entry(line.substring(0, first), score, sequence);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		@Override
+		public String toString()
+		{
+			return name + " " + score;
+		}
+	}
+}
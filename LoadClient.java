@@ -0,0 +1,265 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: LoadClient.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Load generator for GameServer. It opens many rooms at once and plays each game to the end
+ * with random picks and random answers, timing every answer from sending ANSWER to receiving
+ * the result. When the games are done it prints the answer throughput and latency percentiles.
+ *
+ * <p>Run it with "java LoadClient [host] [port] [rooms] [games per room]".
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class LoadClient
+{
+	private final String host;
+	private final int port;
+	private final AtomicLong failures = new AtomicLong();
+
+	/**
+	 * Creates a load generator for a server.
+	 *
+	 * @param host the server host
+	 * @param port the server port
+	 */
+	public LoadClient(String host, int port)
+	{
+		this.host = host;
+		this.port = port;
+	}
+
+	/**
+	 * Plays the requested games against a running server and prints the results.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @param args the optional host, port, number of rooms and games per room
+	 * @throws InterruptedException if interrupted while waiting for the games
+	 */
+	public static void main(String[] args) throws InterruptedException
+	{
+		String host = args.length > 0 ? args[0] : "localhost";
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+		int rooms = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+		int games = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+		new LoadClient(host, port).run(rooms, games).print(System.out);
+	}
+
+	/**
+	 * Plays games in parallel rooms, each room playing its games one after another.
+	 *
+	 * @param rooms the number of rooms open at the same time
+	 * @param games the number of games each room plays
+	 * @return the measured results
+	 * @throws InterruptedException if interrupted while waiting for the games
+	 */
+	public Result run(int rooms, int games) throws InterruptedException
+	{
+		long[][] latencies = new long[rooms][];
+		long start = System.nanoTime();
+		ExecutorService executor = GameServer.newRoomExecutor();
+		for (int room = 0; room < rooms; room++) {
+			int index = room;
+			executor.execute(() -> latencies[index] = playRoom(index, games));
+		}
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.HOURS);
+		long elapsed = System.nanoTime() - start;
+
+		// Merge the latencies of every room so the percentiles cover all answers
+		int total = 0;
+		for (long[] room : latencies) {
+			total += room == null ? 0 : (int) room[0];
+		}
+		long[] all = new long[total];
+		int position = 0;
+		for (long[] room : latencies) {
+			if (room != null) {
+				System.arraycopy(room, 1, all, position, (int) room[0]);
+				position += (int) room[0];
+			}
+		}
+		Arrays.sort(all);
+		return new Result(rooms, games, all, elapsed, failures.get());
+	}
+
+	/**
+	 * Plays the games of one room.
+	 *
+	 * @return the answer latencies in nanoseconds, with the count in element 0
+	 */
+	private long[] playRoom(int room, int games)
+	{
+		SplittableRandom random = new SplittableRandom(room);
+		long[] latencies = new long[64];
+		int count = 0;
+		for (int game = 0; game < games; game++) {
+			try (Socket socket = new Socket(host, port)) {
+				socket.setTcpNoDelay(true);
+				BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+				Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+				String[] welcome = expect(in.readLine(), "WELCOME").split(" ");
+				int values = Integer.parseInt(welcome[2]);
+				send(out, "NAME load-" + room);
+				expect(in.readLine(), "OK");
+
+				boolean over = false;
+				while (!over) {
+					send(out, "BOARD");
+					String board = expect(in.readLine(), "BOARD").substring("BOARD ".length());
+					int cell = randomOpenCell(board, random);
+					if (cell < 0) {
+						break;
+					}
+					send(out, "PICK " + (cell / values) + " " + (cell % values));
+					expect(in.readLine(), "QUESTION");
+					for (int choice = 0; choice < QuestionSource.ANSWER_COUNT; choice++) {
+						expect(in.readLine(), "CHOICE");
+					}
+
+					long sent = System.nanoTime();
+					send(out, "ANSWER " + (1 + random.nextInt(QuestionSource.ANSWER_COUNT)));
+					String result = in.readLine();
+					long latency = System.nanoTime() - sent;
+					if (result == null || result.startsWith("ERROR")) {
+						throw new IOException("Unexpected reply " + result);
+					}
+					if (count + 1 == latencies.length) {
+						latencies = Arrays.copyOf(latencies, latencies.length * 2);
+					}
+					latencies[++count] = latency;
+
+					// The last open cell ends the game
+					if (board.indexOf('1') == board.lastIndexOf('1')) {
+						expect(in.readLine(), "GAMEOVER");
+						over = true;
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				failures.incrementAndGet();
+			}
+		}
+		latencies[0] = count;
+		return latencies;
+	}
+
+	/**
+	 * Picks a random open cell from a BOARD reply.
+	 *
+	 * @return the cell index, or -1 if no cell is open
+	 */
+	private static int randomOpenCell(String board, SplittableRandom random)
+	{
+		int open = 0;
+		for (int i = 0; i < board.length(); i++) {
+			if (board.charAt(i) == '1') {
+				open++;
+			}
+		}
+		if (open == 0) {
+			return -1;
+		}
+		int pick = random.nextInt(open);
+		for (int i = 0; i < board.length(); i++) {
+			if (board.charAt(i) == '1' && pick-- == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks that a reply starts with the expected word.
+	 */
+	private static String expect(String reply, String word) throws IOException
+	{
+		if (reply == null || !reply.startsWith(word)) {
+			throw new IOException("Expected " + word + " but got " + reply);
+		}
+		return reply;
+	}
+
+	/**
+	 * Sends one command line.
+	 */
+	private static void send(Writer out, String command) throws IOException
+	{
+		out.write(command);
+		out.write('\n');
+		out.flush();
+	}
+
+	/**
+	 * The outcome of a load run.
+	 */
+	public static class Result
+	{
+		private final int rooms;
+		private final int games;
+		private final long[] latencies; // sorted answer latencies in nanoseconds
+		private final long elapsed;
+		private final long failures;
+
+		Result(int rooms, int games, long[] latencies, long elapsed, long failures)
+		{
+			this.rooms = rooms;
+			this.games = games;
+			this.latencies = latencies;
+			this.elapsed = elapsed;
+			this.failures = failures;
+		}
+
+		/**
+		 * Returns a latency percentile.
+		 *
+		 * @param percentile the percentile, from 0 to 100
+		 * @return the latency in nanoseconds, or 0 if nothing was answered
+		 */
+		public long percentile(double percentile)
+		{
+			if (latencies.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+			return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+		}
+
+		/**
+		 * Prints the throughput and latency summary.
+		 *
+		 * @param out where to print
+		 */
+		public void print(java.io.PrintStream out)
+		{
+			double seconds = elapsed / 1e9;
+			out.printf("%d rooms x %d games: %,d answers in %.2f s (%,.0f answers/s), %d failed games%n",
+					rooms, games, latencies.length, seconds, latencies.length / seconds, failures);
+			out.printf("answer latency: p50 %,d us, p99 %,d us, p99.9 %,d us, max %,d us%n",
+					percentile(50) / 1000, percentile(99) / 1000, percentile(99.9) / 1000, percentile(100) / 1000);
+		}
+	}
+}
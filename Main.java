@@ -1,3 +1,5 @@
+import java.io.IOException;
+
 import javax.swing.SwingUtilities;
 
 /**
@@ -20,7 +22,8 @@ import javax.swing.SwingUtilities;
 public class Main {
 
     /**
-     * Main method that creates an instance of the GUI object to play the game.
+     * Main method that creates an instance of the GUI object to play the game,
+     * or starts a GameServer when run with "--server [port]".
      *
      * <hr>
      * Date created: Apr 10, 2023
@@ -28,9 +31,24 @@ public class Main {
      * <hr>
      * 
      * @param args
-     *     arguments passed to the program (unused)
+     *     arguments passed to the program
+     * @throws IOException
+     *     if the server cannot be started
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        // Does nothing unless the program is run with -Djeopardy.metrics=true
+        Metrics.export();
+        // Count every game's answers from the start, so no question's statistics miss an event
+        QuestionAnalytics.shared();
+
+        if (args.length > 0 && args[0].equals("--server")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+            new GameServer(port).run();
+            return;
+        }
+        // Load the high scores here so the event dispatch thread never reads them from disk
+        Leaderboard.shared();
+
         SwingUtilities.invokeLater(new Runnable() {
             public void run() {
                 new GUI(); // creates an instance of the GUI
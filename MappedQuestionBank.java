@@ -0,0 +1,199 @@
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: MappedQuestionBank.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * MappedQuestionBank answers questions straight from a memory-mapped compiled bank.
+ * Only the small category and prefix tables are copied onto the heap; the index, the
+ * columns and the text pool are read from the mapping when a question is asked for.
+ * Use {@link QuestionBankFile#map} or {@link QuestionBankFile#openIfFresh} to open one.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class MappedQuestionBank implements QuestionSource
+{
+	private static final int TEXTS_PER_QUESTION = ANSWER_COUNT + 1;
+
+	private final String sourceName; // file name of the question file the bank was compiled from
+	private final long sourceSize; // size of that file
+	private final long sourceModified; // modified time of that file in milliseconds
+	private final long sourceChecksum; // CRC32C of that file
+	private final String[] categories;
+	private final int[] pointValues;
+	private final String[] prefixes;
+	private final IntBuffer bucketStarts;
+	private final IntBuffer bucketQuestions;
+	private final IntBuffer categoryIds;
+	private final IntBuffer valueIds;
+	private final IntBuffer prefixIds;
+	private final IntBuffer textOffsets;
+	private final ByteBuffer pool;
+
+	/**
+	 * Creates a bank over the sections of a mapped file.
+	 */
+	MappedQuestionBank(String sourceName, long sourceSize, long sourceModified, long sourceChecksum, String[] categories, int[] pointValues,
+			String[] prefixes, IntBuffer bucketStarts, IntBuffer bucketQuestions, IntBuffer categoryIds, IntBuffer valueIds,
+			IntBuffer prefixIds, IntBuffer textOffsets, ByteBuffer pool)
+	{
+		this.sourceName = sourceName;
+		this.sourceSize = sourceSize;
+		this.sourceModified = sourceModified;
+		this.sourceChecksum = sourceChecksum;
+		this.categories = categories;
+		this.pointValues = pointValues;
+		this.prefixes = prefixes;
+		this.bucketStarts = bucketStarts;
+		this.bucketQuestions = bucketQuestions;
+		this.categoryIds = categoryIds;
+		this.valueIds = valueIds;
+		this.prefixIds = prefixIds;
+		this.textOffsets = textOffsets;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the file name of the question file this bank was compiled from, such as
+	 * Questions.txt or QuestionBank.xlsx.
+	 *
+	 * @return the source file name, without its directory
+	 */
+	public String sourceName()
+	{
+		return sourceName;
+	}
+
+	/**
+	 * Returns the size of the text file this bank was compiled from.
+	 *
+	 * @return the source size in bytes
+	 */
+	public long sourceSize()
+	{
+		return sourceSize;
+	}
+
+	/**
+	 * Returns the modified time of the text file this bank was compiled from.
+	 *
+	 * @return the source modified time in milliseconds since the epoch
+	 */
+	public long sourceModified()
+	{
+		return sourceModified;
+	}
+
+	/**
+	 * Returns the CRC32C checksum of the text file this bank was compiled from.
+	 *
+	 * @return the source checksum
+	 */
+	public long sourceChecksum()
+	{
+		return sourceChecksum;
+	}
+
+	@Override
+	public int size()
+	{
+		return categoryIds.capacity();
+	}
+
+	@Override
+	public int categoryCount()
+	{
+		return categories.length;
+	}
+
+	@Override
+	public String categoryName(int category)
+	{
+		return categories[category];
+	}
+
+	@Override
+	public int valueCount()
+	{
+		return pointValues.length;
+	}
+
+	@Override
+	public int pointValue(int value)
+	{
+		return pointValues[value];
+	}
+
+	@Override
+	public int bucketSize(int category, int value)
+	{
+		int bucket = category * pointValues.length + value;
+		return bucketStarts.get(bucket + 1) - bucketStarts.get(bucket);
+	}
+
+	@Override
+	public int questionId(int category, int value, int index)
+	{
+		int bucket = category * pointValues.length + value;
+		int start = bucketStarts.get(bucket);
+		if (index < 0 || index >= bucketStarts.get(bucket + 1) - start) {
+			throw new IndexOutOfBoundsException("Question " + index + " is not in bucket " + category + "/" + value);
+		}
+		return bucketQuestions.get(start + index);
+	}
+
+	@Override
+	public int categoryOf(int id)
+	{
+		return categoryIds.get(id);
+	}
+
+	@Override
+	public int valueOf(int id)
+	{
+		return valueIds.get(id);
+	}
+
+	@Override
+	public String questionText(int id)
+	{
+		return text(id * TEXTS_PER_QUESTION);
+	}
+
+	@Override
+	public String prefix(int id)
+	{
+		return prefixes[prefixIds.get(id)];
+	}
+
+	@Override
+	public String answerText(int id, int answer)
+	{
+		return text(id * TEXTS_PER_QUESTION + 1 + answer);
+	}
+
+	/**
+	 * Decodes one text from the mapped pool.
+	 *
+	 * @param text the index of the text in the offset column
+	 * @return the decoded text
+	 */
+	private String text(int text)
+	{
+		int start = textOffsets.get(text);
+		byte[] bytes = new byte[textOffsets.get(text + 1) - start];
+		pool.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,352 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: Metrics.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Metrics times the game's slow or latency-sensitive paths and counts how questions end.
+ * It is off unless the program is run with -Djeopardy.metrics=true. ENABLED is a static final
+ * constant, so when metrics are off every timer and counter call is a branch the JIT compiler
+ * removes, and no histogram is ever allocated.
+ *
+ * <p>When metrics are on, {@link #export()} registers them with JMX as jeopardy:type=Metrics
+ * and appends a report to metrics.log every minute and when the program exits. The file is
+ * set with -Djeopardy.metrics.file and the period in seconds with -Djeopardy.metrics.interval,
+ * where 0 writes the report only at exit.
+ *
+ * <p>A path is timed like this:
+ * <pre>
+ * long start = Metrics.start();
+ * ...
+ * Metrics.GET_QUESTION.stop(start);
+ * </pre>
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class Metrics
+{
+	/** Whether metrics are collected, fixed when the program starts. */
+	public static final boolean ENABLED = Boolean.getBoolean("jeopardy.metrics");
+
+	/** Loading the question bank, from the packs, the compiled bank, the workbook or Questions.txt. */
+	public static final Timer BANK_LOAD = new Timer("bank.load");
+
+	/** Dealing a question from the deck. */
+	public static final Timer GET_QUESTION = new Timer("question.deal");
+
+	/** Showing a question in the GUI's question panel. */
+	public static final Timer QUESTION_PANEL = new Timer("question.panel");
+
+	/** Saving a batch of high scores to disk. */
+	public static final Timer HIGH_SCORE_WRITE = new Timer("highscore.write");
+
+	/** How long a player takes to answer once the question is shown. */
+	public static final Timer ANSWER_LATENCY = new Timer("answer.latency");
+
+	/** Questions answered correctly. */
+	public static final Counter CORRECT_ANSWERS = new Counter("answers.correct");
+
+	/** Questions answered incorrectly. */
+	public static final Counter INCORRECT_ANSWERS = new Counter("answers.incorrect");
+
+	/** Questions that ran out of time. */
+	public static final Counter TIMED_OUT_ANSWERS = new Counter("answers.timedOut");
+
+	private static final List<Timer> TIMERS = List.of(BANK_LOAD, GET_QUESTION, QUESTION_PANEL, HIGH_SCORE_WRITE, ANSWER_LATENCY);
+	private static final List<Counter> COUNTERS = List.of(CORRECT_ANSWERS, INCORRECT_ANSWERS, TIMED_OUT_ANSWERS);
+
+	private static final Path FILE = Path.of(System.getProperty("jeopardy.metrics.file", "metrics.log"));
+	private static final long INTERVAL_SECONDS = Long.getLong("jeopardy.metrics.interval", 60);
+
+	private static boolean exported;
+
+	private Metrics()
+	{
+	}
+
+	/**
+	 * Reads the clock at the start of a timed path.
+	 *
+	 * @return the time in nanoseconds, or 0 if metrics are off
+	 */
+	public static long start()
+	{
+		return ENABLED ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Counts how a question ended.
+	 *
+	 * @param outcome how the question ended
+	 */
+	public static void countOutcome(GameEngine.Outcome outcome)
+	{
+		if (ENABLED) {
+			switch (outcome) {
+				case CORRECT:
+					CORRECT_ANSWERS.increment();
+					break;
+				case INCORRECT:
+					INCORRECT_ANSWERS.increment();
+					break;
+				default:
+					TIMED_OUT_ANSWERS.increment();
+			}
+		}
+	}
+
+	/**
+	 * Registers the metrics with JMX and starts writing reports to the metrics file. Does
+	 * nothing if metrics are off or were already exported.
+	 */
+	public static void export()
+	{
+		if (!ENABLED) {
+			return;
+		}
+		synchronized (Metrics.class) {
+			if (exported) {
+				return;
+			}
+			exported = true;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), new ObjectName("jeopardy:type=Metrics"));
+		} catch (JMException e) {
+			System.out.println("Unable to register the metrics with JMX: " + e);
+		}
+		if (INTERVAL_SECONDS > 0) {
+			ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "metrics-writer");
+				thread.setDaemon(true);
+				return thread;
+			});
+			writer.scheduleAtFixedRate(Metrics::writeReport, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(Metrics::writeReport, "metrics-shutdown"));
+	}
+
+	/**
+	 * Describes every timer and counter, with latencies in microseconds.
+	 *
+	 * @return the report, one metric per line
+	 */
+	public static String report()
+	{
+		StringBuilder report = new StringBuilder();
+		report.append("Jeopardy metrics at ").append(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)).append(System.lineSeparator());
+		report.append(String.format("%-18s %9s %11s %11s %11s %11s %11s %11s%n",
+				"timer (us)", "count", "mean", "median", "p90", "p99", "p99.9", "max"));
+		for (Timer timer : TIMERS) {
+			LatencyHistogram.Snapshot snapshot = timer.snapshot();
+			report.append(String.format("%-18s %9d %11.1f %11.1f %11.1f %11.1f %11.1f %11.1f%n",
+					snapshot.getName(), snapshot.getCount(), micros(snapshot.getMean()), micros(snapshot.getMedian()),
+					micros(snapshot.getP90()), micros(snapshot.getP99()), micros(snapshot.getP999()), micros(snapshot.getMax())));
+		}
+		for (Counter counter : COUNTERS) {
+			report.append(String.format("%-18s %9d%n", counter.getName(), counter.get()));
+		}
+		Leaderboard leaderboard = Leaderboard.sharedIfOpen();
+		if (leaderboard != null) {
+			report.append(leaderboard.stats()).append(System.lineSeparator());
+		}
+		return report.toString();
+	}
+
+	/**
+	 * Appends a report to the metrics file.
+	 */
+	private static void writeReport()
+	{
+		try {
+			Files.writeString(FILE, report() + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			System.out.println("Unable to write the metrics: " + e);
+		}
+	}
+
+	private static double micros(long nanos)
+	{
+		return nanos / 1000.0;
+	}
+
+	/**
+	 * Timer records the latencies of one path in a histogram. It keeps nothing when metrics are off.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static final class Timer
+	{
+		private final String name;
+		private final LatencyHistogram histogram;
+
+		private Timer(String name)
+		{
+			this.name = name;
+			histogram = ENABLED ? new LatencyHistogram(name) : null;
+		}
+
+		/**
+		 * Records the time since a path started.
+		 *
+		 * @param start the time from {@link Metrics#start()}
+		 */
+		public void stop(long start)
+		{
+			if (ENABLED) {
+				histogram.record(System.nanoTime() - start);
+			}
+		}
+
+		/**
+		 * Records a latency that was already measured.
+		 *
+		 * @param nanos the latency in nanoseconds
+		 */
+		public void record(long nanos)
+		{
+			if (ENABLED) {
+				histogram.record(nanos);
+			}
+		}
+
+		/**
+		 * Copies the latencies recorded so far.
+		 *
+		 * @return a snapshot of the latencies, which is empty if metrics are off
+		 */
+		public LatencyHistogram.Snapshot snapshot()
+		{
+			return (ENABLED ? histogram : new LatencyHistogram(name)).snapshot();
+		}
+	}
+
+	/**
+	 * Counter counts events on a LongAdder, so threads counting at once do not contend.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static final class Counter
+	{
+		private final String name;
+		private final LongAdder count = new LongAdder();
+
+		private Counter(String name)
+		{
+			this.name = name;
+		}
+
+		/**
+		 * Counts one event.
+		 */
+		public void increment()
+		{
+			if (ENABLED) {
+				count.increment();
+			}
+		}
+
+		/**
+		 * Returns the name the counter is reported under.
+		 *
+		 * @return the name
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * Returns the number of events counted.
+		 *
+		 * @return the count
+		 */
+		public long get()
+		{
+			return count.sum();
+		}
+	}
+
+	/**
+	 * Bean is the object registered with JMX.
+	 */
+	private static class Bean implements MetricsMXBean
+	{
+		@Override
+		public List<LatencyHistogram.Snapshot> getTimers()
+		{
+			List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>();
+			for (Timer timer : TIMERS) {
+				snapshots.add(timer.snapshot());
+			}
+			return snapshots;
+		}
+
+		@Override
+		public Map<String, Long> getCounters()
+		{
+			Map<String, Long> counters = new LinkedHashMap<>();
+			for (Counter counter : COUNTERS) {
+				counters.put(counter.getName(), counter.get());
+			}
+			return counters;
+		}
+
+		@Override
+		public int getHighScoreQueueDepth()
+		{
+			Leaderboard leaderboard = Leaderboard.sharedIfOpen();
+			return leaderboard == null ? 0 : leaderboard.getQueueDepth();
+		}
+
+		@Override
+		public int getHighScoreMaxQueueDepth()
+		{
+			Leaderboard leaderboard = Leaderboard.sharedIfOpen();
+			return leaderboard == null ? 0 : leaderboard.getMaxQueueDepth();
+		}
+
+		@Override
+		public long getHighScoreMaxFlushNanos()
+		{
+			Leaderboard leaderboard = Leaderboard.sharedIfOpen();
+			return leaderboard == null ? 0 : leaderboard.getMaxFlushNanos();
+		}
+
+		@Override
+		public String getReport()
+		{
+			return report();
+		}
+	}
+}
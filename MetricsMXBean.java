@@ -0,0 +1,65 @@
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: MetricsMXBean.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * MetricsMXBean is what JConsole, VisualVM or any other JMX client sees of the game's metrics,
+ * under the name jeopardy:type=Metrics. It is only registered when metrics are turned on.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public interface MetricsMXBean
+{
+	/**
+	 * Returns a snapshot of every timer, with its latencies in nanoseconds.
+	 *
+	 * @return the timers
+	 */
+	List<LatencyHistogram.Snapshot> getTimers();
+
+	/**
+	 * Returns the value of every counter.
+	 *
+	 * @return the counters by name
+	 */
+	Map<String, Long> getCounters();
+
+	/**
+	 * Returns how many high scores are waiting for the leaderboard's writer.
+	 *
+	 * @return the queue depth, or 0 if the leaderboard has not been opened
+	 */
+	int getHighScoreQueueDepth();
+
+	/**
+	 * Returns the most high scores that have waited for the leaderboard's writer at once.
+	 *
+	 * @return the highest queue depth, or 0 if the leaderboard has not been opened
+	 */
+	int getHighScoreMaxQueueDepth();
+
+	/**
+	 * Returns how long the leaderboard's slowest save of a batch of high scores took.
+	 *
+	 * @return the latency in nanoseconds, or 0 if the leaderboard has not been opened
+	 */
+	long getHighScoreMaxFlushNanos();
+
+	/**
+	 * Returns the same report that is written to the metrics file.
+	 *
+	 * @return the report
+	 */
+	String getReport();
+}
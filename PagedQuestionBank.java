@@ -0,0 +1,478 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: PagedQuestionBank.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * PagedQuestionBank serves a questions file that is too large to load, reading each question
+ * from the file only when it is asked for. Opening the bank makes one pass over the file that
+ * records where every question line starts, grouped by category and point value; a question
+ * is then read by seeking to its line and decoding just that line. The most recently used
+ * questions are kept decoded in a small LRU cache.
+ *
+ * <p>The line offsets are kept in a memory-mapped temporary file rather than on the heap, so
+ * the heap holds only the category and value tables and the LRU cache, a few MB at most no
+ * matter how large the file is. Lines are accepted and split by the same rules as
+ * FileManager's parser, and questions in a bucket keep their order in the file.
+ *
+ * <p>The file is read again every time a question is decoded, so it must not change while the
+ * bank is open; QuestionBankCache opens a new bank when it does. A bank can be read by any
+ * number of threads.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class PagedQuestionBank implements QuestionSource, Closeable
+{
+	/** The number of decoded questions kept by default. */
+	public static final int DEFAULT_CACHE_SIZE = 256;
+
+	// The longest category name and line the index pass and decoder accept
+	private static final int MAX_CATEGORY_BYTES = 256;
+	private static final int MAX_LINE_BYTES = 1 << 20;
+
+	private final FileChannel file;
+	private final String[] categories;
+	private final int[] pointValues;
+	private final int[] bucketStarts; // where each (category, value) bucket starts among the question ids
+	private final LongBuffer lineOffsets; // the offset of each question's line, by question id
+	private final Map<Integer, Question> cache; // decoded questions, least recently used first
+
+	private PagedQuestionBank(FileChannel file, String[] categories, int[] pointValues, int[] bucketStarts,
+			LongBuffer lineOffsets, int cacheSize)
+	{
+		this.file = file;
+		this.categories = categories;
+		this.pointValues = pointValues;
+		this.bucketStarts = bucketStarts;
+		this.lineOffsets = lineOffsets;
+		this.cache = new LinkedHashMap<Integer, Question>(cacheSize * 4 / 3 + 1, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Question> eldest)
+			{
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Indexes a questions file and opens it as a bank. The given categories and point values
+	 * come first, in order, so a standard file keeps the standard board layout.
+	 *
+	 * @param source the questions file
+	 * @param knownCategories categories that get the first category ids
+	 * @param knownValues point values that are on the board even without questions
+	 * @param cacheSize how many decoded questions to keep
+	 * @return the bank
+	 * @throws IOException if the file cannot be read or the index cannot be written
+	 */
+	public static PagedQuestionBank open(Path source, String[] knownCategories, int[] knownValues, int cacheSize)
+			throws IOException
+	{
+		Indexer indexer = new Indexer(knownCategories, knownValues);
+		Path records = Files.createTempFile("questions", ".records");
+		Path index = Files.createTempFile("questions", ".index");
+		try {
+			// Pass 1: find every question line and note its category, value and offset
+			try (InputStream in = Files.newInputStream(source);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(records), 1 << 16))) {
+				indexer.scan(in, out);
+			}
+
+			// Count the questions in each bucket; values are renumbered from lowest to highest
+			int[] sortedValues = indexer.pointValues.toArray();
+			Arrays.sort(sortedValues);
+			int[] valueRemap = new int[sortedValues.length];
+			for (int i = 0; i < valueRemap.length; i++) {
+				valueRemap[i] = Arrays.binarySearch(sortedValues, indexer.pointValues.value(i));
+			}
+			int valueCount = sortedValues.length;
+			int[] bucketStarts = new int[indexer.categories.size() * valueCount + 1];
+			try (DataInputStream in = openRecords(records)) {
+				for (long i = 0; i < indexer.questionCount; i++) {
+					int category = in.readInt();
+					int value = valueRemap[in.readInt()];
+					in.readLong();
+					bucketStarts[category * valueCount + value + 1]++;
+				}
+			}
+			for (int i = 1; i < bucketStarts.length; i++) {
+				bucketStarts[i] += bucketStarts[i - 1];
+			}
+
+			// Pass 2: place each offset in its bucket, keeping file order inside a bucket
+			LongBuffer offsets;
+			try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				offsets = channel.map(FileChannel.MapMode.READ_WRITE, 0, indexer.questionCount * Long.BYTES).asLongBuffer();
+			}
+			int[] next = Arrays.copyOf(bucketStarts, bucketStarts.length - 1);
+			try (DataInputStream in = openRecords(records)) {
+				for (long i = 0; i < indexer.questionCount; i++) {
+					int category = in.readInt();
+					int value = valueRemap[in.readInt()];
+					offsets.put(next[category * valueCount + value]++, in.readLong());
+				}
+			}
+
+			FileChannel file = FileChannel.open(source, StandardOpenOption.READ);
+			return new PagedQuestionBank(file, indexer.categories.toArray(), sortedValues,
+					bucketStarts, offsets, cacheSize);
+		} finally {
+			Files.deleteIfExists(records);
+			// The mapping stays valid after the index file is deleted, except on Windows
+			try {
+				Files.deleteIfExists(index);
+			} catch (IOException e) {
+				index.toFile().deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * Opens the records written by the index pass.
+	 */
+	private static DataInputStream openRecords(Path records) throws IOException
+	{
+		return new DataInputStream(new BufferedInputStream(Files.newInputStream(records), 1 << 16));
+	}
+
+	@Override
+	public int size()
+	{
+		return bucketStarts[bucketStarts.length - 1];
+	}
+
+	@Override
+	public int categoryCount()
+	{
+		return categories.length;
+	}
+
+	@Override
+	public String categoryName(int category)
+	{
+		return categories[category];
+	}
+
+	@Override
+	public int valueCount()
+	{
+		return pointValues.length;
+	}
+
+	@Override
+	public int pointValue(int value)
+	{
+		return pointValues[value];
+	}
+
+	@Override
+	public int bucketSize(int category, int value)
+	{
+		int bucket = category * pointValues.length + value;
+		return bucketStarts[bucket + 1] - bucketStarts[bucket];
+	}
+
+	@Override
+	public int questionId(int category, int value, int index)
+	{
+		return bucketStarts[category * pointValues.length + value] + index;
+	}
+
+	@Override
+	public int categoryOf(int id)
+	{
+		return bucketOf(id) / pointValues.length;
+	}
+
+	@Override
+	public int valueOf(int id)
+	{
+		return bucketOf(id) % pointValues.length;
+	}
+
+	@Override
+	public String questionText(int id)
+	{
+		return question(id).question;
+	}
+
+	@Override
+	public String prefix(int id)
+	{
+		return question(id).prefix;
+	}
+
+	@Override
+	public String answerText(int id, int answer)
+	{
+		return question(id).answers[answer];
+	}
+
+	/**
+	 * Closes the questions file. Questions that are not cached can no longer be read.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException
+	{
+		file.close();
+	}
+
+	/**
+	 * Finds the bucket a question id belongs to.
+	 */
+	private int bucketOf(int id)
+	{
+		if (id < 0 || id >= size()) {
+			throw new IndexOutOfBoundsException("There is no question " + id);
+		}
+		// The last bucket whose start is at or before the id, skipping empty buckets
+		int bucket = Arrays.binarySearch(bucketStarts, id);
+		if (bucket < 0) {
+			return -bucket - 2;
+		}
+		while (bucketStarts[bucket + 1] == id) {
+			bucket++;
+		}
+		return bucket;
+	}
+
+	/**
+	 * Returns a decoded question, reading it from the file if it is not cached.
+	 */
+	private Question question(int id)
+	{
+		Integer key = id;
+		synchronized (cache) {
+			Question question = cache.get(key);
+			if (question != null) {
+				return question;
+			}
+		}
+		Question question;
+		try {
+			question = decode(readLine(lineOffsets.get(id)));
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to read question " + id, e);
+		}
+		synchronized (cache) {
+			cache.put(key, question);
+		}
+		return question;
+	}
+
+	/**
+	 * Reads the line that starts at an offset, without its line ending.
+	 */
+	private byte[] readLine(long offset) throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(512);
+		while (true) {
+			int read = file.read(buffer, offset + buffer.position());
+			byte[] bytes = buffer.array();
+			for (int i = 0; i < buffer.position(); i++) {
+				if (bytes[i] == '\n' || bytes[i] == '\r') {
+					return Arrays.copyOf(bytes, i);
+				}
+			}
+			if (read < 0) {
+				return Arrays.copyOf(bytes, buffer.position());
+			}
+			if (!buffer.hasRemaining()) {
+				if (buffer.capacity() >= MAX_LINE_BYTES) {
+					throw new IOException("Line at offset " + offset + " is too long");
+				}
+				buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+			}
+		}
+	}
+
+	/**
+	 * Splits a question line the way FileManager.addLine does: the question, the prefix and up
+	 * to four answers follow the category and value, and missing answers are left empty.
+	 * Quoted fields and replacement characters are cleaned up the same way too.
+	 */
+	private static Question decode(byte[] line)
+	{
+		int valueStart = indexOf(line, 0) + 1;
+		int questionStart = indexOf(line, valueStart) + 1;
+		int questionEnd = indexOf(line, questionStart);
+		int prefixEnd = indexOf(line, questionEnd + 1);
+		if (valueStart == 0 || questionStart == 0 || questionEnd < 0 || prefixEnd < 0) {
+			// The file changed since it was indexed
+			throw new IllegalStateException("The questions file changed while it was open");
+		}
+
+		String[] answers = new String[ANSWER_COUNT];
+		Arrays.fill(answers, "");
+		int answerStart = prefixEnd + 1;
+		for (int i = 0; i < ANSWER_COUNT && answerStart <= line.length; i++) {
+			int answerEnd = indexOf(line, answerStart);
+			if (answerEnd < 0) {
+				answerEnd = line.length;
+			}
+			answers[i] = text(line, answerStart, answerEnd);
+			answerStart = answerEnd + 1;
+		}
+		return new Question(text(line, questionStart, questionEnd), text(line, questionEnd + 1, prefixEnd), answers);
+	}
+
+	/**
+	 * Finds the next field delimiter.
+	 */
+	private static int indexOf(byte[] line, int from)
+	{
+		for (int i = from; i < line.length; i++) {
+			if (line[i] == '%') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static String text(byte[] line, int start, int end)
+	{
+		return FileManager.cleanField(new String(line, start, end - start, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * One decoded question.
+	 */
+	private static final class Question
+	{
+		final String question;
+		final String prefix;
+		final String[] answers;
+
+		Question(String question, String prefix, String[] answers)
+		{
+			this.question = question;
+			this.prefix = prefix;
+			this.answers = answers;
+		}
+	}
+
+	/**
+	 * The index pass. It reads the file in blocks and looks only at the category and value at
+	 * the start of each line, writing a (category, value, offset) record for every line that
+	 * FileManager would accept: at least four delimiters and a value of one or more digits.
+	 */
+	private static final class Indexer
+	{
+		final CategoryIndex categories = new CategoryIndex();
+		final ValueIndex pointValues = new ValueIndex();
+		long questionCount;
+
+		// State of the line being scanned
+		private final byte[] category = new byte[MAX_CATEGORY_BYTES];
+		private int categoryLength;
+		private int categoryHash;
+		private int delimiters;
+		private int value;
+		private boolean valueValid;
+		private int valueDigits;
+		private long lineStart;
+
+		Indexer(String[] knownCategories, int[] knownValues)
+		{
+			for (String name : knownCategories) {
+				categories.add(name);
+			}
+			for (int pointValue : knownValues) {
+				pointValues.add(pointValue);
+			}
+		}
+
+		/**
+		 * Scans the whole file, writing one record per question line.
+		 */
+		void scan(InputStream in, DataOutputStream out) throws IOException
+		{
+			byte[] block = new byte[1 << 16];
+			long position = 0;
+			startLine(0);
+			int read;
+			while ((read = in.read(block)) > 0) {
+				for (int i = 0; i < read; i++) {
+					byte b = block[i];
+					if (b == '\n' || b == '\r') {
+						endLine(out);
+						startLine(position + i + 1);
+					} else if (b == '%') {
+						delimiters++;
+					} else if (delimiters == 0) {
+						if (categoryLength < MAX_CATEGORY_BYTES) {
+							category[categoryLength] = b;
+						}
+						categoryLength++;
+						categoryHash = CategoryIndex.mix(categoryHash, b);
+					} else if (delimiters == 1) {
+						if (b < '0' || b > '9' || value > 100000) {
+							valueValid = false;
+						} else {
+							value = value * 10 + (b - '0');
+							valueDigits++;
+						}
+					}
+				}
+				position += read;
+			}
+			endLine(out);
+		}
+
+		private void startLine(long offset)
+		{
+			lineStart = offset;
+			categoryLength = 0;
+			categoryHash = CategoryIndex.EMPTY_HASH;
+			delimiters = 0;
+			value = 0;
+			valueValid = true;
+			valueDigits = 0;
+		}
+
+		private void endLine(DataOutputStream out) throws IOException
+		{
+			// An empty value is not a number, as in FileManager.parsePointValue
+			if (delimiters < 4 || !valueValid || valueDigits == 0 || categoryLength > MAX_CATEGORY_BYTES) {
+				return;
+			}
+			// The category was hashed while it was scanned, so it is not read a second time here
+			out.writeInt(categories.add(categoryHash, category, categoryLength));
+			out.writeInt(pointValues.add(value));
+			out.writeLong(lineStart);
+			questionCount++;
+			if (questionCount > Integer.MAX_VALUE / Long.BYTES) {
+				throw new IOException("The questions file has too many questions to index");
+			}
+		}
+	}
+}
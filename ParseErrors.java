@@ -0,0 +1,143 @@
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: ParseErrors.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * ParseErrors collects the problems FileManager finds while it parses a questions file, each
+ * with its line number, so a bad line is reported and skipped instead of stopping the game.
+ * Lines that cannot be a question are skipped; smaller problems, such as a missing answer,
+ * are warnings and the question is kept. Only the first MAX_MESSAGES problems are kept as
+ * messages, but every problem is counted.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class ParseErrors
+{
+	/** The most messages kept, so a file of garbage cannot fill the heap with them. */
+	public static final int MAX_MESSAGES = 100;
+
+	private final List<String> messages = new ArrayList<>();
+	private int skippedLines;
+	private int warnings;
+	private int repairedCharacters;
+
+	/**
+	 * Records a line that was skipped.
+	 *
+	 * @param line the line number, starting from 1
+	 * @param problem what is wrong with the line
+	 */
+	void skip(int line, String problem)
+	{
+		skippedLines++;
+		note(line, problem + ", so the line was skipped");
+	}
+
+	/**
+	 * Records a problem with a line that was still added.
+	 *
+	 * @param line the line number, starting from 1
+	 * @param problem what is wrong with the line
+	 */
+	void warn(int line, String problem)
+	{
+		warnings++;
+		note(line, problem);
+	}
+
+	/**
+	 * Records a mis-decoded character that was replaced by a quote mark.
+	 */
+	void repaired()
+	{
+		repairedCharacters++;
+	}
+
+	private void note(int line, String problem)
+	{
+		if (messages.size() < MAX_MESSAGES) {
+			messages.add("Line " + line + ": " + problem);
+		}
+	}
+
+	/**
+	 * Returns the number of lines that were skipped.
+	 *
+	 * @return the skipped lines
+	 */
+	public int getSkippedLines()
+	{
+		return skippedLines;
+	}
+
+	/**
+	 * Returns the number of problems with lines that were still added.
+	 *
+	 * @return the warnings
+	 */
+	public int getWarnings()
+	{
+		return warnings;
+	}
+
+	/**
+	 * Returns the number of replacement characters that were turned back into quote marks.
+	 *
+	 * @return the repaired characters
+	 */
+	public int getRepairedCharacters()
+	{
+		return repairedCharacters;
+	}
+
+	/**
+	 * Returns the first MAX_MESSAGES problems, in line order.
+	 *
+	 * @return the messages
+	 */
+	public List<String> getMessages()
+	{
+		return Collections.unmodifiableList(messages);
+	}
+
+	/**
+	 * Checks whether any line was skipped or warned about.
+	 *
+	 * @return true if the file had no problems
+	 */
+	public boolean isEmpty()
+	{
+		return skippedLines == 0 && warnings == 0;
+	}
+
+	/**
+	 * Prints the messages and a summary.
+	 *
+	 * @param out where to print
+	 * @param source the name of the file that was parsed
+	 */
+	public void print(PrintStream out, Object source)
+	{
+		for (String message : messages) {
+			out.println(source + ": " + message);
+		}
+		if (skippedLines + warnings > messages.size()) {
+			out.println(source + ": " + (skippedLines + warnings - messages.size()) + " more problems were not listed");
+		}
+		out.printf("%s: %d lines skipped, %d warnings, %d mis-decoded quote marks repaired%n",
+				source, skippedLines, warnings, repairedCharacters);
+	}
+}
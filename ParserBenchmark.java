@@ -0,0 +1,264 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: ParserBenchmark.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Compares the streaming question parser in FileManager against the original
+ * read-everything, split-by-regex parser on a synthetic question bank, times the
+ * streaming parser again with error collection switched on, and times
+ * opening the same bank in its compiled, memory-mapped form.
+ * Run it with "java ParserBenchmark [lines]"; the default is 1,000,000 lines.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class ParserBenchmark
+{
+	private static final String[] CATEGORIES = {"Math", "Computer History", "Food", "Animals", "U.S. History", "Sports"};
+	private static final String[] VALUES = {"200", "400", "600", "800", "1000"};
+	private static final int ROUNDS = 5;
+
+	/**
+	 * Writes the synthetic bank, checks both parsers agree on it, then times them.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @param args optional number of lines to generate
+	 * @throws IOException if the synthetic bank cannot be written or read
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		int lines = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		Path bank = Files.createTempFile("questions", ".txt");
+		try {
+			writeSyntheticBank(bank, lines);
+			System.out.printf("Synthetic bank: %,d lines, %,d bytes%n", lines, Files.size(bank));
+
+			if (!Arrays.deepEquals(parseLegacy(bank), parseStreaming(bank).toArray())) {
+				throw new IllegalStateException("Parsers disagree on the synthetic bank");
+			}
+
+			long legacyHeap = retainedHeap(() -> parseLegacy(bank));
+			long bankHeap = retainedHeap(() -> parseStreaming(bank));
+			System.out.printf("Retained heap: legacy array %,d MB, QuestionBank %,d MB (%.1fx smaller)%n",
+					legacyHeap >> 20, bankHeap >> 20, (double) legacyHeap / bankHeap);
+
+			for (int round = 1; round <= ROUNDS; round++) {
+				long legacy = time(() -> parseLegacy(bank).length);
+				long streaming = time(() -> parseStreaming(bank).size());
+				long validating = time(() -> parseValidating(bank).size());
+				System.out.printf("Round %d: legacy %,d ms, streaming %,d ms (%.2fx), validating %,d ms%n",
+						round, legacy, streaming, (double) legacy / streaming, validating);
+			}
+
+			// A compiled bank is mapped instead of parsed, so opening it should not depend on its size
+			Path compiled = Files.createTempFile("questions", ".jqb");
+			try {
+				QuestionBankFile.write(parseStreaming(bank), bank, compiled);
+				for (int round = 1; round <= ROUNDS; round++) {
+					long start = System.nanoTime();
+					QuestionSource mapped = QuestionBankFile.openIfFresh(compiled, bank);
+					String first = mapped.questionText(mapped.questionId(0, 0, 0));
+					long elapsed = System.nanoTime() - start;
+					System.out.printf("Round %d: compiled bank opened and first question read in %,d us (%d chars)%n",
+							round, elapsed / 1000, first.length());
+				}
+			} finally {
+				Files.deleteIfExists(compiled);
+			}
+		} finally {
+			Files.deleteIfExists(bank);
+		}
+	}
+
+	/**
+	 * Writes a bank with the same shape as Questions.txt, spread over every category and value.
+	 *
+	 * @param bank the file to write
+	 * @param lines the number of question lines
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeSyntheticBank(Path bank, int lines) throws IOException
+	{
+		Random random = new Random(42);
+		try (BufferedWriter writer = Files.newBufferedWriter(bank)) {
+			for (int i = 0; i < lines; i++) {
+				writer.write(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+				writer.write('%');
+				writer.write(VALUES[random.nextInt(VALUES.length)]);
+				writer.write("%Synthetic clue number " + i + " asks about something worth knowing%");
+				writer.write(random.nextBoolean() ? "What is" : "Who is");
+				for (int a = 0; a < 4; a++) {
+					writer.write("%Answer " + a + " to clue " + i);
+				}
+				writer.write("\r\n");
+			}
+		}
+	}
+
+	/**
+	 * Parses the bank with FileManager's streaming parser.
+	 *
+	 * @param bank the bank to parse
+	 * @return the parsed questions
+	 * @throws IOException if the bank cannot be read
+	 */
+	private static QuestionBank parseStreaming(Path bank) throws IOException
+	{
+		try (BufferedReader reader = Files.newBufferedReader(bank)) {
+			return FileManager.parseQuestionBank(reader);
+		}
+	}
+
+	/**
+	 * Parses the bank with FileManager's streaming parser, collecting errors as the game does.
+	 *
+	 * @param bank the bank to parse
+	 * @return the parsed questions
+	 * @throws IOException if the bank cannot be read
+	 */
+	private static QuestionBank parseValidating(Path bank) throws IOException
+	{
+		try (BufferedReader reader = FileManager.openQuestionsFile(bank)) {
+			return FileManager.parseQuestionBank(reader, new ParseErrors());
+		}
+	}
+
+	/**
+	 * The original parser: reads the whole file, splits it into lines with a regex and each
+	 * line with split("%"), and looks the category and value up on every array access.
+	 * The only change is allocating rows past the first ten, which the original left null.
+	 *
+	 * @param bank the bank to parse
+	 * @return the parsed questions
+	 * @throws IOException if the bank cannot be read
+	 */
+	private static String[][][][] parseLegacy(Path bank) throws IOException
+	{
+		String[] lines = Files.readString(bank).split("\\r?\\n");
+		String[][][][] myArray = new String[6][5][10][5];
+		int[][] currentIndex = new int[6][5];
+		for (String line : lines) {
+			String[] parts = line.split("%");
+			String category = parts[0];
+			String value = parts[1];
+			String question = parts[2];
+			String[] answers = Arrays.copyOfRange(parts, 4, parts.length);
+			if (currentIndex[legacyCategoryIndex(category)][legacyValueIndex(value)] >= myArray[legacyCategoryIndex(category)][legacyValueIndex(value)].length) {
+				myArray[legacyCategoryIndex(category)][legacyValueIndex(value)] = Arrays.copyOf(myArray[legacyCategoryIndex(category)][legacyValueIndex(value)], myArray[legacyCategoryIndex(category)][legacyValueIndex(value)].length * 2);
+			}
+			if (myArray[legacyCategoryIndex(category)][legacyValueIndex(value)][currentIndex[legacyCategoryIndex(category)][legacyValueIndex(value)]] == null) {
+				myArray[legacyCategoryIndex(category)][legacyValueIndex(value)][currentIndex[legacyCategoryIndex(category)][legacyValueIndex(value)]] = new String[5];
+			}
+			myArray[legacyCategoryIndex(category)][legacyValueIndex(value)][currentIndex[legacyCategoryIndex(category)][legacyValueIndex(value)]][0] = question;
+			for (int i = 0; i < answers.length; i++) {
+				myArray[legacyCategoryIndex(category)][legacyValueIndex(value)][currentIndex[legacyCategoryIndex(category)][legacyValueIndex(value)]][i+1] = parts[3]+" "+answers[i];
+			}
+			currentIndex[legacyCategoryIndex(category)][legacyValueIndex(value)]++;
+		}
+		for (int i = 0; i < myArray.length; i++) {
+			for (int j = 0; j < myArray[i].length; j++) {
+				myArray[i][j] = Arrays.copyOf(myArray[i][j], currentIndex[i][j]);
+			}
+		}
+		return myArray;
+	}
+
+	private static int legacyCategoryIndex(String category)
+	{
+		switch (category) {
+			case "Math": return 0;
+			case "Computer History": return 1;
+			case "Food": return 2;
+			case "Animals": return 3;
+			case "U.S. History": return 4;
+			case "Sports": return 5;
+			default: return -1;
+		}
+	}
+
+	private static int legacyValueIndex(String value)
+	{
+		switch (value) {
+			case "200": return 0;
+			case "400": return 1;
+			case "600": return 2;
+			case "800": return 3;
+			case "1000": return 4;
+			default: return -1;
+		}
+	}
+
+	/**
+	 * Measures how much heap a parsed result keeps alive once the garbage from parsing is collected.
+	 *
+	 * @param parse the parse whose result is measured
+	 * @return the retained heap in bytes
+	 * @throws IOException if the parse fails
+	 */
+	private static long retainedHeap(Load parse) throws IOException
+	{
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		long before = runtime.totalMemory() - runtime.freeMemory();
+		Object result = parse.run();
+		System.gc();
+		long after = runtime.totalMemory() - runtime.freeMemory();
+		if (result == null) {
+			throw new IllegalStateException("Empty parse");
+		}
+		return after - before;
+	}
+
+	/**
+	 * A parse run whose result is kept for measuring.
+	 */
+	private interface Load
+	{
+		Object run() throws IOException;
+	}
+
+	/**
+	 * A parse run that may fail with an IOException. It returns a size so the result stays live.
+	 */
+	private interface Parse
+	{
+		int run() throws IOException;
+	}
+
+	/**
+	 * Times one parse run after asking for a garbage collection so runs start from the same heap.
+	 *
+	 * @param parse the parse to run
+	 * @return the elapsed time in milliseconds
+	 * @throws IOException if the parse fails
+	 */
+	private static long time(Parse parse) throws IOException
+	{
+		System.gc();
+		long start = System.nanoTime();
+		int result = parse.run();
+		long elapsed = (System.nanoTime() - start) / 1_000_000;
+		if (result == 0) {
+			throw new IllegalStateException("Empty parse");
+		}
+		return elapsed;
+	}
+}
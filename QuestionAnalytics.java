@@ -0,0 +1,687 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionAnalytics.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionAnalytics counts, for every question, how often it was shown, answered correctly,
+ * answered wrongly and left to time out, which answer players chose and how long they took,
+ * so questions that are too easy or too hard for their point value can be found.
+ *
+ * <p>The shared analytics listens to the shared GameJournal and counts each event as it is
+ * recorded, on LongAdders kept for each question id, so games on many threads count at once
+ * without contending. When it starts it first counts the games already in the journal, and
+ * it saves its statistics to QuestionStats.csv every minute and when the program exits.
+ *
+ * <p>The same statistics can be worked out from the journal alone with
+ * "java QuestionAnalytics [journal] [stats.csv] [tiers.csv]", which reads the segment files
+ * in slices on a parallel stream. It also writes a proposal that moves questions between
+ * point values: within each category, the questions with enough answers are ranked from the
+ * easiest to the hardest and dealt back into the point values in that order, keeping as many
+ * questions at each value as there were before.
+ *
+ * <p>Question ids are those of the question bank the games were played with, so the
+ * statistics only describe the current bank until Questions.txt is changed.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionAnalytics implements GameJournal.Listener
+{
+	/** How often the shared analytics saves its statistics. */
+	public static final long SNAPSHOT_INTERVAL_SECONDS = 60;
+
+	/** The fewest answers and timeouts a question needs before a new point value is proposed for it. */
+	public static final int MIN_ANSWERS_FOR_TIER = 5;
+
+	// Every question starts with this many answers at the average correct rate, so a
+	// question answered once is not ranked as the easiest or hardest of all
+	private static final int PRIOR_ANSWERS = 5;
+
+	// The counters kept for each question
+	private static final int SHOWN = 0;
+	private static final int CORRECT = 1;
+	private static final int WRONG = 2;
+	private static final int TIMEOUTS = 3;
+	private static final int ANSWER_MICROS = 4;
+	private static final int CHOSEN = 5; // then one counter for each answer, the correct one first
+	private static final int FIELDS = CHOSEN + QuestionSource.ANSWER_COUNT;
+
+	private static final int SLICE_RECORDS = 1 << 16; // records read by each task of a batch analysis
+
+	private static final Object SHARED_LOCK = new Object();
+	private static QuestionAnalytics shared;
+
+	private final ConcurrentHashMap<Integer, LongAdder[]> counters = new ConcurrentHashMap<>();
+	private final Sink live = this::add;
+	private CompletableFuture<Void> history = CompletableFuture.completedFuture(null); // done once earlier runs have been counted
+
+	/**
+	 * Sink receives the counts of events, one counter of one question at a time.
+	 */
+	private interface Sink
+	{
+		void add(int question, int field, long amount);
+	}
+
+	/**
+	 * Returns the analytics shared by every game in the process, listening to the shared
+	 * GameJournal. Call it before any game starts, as Main does, so no event is counted twice.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @return the shared analytics
+	 */
+	public static QuestionAnalytics shared()
+	{
+		synchronized (SHARED_LOCK) {
+			if (shared == null) {
+				QuestionAnalytics analytics = new QuestionAnalytics();
+				GameJournal journal = GameJournal.shared();
+				journal.addListener(analytics);
+				analytics.history = new CompletableFuture<>();
+				long recorded = journal.getRecords();
+
+				ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(task -> {
+					Thread thread = new Thread(task, "question-analytics");
+					thread.setDaemon(true);
+					return thread;
+				});
+				// Count the games recorded before this run first, so the statistics cover the whole journal
+				writer.execute(() -> {
+					try {
+						analytics.addAll(analyze(FileManager.JOURNAL_DIRECTORY, recorded));
+					} catch (IOException | UncheckedIOException e) {
+						System.out.println("Unable to read the game journal: " + e);
+					} finally {
+						analytics.history.complete(null);
+					}
+				});
+				writer.scheduleWithFixedDelay(analytics::save, SNAPSHOT_INTERVAL_SECONDS, SNAPSHOT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+				Runtime.getRuntime().addShutdownHook(new Thread(analytics::save, "question-analytics-shutdown"));
+				shared = analytics;
+			}
+			return shared;
+		}
+	}
+
+	/**
+	 * Works out the statistics of every question from a journal, then writes them and the
+	 * proposed point values as CSV files.
+	 *
+	 * @param args the journal directory, the statistics file and the proposal file, which
+	 *     default to journal, QuestionStats.csv and QuestionTiers.csv
+	 * @throws IOException if the journal, the questions or a file cannot be read or written
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		Path journal = args.length > 0 ? Path.of(args[0]) : FileManager.JOURNAL_DIRECTORY;
+		Path statsFile = args.length > 1 ? Path.of(args[1]) : FileManager.QUESTION_STATS_FILE;
+		Path tiersFile = args.length > 2 ? Path.of(args[2]) : Path.of("QuestionTiers.csv");
+
+		long start = System.nanoTime();
+		Snapshot snapshot = analyze(journal, Long.MAX_VALUE);
+		long millis = (System.nanoTime() - start) / 1_000_000;
+
+		QuestionSource bank = FileManager.loadQuestionBank();
+		snapshot.writeCsv(statsFile, bank);
+		List<TierMove> moves = snapshot.proposeTiers(bank);
+		snapshot.writeTiers(tiersFile, moves, bank);
+		System.out.printf("%,d questions shown %,d times, analyzed in %,d ms%n", snapshot.getRows().size(), snapshot.getShown(), millis);
+		System.out.printf("Wrote %s and %s with %,d proposed moves%n", statsFile, tiersFile, moves.size());
+	}
+
+	/**
+	 * Counts one recorded event.
+	 */
+	@Override
+	public void recorded(GameJournal.Event event, int game, int question, int answer, int latencyMicros, int score)
+	{
+		tally(event, question, answer, latencyMicros, live);
+	}
+
+	/**
+	 * Copies the counters.
+	 *
+	 * @return the statistics so far
+	 */
+	public Snapshot snapshot()
+	{
+		Map<Integer, long[]> fields = new HashMap<>();
+		counters.forEach((question, adders) -> {
+			long[] values = new long[FIELDS];
+			for (int field = 0; field < FIELDS; field++) {
+				values[field] = adders[field].sum();
+			}
+			fields.put(question, values);
+		});
+		return new Snapshot(fields);
+	}
+
+	/**
+	 * Works out the statistics of every question from the records of a journal, reading its
+	 * segments in slices on a parallel stream.
+	 *
+	 * @param directory the journal directory
+	 * @param records how many records to read from the start of the journal, or Long.MAX_VALUE for all of them
+	 * @return the statistics
+	 * @throws IOException if the journal cannot be read
+	 */
+	public static Snapshot analyze(Path directory, long records) throws IOException
+	{
+		List<ByteBuffer> slices = new ArrayList<>();
+		for (Path segment : GameJournal.segments(directory)) {
+			long first = GameJournal.segmentIndex(segment) * GameJournal.RECORDS_PER_SEGMENT;
+			if (first >= records) {
+				break;
+			}
+			MappedByteBuffer buffer = GameJournal.map(segment, FileChannel.MapMode.READ_ONLY);
+			int count = (int) Math.min(buffer.capacity() / GameJournal.RECORD_BYTES, records - first);
+			for (int start = 0; start < count; start += SLICE_RECORDS) {
+				int length = Math.min(SLICE_RECORDS, count - start);
+				slices.add(buffer.slice(start * GameJournal.RECORD_BYTES, length * GameJournal.RECORD_BYTES));
+			}
+		}
+		Tally tally = slices.parallelStream().collect(Tally::new, Tally::read, Tally::merge);
+		return new Snapshot(tally.questions);
+	}
+
+	/**
+	 * Runs an action once the games recorded before this run have been counted, straight
+	 * away if they already have been. The shared analytics counts them in the background
+	 * after it is created, so a snapshot taken at startup may not include them yet.
+	 * The action runs on the thread that finished the count, so it should be quick.
+	 *
+	 * @param action the action to run
+	 */
+	public void whenHistoryLoaded(Runnable action)
+	{
+		history.thenRun(action);
+	}
+
+	/**
+	 * Adds statistics, such as those of earlier runs, to the counters.
+	 *
+	 * @param snapshot the statistics to add
+	 */
+	public void addAll(Snapshot snapshot)
+	{
+		for (Row row : snapshot.getRows()) {
+			for (int field = 0; field < FIELDS; field++) {
+				if (row.fields[field] != 0) {
+					add(row.question, field, row.fields[field]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Saves the statistics to QuestionStats.csv, labelled from the current question bank.
+	 */
+	private void save()
+	{
+		try {
+			snapshot().writeCsv(FileManager.QUESTION_STATS_FILE, QuestionBankCache.getDeck().bank());
+		} catch (IOException e) {
+			System.out.println("Unable to save the question statistics: " + e);
+		}
+	}
+
+	private void add(int question, int field, long amount)
+	{
+		LongAdder[] adders = counters.get(question);
+		if (adders == null) {
+			adders = counters.computeIfAbsent(question, id -> {
+				LongAdder[] created = new LongAdder[FIELDS];
+				for (int i = 0; i < FIELDS; i++) {
+					created[i] = new LongAdder();
+				}
+				return created;
+			});
+		}
+		adders[field].add(amount);
+	}
+
+	/**
+	 * Counts one event. Live counting and batch analysis both count through here, so they
+	 * always agree.
+	 */
+	private static void tally(GameJournal.Event event, int question, int answer, int latencyMicros, Sink sink)
+	{
+		if (event == null || question < 0) {
+			return;
+		}
+		switch (event) {
+			case PICK:
+				sink.add(question, SHOWN, 1);
+				break;
+			case ANSWER:
+				sink.add(question, answer == 0 ? CORRECT : WRONG, 1);
+				if (answer >= 0 && answer < QuestionSource.ANSWER_COUNT) {
+					sink.add(question, CHOSEN + answer, 1);
+				}
+				sink.add(question, ANSWER_MICROS, latencyMicros);
+				break;
+			case TIMED_OUT:
+				sink.add(question, TIMEOUTS, 1);
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Tally counts the records of some slices of a journal without any locking, for one task
+	 * of a batch analysis. The tallies of the tasks are merged at the end.
+	 */
+	private static class Tally implements Sink
+	{
+		final Map<Integer, long[]> questions = new HashMap<>();
+
+		@Override
+		public void add(int question, int field, long amount)
+		{
+			questions.computeIfAbsent(question, id -> new long[FIELDS])[field] += amount;
+		}
+
+		void read(ByteBuffer slice)
+		{
+			GameJournal.Cursor cursor = new GameJournal.Cursor(slice);
+			while (cursor.next()) {
+				tally(cursor.event(), cursor.question(), cursor.answer(), cursor.latencyMicros(), this);
+			}
+		}
+
+		void merge(Tally other)
+		{
+			other.questions.forEach((question, fields) -> {
+				long[] mine = questions.computeIfAbsent(question, id -> new long[FIELDS]);
+				for (int field = 0; field < FIELDS; field++) {
+					mine[field] += fields[field];
+				}
+			});
+		}
+	}
+
+	/**
+	 * Row holds the statistics of one question.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Row
+	{
+		private final int question;
+		private final long[] fields;
+
+		private Row(int question, long[] fields)
+		{
+			this.question = question;
+			this.fields = fields;
+		}
+
+		/**
+		 * Returns the question id.
+		 *
+		 * @return the question id
+		 */
+		public int getQuestion()
+		{
+			return question;
+		}
+
+		/**
+		 * Returns how many times the question was shown.
+		 *
+		 * @return the times shown
+		 */
+		public long getShown()
+		{
+			return fields[SHOWN];
+		}
+
+		/**
+		 * Returns how many times the question was answered correctly.
+		 *
+		 * @return the correct answers
+		 */
+		public long getCorrect()
+		{
+			return fields[CORRECT];
+		}
+
+		/**
+		 * Returns how many times the question was answered wrongly.
+		 *
+		 * @return the wrong answers
+		 */
+		public long getWrong()
+		{
+			return fields[WRONG];
+		}
+
+		/**
+		 * Returns how many times the question ran out of time.
+		 *
+		 * @return the timeouts
+		 */
+		public long getTimeouts()
+		{
+			return fields[TIMEOUTS];
+		}
+
+		/**
+		 * Returns how many times an answer was chosen.
+		 *
+		 * @param answer the index of the answer in the question, where 0 is the correct one
+		 * @return the times it was chosen
+		 */
+		public long getChosen(int answer)
+		{
+			return fields[CHOSEN + answer];
+		}
+
+		/**
+		 * Returns how long players took to answer, on average, leaving out timeouts.
+		 *
+		 * @return the mean answer time in milliseconds, or 0 if it was never answered
+		 */
+		public double getMeanAnswerMillis()
+		{
+			long answered = fields[CORRECT] + fields[WRONG];
+			return answered == 0 ? 0 : fields[ANSWER_MICROS] / 1000.0 / answered;
+		}
+
+		/**
+		 * Returns how many times the question was closed, by an answer or a timeout.
+		 *
+		 * @return the answers and timeouts
+		 */
+		public long getAnswers()
+		{
+			return fields[CORRECT] + fields[WRONG] + fields[TIMEOUTS];
+		}
+
+		/**
+		 * Returns the share of answers and timeouts that were correct answers.
+		 *
+		 * @return the correct rate from 0 to 1, or 0 if it was never answered
+		 */
+		public double getCorrectRate()
+		{
+			long answers = getAnswers();
+			return answers == 0 ? 0 : (double) fields[CORRECT] / answers;
+		}
+
+		/**
+		 * Returns the correct rate pulled towards an average rate, by as much as PRIOR_ANSWERS
+		 * answers at that rate would pull it.
+		 */
+		double smoothedCorrectRate(double average)
+		{
+			return (fields[CORRECT] + PRIOR_ANSWERS * average) / (getAnswers() + PRIOR_ANSWERS);
+		}
+	}
+
+	/**
+	 * TierMove is a proposal to move a question to another point value.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class TierMove
+	{
+		private final Row row;
+		private final int from;
+		private final int to;
+
+		private TierMove(Row row, int from, int to)
+		{
+			this.row = row;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * Returns the statistics of the question to move.
+		 *
+		 * @return the question's row
+		 */
+		public Row getRow()
+		{
+			return row;
+		}
+
+		/**
+		 * Returns the value id the question has now.
+		 *
+		 * @return the current value id
+		 */
+		public int getFrom()
+		{
+			return from;
+		}
+
+		/**
+		 * Returns the value id proposed for the question.
+		 *
+		 * @return the proposed value id
+		 */
+		public int getTo()
+		{
+			return to;
+		}
+	}
+
+	/**
+	 * Snapshot holds the statistics of every question that has been shown or answered.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Snapshot
+	{
+		private final List<Row> rows = new ArrayList<>();
+
+		private Snapshot(Map<Integer, long[]> fields)
+		{
+			fields.forEach((question, values) -> rows.add(new Row(question, values)));
+			rows.sort(Comparator.comparingInt(Row::getQuestion));
+		}
+
+		/**
+		 * Returns the statistics of each question, in question id order.
+		 *
+		 * @return the rows
+		 */
+		public List<Row> getRows()
+		{
+			return rows;
+		}
+
+		/**
+		 * Returns how many questions were shown in all.
+		 *
+		 * @return the times any question was shown
+		 */
+		public long getShown()
+		{
+			long shown = 0;
+			for (Row row : rows) {
+				shown += row.getShown();
+			}
+			return shown;
+		}
+
+		/**
+		 * Proposes new point values so that, within each category, easier questions are worth
+		 * less than harder ones. Only questions with MIN_ANSWERS_FOR_TIER answers are ranked,
+		 * and each point value keeps as many of them as it has now.
+		 *
+		 * @param bank the question bank the games were played with
+		 * @return the questions whose point value should change
+		 */
+		public List<TierMove> proposeTiers(QuestionSource bank)
+		{
+			long correct = 0;
+			long answers = 0;
+			for (Row row : rows) {
+				correct += row.getCorrect();
+				answers += row.getAnswers();
+			}
+			double average = answers == 0 ? 0.5 : (double) correct / answers;
+
+			List<List<Row>> categories = new ArrayList<>();
+			for (int category = 0; category < bank.categoryCount(); category++) {
+				categories.add(new ArrayList<>());
+			}
+			for (Row row : rows) {
+				if (row.question < bank.size() && row.getAnswers() >= MIN_ANSWERS_FOR_TIER) {
+					categories.get(bank.categoryOf(row.question)).add(row);
+				}
+			}
+
+			// The value ids from the lowest point value to the highest
+			Integer[] tiers = new Integer[bank.valueCount()];
+			for (int value = 0; value < tiers.length; value++) {
+				tiers[value] = value;
+			}
+			Arrays.sort(tiers, Comparator.comparingInt(bank::pointValue));
+
+			List<TierMove> moves = new ArrayList<>();
+			for (List<Row> ranked : categories) {
+				int[] tierSize = new int[bank.valueCount()];
+				for (Row row : ranked) {
+					tierSize[bank.valueOf(row.question)]++;
+				}
+				ranked.sort(Comparator.comparingDouble((Row row) -> -row.smoothedCorrectRate(average))
+						.thenComparingInt(row -> bank.pointValue(bank.valueOf(row.question)))
+						.thenComparingInt(Row::getQuestion));
+				int next = 0;
+				for (int tier : tiers) {
+					for (int i = 0; i < tierSize[tier]; i++) {
+						Row row = ranked.get(next++);
+						if (bank.valueOf(row.question) != tier) {
+							moves.add(new TierMove(row, bank.valueOf(row.question), tier));
+						}
+					}
+				}
+			}
+			return moves;
+		}
+
+		/**
+		 * Writes the statistics as CSV, replacing the file in one step so it is never half written.
+		 *
+		 * @param file the file to write
+		 * @param bank the question bank to label the questions from
+		 * @throws IOException if the file cannot be written
+		 */
+		public void writeCsv(Path file, QuestionSource bank) throws IOException
+		{
+			Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+			try (BufferedWriter out = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+				out.write("question,category,value,shown,correct,wrong,timeouts");
+				for (int answer = 1; answer <= QuestionSource.ANSWER_COUNT; answer++) {
+					out.write(",chose_answer_" + answer);
+				}
+				out.write(",mean_answer_ms,correct_rate,text\n");
+				for (Row row : rows) {
+					StringBuilder line = new StringBuilder();
+					line.append(row.question).append(',').append(csv(categoryOf(bank, row.question))).append(',')
+							.append(pointValueOf(bank, row.question)).append(',').append(row.getShown()).append(',')
+							.append(row.getCorrect()).append(',').append(row.getWrong()).append(',').append(row.getTimeouts());
+					for (int answer = 0; answer < QuestionSource.ANSWER_COUNT; answer++) {
+						line.append(',').append(row.getChosen(answer));
+					}
+					line.append(String.format(Locale.ROOT, ",%.1f,%.3f,", row.getMeanAnswerMillis(), row.getCorrectRate()))
+							.append(csv(textOf(bank, row.question))).append('\n');
+					out.write(line.toString());
+				}
+			}
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		/**
+		 * Writes proposed point values as CSV.
+		 *
+		 * @param file the file to write
+		 * @param moves the moves from {@link #proposeTiers}
+		 * @param bank the question bank the moves were proposed for
+		 * @throws IOException if the file cannot be written
+		 */
+		public void writeTiers(Path file, List<TierMove> moves, QuestionSource bank) throws IOException
+		{
+			try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+				out.write("question,category,value,proposed_value,answers,correct_rate,text\n");
+				for (TierMove move : moves) {
+					Row row = move.getRow();
+					out.write(String.format(Locale.ROOT, "%d,%s,%d,%d,%d,%.3f,%s\n", row.question, csv(bank.categoryName(bank.categoryOf(row.question))),
+							bank.pointValue(move.getFrom()), bank.pointValue(move.getTo()), row.getAnswers(), row.getCorrectRate(),
+							csv(bank.questionText(row.question))));
+				}
+			}
+		}
+
+		private static String categoryOf(QuestionSource bank, int question)
+		{
+			return question < bank.size() ? bank.categoryName(bank.categoryOf(question)) : "";
+		}
+
+		private static String pointValueOf(QuestionSource bank, int question)
+		{
+			return question < bank.size() ? Integer.toString(bank.pointValue(bank.valueOf(question))) : "";
+		}
+
+		private static String textOf(QuestionSource bank, int question)
+		{
+			return question < bank.size() ? bank.questionText(question) : "";
+		}
+
+		/**
+		 * Quotes a CSV field if it needs it.
+		 */
+		private static String csv(String field)
+		{
+			if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0) {
+				return field;
+			}
+			return '"' + field.replace("\"", "\"\"") + '"';
+		}
+	}
+}
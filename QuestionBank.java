@@ -0,0 +1,567 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionBank.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionBank stores every question in flat columns instead of one object per question.
+ * The question and answer texts live back to back in one shared UTF-8 pool and are found
+ * through an offset column. The answer prefix ("What is", "Who is") is kept once in a
+ * prefix table, and the category and point value of each question are int ids.
+ * Questions are grouped by category and value so a bucket can be read without searching.
+ * Any number of categories and point values is supported.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionBank implements QuestionSource
+{
+	// Each question has its text followed by its answers in the pool
+	private static final int TEXTS_PER_QUESTION = ANSWER_COUNT + 1;
+
+	private final String[] categories; // category names, indexed by category id
+	private final int[] pointValues; // point values in ascending order, indexed by value id
+	private final String[] prefixes; // the distinct answer prefixes
+	private final byte[] pool; // the UTF-8 text of every question and answer
+	private final int[] textOffsets; // where each text starts in the pool, plus one final end offset
+	private final int[] categoryIds; // the category id of each question
+	private final int[] valueIds; // the value id of each question
+	private final int[] prefixIds; // the prefix id of each question
+	private final int[] bucketStarts; // where each (category, value) bucket starts in bucketQuestions
+	private final int[] bucketQuestions; // question ids ordered by bucket
+
+	/**
+	 * Creates a question bank from finished columns. Use {@link Builder} to make one.
+	 */
+	private QuestionBank(String[] categories, int[] pointValues, String[] prefixes, byte[] pool, int[] textOffsets,
+			int[] categoryIds, int[] valueIds, int[] prefixIds, int[] bucketStarts, int[] bucketQuestions)
+	{
+		this.categories = categories;
+		this.pointValues = pointValues;
+		this.prefixes = prefixes;
+		this.pool = pool;
+		this.textOffsets = textOffsets;
+		this.categoryIds = categoryIds;
+		this.valueIds = valueIds;
+		this.prefixIds = prefixIds;
+		this.bucketStarts = bucketStarts;
+		this.bucketQuestions = bucketQuestions;
+	}
+
+	/**
+	 * Returns the number of questions in the bank.
+	 *
+	 * @return the number of questions
+	 */
+	@Override
+	public int size()
+	{
+		return categoryIds.length;
+	}
+
+	/**
+	 * Returns the number of categories in the bank.
+	 *
+	 * @return the number of categories
+	 */
+	@Override
+	public int categoryCount()
+	{
+		return categories.length;
+	}
+
+	/**
+	 * Returns the name of a category.
+	 *
+	 * @param category the category id
+	 * @return the category name
+	 */
+	@Override
+	public String categoryName(int category)
+	{
+		return categories[category];
+	}
+
+	/**
+	 * Returns the number of distinct point values in the bank.
+	 *
+	 * @return the number of point values
+	 */
+	@Override
+	public int valueCount()
+	{
+		return pointValues.length;
+	}
+
+	/**
+	 * Returns a point value. Value ids are ordered from the lowest value to the highest.
+	 *
+	 * @param value the value id
+	 * @return the point value, for example 200
+	 */
+	@Override
+	public int pointValue(int value)
+	{
+		return pointValues[value];
+	}
+
+	/**
+	 * Returns how many questions share a category and point value.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @return the number of questions in the bucket
+	 */
+	@Override
+	public int bucketSize(int category, int value)
+	{
+		int bucket = category * pointValues.length + value;
+		return bucketStarts[bucket + 1] - bucketStarts[bucket];
+	}
+
+	/**
+	 * Returns the id of a question within a category and point value.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @param index the position of the question in the bucket, from 0 to bucketSize - 1
+	 * @return the question id
+	 */
+	@Override
+	public int questionId(int category, int value, int index)
+	{
+		int bucket = category * pointValues.length + value;
+		if (index < 0 || index >= bucketStarts[bucket + 1] - bucketStarts[bucket]) {
+			throw new IndexOutOfBoundsException("Question " + index + " is not in bucket " + category + "/" + value);
+		}
+		return bucketQuestions[bucketStarts[bucket] + index];
+	}
+
+	/**
+	 * Returns the category id of a question.
+	 *
+	 * @param id the question id
+	 * @return the category id
+	 */
+	@Override
+	public int categoryOf(int id)
+	{
+		return categoryIds[id];
+	}
+
+	/**
+	 * Returns the value id of a question.
+	 *
+	 * @param id the question id
+	 * @return the value id
+	 */
+	@Override
+	public int valueOf(int id)
+	{
+		return valueIds[id];
+	}
+
+	/**
+	 * Returns the text of a question.
+	 *
+	 * @param id the question id
+	 * @return the question text
+	 */
+	@Override
+	public String questionText(int id)
+	{
+		return text(id * TEXTS_PER_QUESTION);
+	}
+
+	/**
+	 * Returns the answer prefix of a question, such as "What is".
+	 *
+	 * @param id the question id
+	 * @return the answer prefix
+	 */
+	@Override
+	public String prefix(int id)
+	{
+		return prefixes[prefixIds[id]];
+	}
+
+	/**
+	 * Returns an answer without its prefix. Answer 0 is always the correct one.
+	 *
+	 * @param id the question id
+	 * @param answer the answer index, from 0 to ANSWER_COUNT - 1
+	 * @return the answer text
+	 */
+	@Override
+	public String answerText(int id, int answer)
+	{
+		return text(id * TEXTS_PER_QUESTION + 1 + answer);
+	}
+
+	/**
+	 * Hashes the UTF-8 bytes of a question's text with 64-bit FNV-1a, for finding the same
+	 * question in another bank without decoding either one.
+	 *
+	 * @param id the question id
+	 * @return the hash of the question text
+	 */
+	long questionHash(int id)
+	{
+		long hash = 0xCBF29CE484222325L;
+		for (int i = textOffsets[id * TEXTS_PER_QUESTION], end = textOffsets[id * TEXTS_PER_QUESTION + 1]; i < end; i++) {
+			hash = (hash ^ (pool[i] & 0xFF)) * 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * Checks whether two questions have the same text, comparing their UTF-8 bytes.
+	 *
+	 * @param id the question id in this bank
+	 * @param other the other bank
+	 * @param otherId the question id in the other bank
+	 * @return true if the question texts are equal
+	 */
+	boolean sameQuestionText(int id, QuestionBank other, int otherId)
+	{
+		int text = id * TEXTS_PER_QUESTION;
+		int otherText = otherId * TEXTS_PER_QUESTION;
+		return Arrays.equals(pool, textOffsets[text], textOffsets[text + 1],
+				other.pool, other.textOffsets[otherText], other.textOffsets[otherText + 1]);
+	}
+
+	/**
+	 * Decodes one text from the pool.
+	 *
+	 * @param text the index of the text in the offset column
+	 * @return the decoded text
+	 */
+	private String text(int text)
+	{
+		int start = textOffsets[text];
+		return new String(pool, start, textOffsets[text + 1] - start, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Builds a QuestionBank one question at a time. Text is taken as character ranges of a
+	 * source line, so the caller does not have to cut the line into substrings first.
+	 * For each question call {@link #startQuestion}, then {@link #addText} for the question
+	 * and each answer, then {@link #finishQuestion}.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static class Builder
+	{
+		private final CategoryIndex categories = new CategoryIndex();
+		private final ValueIndex pointValues = new ValueIndex();
+		private String[] prefixes = new String[4];
+		private int prefixCount;
+
+		private byte[] pool = new byte[1 << 12];
+		private int poolSize;
+		private int[] textOffsets = new int[64];
+		private int textCount;
+		private int[] categoryIds = new int[16];
+		private int[] valueIds = new int[16];
+		private int[] prefixIds = new int[16];
+		private int questionCount;
+
+		// State of the question being added
+		private int currentCategory;
+		private int currentValue;
+		private int currentPrefix;
+		private int currentTexts = -1;
+
+		/**
+		 * Returns the id of a category, adding it if it has not been seen yet.
+		 * Categories keep the order they were first seen in.
+		 *
+		 * @param source the text holding the category name
+		 * @param start the index of the first character of the name
+		 * @param end the index one past the last character of the name
+		 * @return the category id
+		 */
+		public int categoryId(CharSequence source, int start, int end)
+		{
+			return categories.add(source, start, end);
+		}
+
+		/**
+		 * Returns the id of a category, adding it if it has not been seen yet.
+		 *
+		 * @param category the category name
+		 * @return the category id
+		 */
+		public int categoryId(String category)
+		{
+			return categoryId(category, 0, category.length());
+		}
+
+		/**
+		 * Returns the id of a point value, adding it if it has not been seen yet.
+		 * The ids are renumbered from lowest to highest value when the bank is built.
+		 *
+		 * @param pointValue the point value
+		 * @return the value id
+		 */
+		public int valueId(int pointValue)
+		{
+			return pointValues.add(pointValue);
+		}
+
+		/**
+		 * Starts a new question.
+		 *
+		 * @param category the category id from {@link #categoryId}
+		 * @param value the value id from {@link #valueId}
+		 * @param prefix the text holding the answer prefix
+		 * @param prefixStart the index of the first character of the prefix
+		 * @param prefixEnd the index one past the last character of the prefix
+		 */
+		public void startQuestion(int category, int value, CharSequence prefix, int prefixStart, int prefixEnd)
+		{
+			if (category < 0 || category >= categories.size() || value < 0 || value >= pointValues.size()) {
+				throw new IllegalArgumentException("Unknown category " + category + " or value " + value);
+			}
+			currentCategory = category;
+			currentValue = value;
+			currentPrefix = prefixId(prefix, prefixStart, prefixEnd);
+			currentTexts = 0;
+		}
+
+		/**
+		 * Adds the next text of the current question: first the question, then each answer
+		 * with the correct one first. Texts past the last answer are ignored.
+		 *
+		 * @param source the text holding the question or answer
+		 * @param start the index of the first character
+		 * @param end the index one past the last character
+		 */
+		public void addText(CharSequence source, int start, int end)
+		{
+			if (currentTexts < 0) {
+				throw new IllegalStateException("No question has been started");
+			}
+			if (currentTexts == TEXTS_PER_QUESTION) {
+				return;
+			}
+			if (textCount == textOffsets.length) {
+				textOffsets = Arrays.copyOf(textOffsets, textCount * 2);
+			}
+			textOffsets[textCount++] = poolSize;
+			appendUtf8(source, start, end);
+			currentTexts++;
+		}
+
+		/**
+		 * Finishes the current question. Missing answers are stored as empty text.
+		 */
+		public void finishQuestion()
+		{
+			if (currentTexts < 1) {
+				throw new IllegalStateException("The question has no text");
+			}
+			while (currentTexts < TEXTS_PER_QUESTION) {
+				addText("", 0, 0);
+			}
+			if (questionCount == categoryIds.length) {
+				int capacity = questionCount * 2;
+				categoryIds = Arrays.copyOf(categoryIds, capacity);
+				valueIds = Arrays.copyOf(valueIds, capacity);
+				prefixIds = Arrays.copyOf(prefixIds, capacity);
+			}
+			categoryIds[questionCount] = currentCategory;
+			valueIds[questionCount] = currentValue;
+			prefixIds[questionCount] = currentPrefix;
+			questionCount++;
+			currentTexts = -1;
+		}
+
+		/**
+		 * Copies a whole question from another bank. Its texts are copied as UTF-8 bytes, so
+		 * nothing is decoded or encoded again.
+		 *
+		 * @param source the bank holding the question
+		 * @param id the question id in the source bank
+		 * @param category the category id in this builder
+		 * @param value the value id in this builder
+		 */
+		public void addQuestion(QuestionBank source, int id, int category, int value)
+		{
+			String prefix = source.prefix(id);
+			startQuestion(category, value, prefix, 0, prefix.length());
+			int first = id * TEXTS_PER_QUESTION;
+			int length = source.textOffsets[first + TEXTS_PER_QUESTION] - source.textOffsets[first];
+			ensurePool(length);
+			if (textCount + TEXTS_PER_QUESTION > textOffsets.length) {
+				textOffsets = Arrays.copyOf(textOffsets, Math.max(textCount * 2, textCount + TEXTS_PER_QUESTION));
+			}
+			for (int text = first; text < first + TEXTS_PER_QUESTION; text++) {
+				textOffsets[textCount++] = poolSize + source.textOffsets[text] - source.textOffsets[first];
+			}
+			System.arraycopy(source.pool, source.textOffsets[first], pool, poolSize, length);
+			poolSize += length;
+			currentTexts = TEXTS_PER_QUESTION;
+			finishQuestion();
+		}
+
+		/**
+		 * Drops a question that was started but not finished, for example because the rest of
+		 * its line turned out to be bad.
+		 */
+		public void abandonQuestion()
+		{
+			if (currentTexts > 0) {
+				textCount -= currentTexts;
+				poolSize = textOffsets[textCount];
+			}
+			currentTexts = -1;
+		}
+
+		/**
+		 * Returns the number of questions added so far.
+		 *
+		 * @return the number of finished questions
+		 */
+		public int size()
+		{
+			return questionCount;
+		}
+
+		/**
+		 * Builds the bank. Point values are sorted and the questions are grouped by bucket.
+		 *
+		 * @return the finished question bank
+		 */
+		public QuestionBank build()
+		{
+			abandonQuestion();
+
+			// Renumber the value ids so they run from the lowest point value to the highest
+			int categoryCount = categories.size();
+			int valueCount = pointValues.size();
+			int[] sortedValues = pointValues.toArray();
+			Arrays.sort(sortedValues);
+			int[] valueRemap = new int[valueCount];
+			for (int i = 0; i < valueCount; i++) {
+				valueRemap[i] = Arrays.binarySearch(sortedValues, pointValues.value(i));
+			}
+			int[] finalValueIds = new int[questionCount];
+			for (int i = 0; i < questionCount; i++) {
+				finalValueIds[i] = valueRemap[valueIds[i]];
+			}
+
+			// Group the question ids by bucket with a counting sort, keeping file order inside a bucket
+			int[] bucketStarts = new int[categoryCount * valueCount + 1];
+			for (int i = 0; i < questionCount; i++) {
+				bucketStarts[categoryIds[i] * valueCount + finalValueIds[i] + 1]++;
+			}
+			for (int i = 1; i < bucketStarts.length; i++) {
+				bucketStarts[i] += bucketStarts[i - 1];
+			}
+			int[] next = Arrays.copyOf(bucketStarts, bucketStarts.length - 1);
+			int[] bucketQuestions = new int[questionCount];
+			for (int i = 0; i < questionCount; i++) {
+				bucketQuestions[next[categoryIds[i] * valueCount + finalValueIds[i]]++] = i;
+			}
+
+			int[] offsets = Arrays.copyOf(textOffsets, textCount + 1);
+			offsets[textCount] = poolSize;
+			return new QuestionBank(categories.toArray(), sortedValues,
+					Arrays.copyOf(prefixes, prefixCount), Arrays.copyOf(pool, poolSize), offsets,
+					Arrays.copyOf(categoryIds, questionCount), finalValueIds,
+					Arrays.copyOf(prefixIds, questionCount), bucketStarts, bucketQuestions);
+		}
+
+		/**
+		 * Returns the id of an answer prefix, adding it to the prefix table if it is new.
+		 */
+		private int prefixId(CharSequence source, int start, int end)
+		{
+			for (int i = 0; i < prefixCount; i++) {
+				if (regionEquals(prefixes[i], source, start, end)) {
+					return i;
+				}
+			}
+			if (prefixCount == prefixes.length) {
+				prefixes = Arrays.copyOf(prefixes, prefixCount * 2);
+			}
+			prefixes[prefixCount] = source.subSequence(start, end).toString();
+			return prefixCount++;
+		}
+
+		/**
+		 * Encodes a range of characters as UTF-8 at the end of the pool.
+		 */
+		private void appendUtf8(CharSequence source, int start, int end)
+		{
+			// Every character takes at most three bytes; a surrogate pair takes four for two characters
+			ensurePool((end - start) * 3);
+			for (int i = start; i < end; i++) {
+				char c = source.charAt(i);
+				if (c < 0x80) {
+					pool[poolSize++] = (byte) c;
+				} else if (c < 0x800) {
+					pool[poolSize++] = (byte) (0xC0 | (c >> 6));
+					pool[poolSize++] = (byte) (0x80 | (c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(source.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, source.charAt(++i));
+					pool[poolSize++] = (byte) (0xF0 | (codePoint >> 18));
+					pool[poolSize++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+					pool[poolSize++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+					pool[poolSize++] = (byte) (0x80 | (codePoint & 0x3F));
+				} else {
+					// Lone surrogates are stored as replacement characters, as String.getBytes would
+					if (Character.isSurrogate(c)) {
+						c = '\uFFFD';
+					}
+					pool[poolSize++] = (byte) (0xE0 | (c >> 12));
+					pool[poolSize++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+					pool[poolSize++] = (byte) (0x80 | (c & 0x3F));
+				}
+			}
+		}
+
+		/**
+		 * Grows the pool so it has room for at least the given number of extra bytes.
+		 */
+		private void ensurePool(int extra)
+		{
+			long needed = (long) poolSize + extra;
+			if (needed > pool.length) {
+				if (needed > Integer.MAX_VALUE - 8) {
+					throw new IllegalStateException("Question bank text is larger than 2 GB");
+				}
+				pool = Arrays.copyOf(pool, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, (long) pool.length * 2)));
+			}
+		}
+
+		/**
+		 * Checks whether a string equals a range of characters without copying the range.
+		 */
+		private static boolean regionEquals(String string, CharSequence source, int start, int end)
+		{
+			int length = end - start;
+			if (string.length() != length) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (string.charAt(i) != source.charAt(start + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,282 @@
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionBankCache.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionBankCache holds the one question bank shared by every game in the process.
+ * The bank is loaded the first time it is asked for and then handed out again for free,
+ * so starting a new game does no file I/O for questions.
+ *
+ * <p>A WatchService thread watches the questions files. When one of them changes, and has
+ * then been quiet for RELOAD_DELAY_MILLIS so a half-saved file is not read, the watcher
+ * parses the new bank itself and swaps it in with a single volatile write. Games that are
+ * already running keep the bank and deck they started with, and the next game gets the new
+ * ones; a draw never waits for a reload. If the new bank cannot be read, or has no questions
+ * in it, the old bank stays in place. Banks are never modified after loading, so any number
+ * of threads can read the same one.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionBankCache
+{
+	/** How long the questions files must be left alone after a change before they are reloaded. */
+	public static final long RELOAD_DELAY_MILLIS = 250;
+
+	private static final Object LOCK = new Object();
+	private static volatile QuestionDeck deck; // deals from the shared bank, null until first loaded
+	private static Thread watcher; // started with the first load, guarded by LOCK
+
+	private static final AtomicLong hits = new AtomicLong();
+	private static final AtomicLong misses = new AtomicLong();
+	private static final AtomicLong reloads = new AtomicLong();
+	private static final AtomicLong failedReloads = new AtomicLong();
+
+	/**
+	 * Class with only static methods, so it is never created.
+	 */
+	private QuestionBankCache()
+	{
+	}
+
+	/**
+	 * Returns the shared question bank, loading it on the first call. After a reload this is
+	 * the new bank.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @return the shared question bank
+	 */
+	public static QuestionSource get()
+	{
+		return getDeck().bank();
+	}
+
+	/**
+	 * Returns the shared deck dealing from the shared question bank. Games that share the deck
+	 * do not repeat each other's questions until a category and value runs out. Only the very
+	 * first call waits for the bank to load; after that the current deck is returned without
+	 * locking, even while a reload is being parsed.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @return the shared question deck
+	 */
+	public static QuestionDeck getDeck()
+	{
+		// Fast path: a loaded bank is returned without locking
+		QuestionDeck current = deck;
+		if (current != null) {
+			hits.incrementAndGet();
+			return current;
+		}
+
+		synchronized (LOCK) {
+			if (deck == null) {
+				misses.incrementAndGet();
+				startWatcher();
+				deck = new QuestionDeck(FileManager.readQuestionBank());
+			} else {
+				hits.incrementAndGet();
+			}
+			return deck;
+		}
+	}
+
+	/**
+	 * Reads the questions again on the calling thread and swaps the new bank in. Games that
+	 * are running keep their old bank. The watcher calls this after the questions change.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @return true if the new bank was swapped in, false if it could not be read and the old
+	 *         bank was kept
+	 */
+	public static boolean reload()
+	{
+		QuestionSource bank;
+		try {
+			bank = FileManager.loadQuestionBank();
+			if (bank.size() == 0) {
+				throw new IOException("The questions have no valid lines");
+			}
+		} catch (IOException | RuntimeException e) {
+			failedReloads.incrementAndGet();
+			System.out.println("Unable to reload the questions, keeping the current question bank: " + e);
+			return false;
+		}
+
+		// Only the swap holds the lock, so it never waits for a parse and never blocks a draw
+		synchronized (LOCK) {
+			deck = new QuestionDeck(bank);
+		}
+		reloads.incrementAndGet();
+		System.out.println("Questions changed, reloaded the question bank (" + stats() + ")");
+		return true;
+	}
+
+	/**
+	 * Returns how many requests were served from the cached bank.
+	 *
+	 * @return the number of cache hits
+	 */
+	public static long hits()
+	{
+		return hits.get();
+	}
+
+	/**
+	 * Returns how many requests found no bank loaded yet and had to load it.
+	 *
+	 * @return the number of cache misses
+	 */
+	public static long misses()
+	{
+		return misses.get();
+	}
+
+	/**
+	 * Returns how many times a new bank was swapped in because a questions file changed.
+	 *
+	 * @return the number of reloads
+	 */
+	public static long reloads()
+	{
+		return reloads.get();
+	}
+
+	/**
+	 * Returns how many reloads failed and kept the old bank.
+	 *
+	 * @return the number of failed reloads
+	 */
+	public static long failedReloads()
+	{
+		return failedReloads.get();
+	}
+
+	/**
+	 * Returns the counters in one line, for logging.
+	 *
+	 * @return the hit, miss and reload counts
+	 */
+	public static String stats()
+	{
+		return "question bank cache: hits=" + hits() + " misses=" + misses() + " reloads=" + reloads()
+				+ " failed reloads=" + failedReloads();
+	}
+
+	/**
+	 * Starts the daemon thread that watches the directory holding the questions files, and the
+	 * question packs directory if there is one. If the file system cannot be watched, the bank
+	 * is simply never reloaded.
+	 */
+	private static void startWatcher()
+	{
+		if (watcher != null) {
+			return;
+		}
+		Path directory = FileManager.QUESTIONS_FILE.toAbsolutePath().getParent();
+		try {
+			WatchService service = FileSystems.getDefault().newWatchService();
+			register(service, directory);
+			if (Files.isDirectory(FileManager.QUESTION_PACKS)) {
+				register(service, FileManager.QUESTION_PACKS.toAbsolutePath());
+			}
+			watcher = new Thread(() -> watch(service), "question-bank-watcher");
+			watcher.setDaemon(true);
+			watcher.start();
+		} catch (IOException e) {
+			System.out.println("Unable to watch " + directory + " for question changes: " + e);
+		}
+	}
+
+	private static void register(WatchService service, Path directory) throws IOException
+	{
+		directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+	}
+
+	/**
+	 * Waits for file events and reloads the bank once the questions files have changed and
+	 * then been quiet for RELOAD_DELAY_MILLIS.
+	 *
+	 * @param service the watch service registered on the questions directories
+	 */
+	private static void watch(WatchService service)
+	{
+		try {
+			while (true) {
+				boolean changed = handle(service, service.take());
+				// Editors often save in several writes, so wait for the events to stop first
+				WatchKey key;
+				while ((key = service.poll(RELOAD_DELAY_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					changed |= handle(service, key);
+				}
+				if (changed) {
+					reload();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Reads the events of one watch key.
+	 *
+	 * @return true if a questions file was touched
+	 */
+	private static boolean handle(WatchService service, WatchKey key)
+	{
+		Path packs = FileManager.QUESTION_PACKS.toAbsolutePath();
+		boolean inPacks = packs.equals(key.watchable());
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			Object name = event.context();
+			// An overflow means events were lost, so assume the questions changed
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW || inPacks
+					|| FileManager.QUESTIONS_FILE.getFileName().equals(name)
+					|| FileManager.COMPILED_QUESTIONS_FILE.getFileName().equals(name)
+					|| FileManager.QUESTIONS_WORKBOOK.getFileName().equals(name)) {
+				changed = true;
+			} else if (FileManager.QUESTION_PACKS.getFileName().equals(name)) {
+				changed = true;
+				// A packs directory made after startup is watched from now on
+				if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(packs)) {
+					try {
+						register(service, packs);
+					} catch (IOException e) {
+						System.out.println("Unable to watch " + packs + " for question changes: " + e);
+					}
+				}
+			}
+		}
+		key.reset();
+		return changed;
+	}
+}
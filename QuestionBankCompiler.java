@@ -0,0 +1,76 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionBankCompiler.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Offline tool that compiles a question file into the binary format read by QuestionBankFile.
+ * Run it with "java QuestionBankCompiler [source] [target]". The defaults are Questions.txt
+ * and Questions.jqb, which is where the game looks for a compiled bank. The source may also be
+ * an .xlsx workbook laid out like QuestionBank.xlsx.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionBankCompiler
+{
+	/**
+	 * Compiles the source question file and prints what was written.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @param args the optional source and target paths
+	 * @throws IOException if the source cannot be read or the target cannot be written
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		Path source = Path.of(args.length > 0 ? args[0] : FileManager.QUESTIONS_FILE.toString());
+		Path target = Path.of(args.length > 1 ? args[1] : FileManager.COMPILED_QUESTIONS_FILE.toString());
+
+		long start = System.nanoTime();
+		QuestionBank bank = compile(source, target);
+		long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+		System.out.printf("Compiled %,d questions in %d categories from %s to %s (%,d bytes) in %,d ms%n",
+				bank.size(), bank.categoryCount(), source, target, Files.size(target), elapsed);
+	}
+
+	/**
+	 * Parses a question file, or imports an .xlsx workbook, and writes it as a compiled bank.
+	 *
+	 * @param source the question file
+	 * @param target the compiled bank to write
+	 * @return the parsed bank
+	 * @throws IOException if the source cannot be read or the target cannot be written
+	 */
+	public static QuestionBank compile(Path source, Path target) throws IOException
+	{
+		QuestionBank bank;
+		if (source.getFileName().toString().toLowerCase().endsWith(".xlsx")) {
+			bank = FileManager.importWorkbook(source);
+		} else {
+			ParseErrors errors = new ParseErrors();
+			try (BufferedReader reader = FileManager.openQuestionsFile(source)) {
+				bank = FileManager.parseQuestionBank(reader, errors);
+			}
+			if (!errors.isEmpty()) {
+				errors.print(System.out, source);
+			}
+		}
+		QuestionBankFile.write(bank, source, target);
+		return bank;
+	}
+}
@@ -0,0 +1,346 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionBankFile.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionBankFile reads and writes the precompiled binary question bank format.
+ * A compiled bank is memory-mapped and answered straight from the mapping, so opening
+ * one costs the same no matter how many questions it holds.
+ *
+ * <p>The file is big-endian and laid out as follows:
+ * <pre>
+ * header    magic "JQB1", version, source size, source modified time, source CRC32C,
+ *           question count, category count, value count, prefix count, pool size
+ * tables    source file name, category names and prefixes (int length + UTF-8 bytes), point values,
+ *           padded to a multiple of four bytes
+ * index     bucket starts (one per category and value, plus an end), question ids by bucket
+ * columns   category id, value id and prefix id of every question, text offsets
+ * pool      the UTF-8 text of every question and answer
+ * </pre>
+ * The source fields record which question file the bank was compiled from, a text file or
+ * a workbook, so a compiled bank that is stale or was compiled from another file can be
+ * detected and skipped.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionBankFile
+{
+	/** The magic number at the start of every compiled bank: "JQB1". */
+	public static final int MAGIC = 0x4A514231;
+
+	/** The version of the layout written by this class. */
+	public static final int VERSION = 2;
+
+	// magic, version, source size, modified, checksum, four counts and the pool size
+	private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4 * 4 + 8;
+	private static final int TEXTS_PER_QUESTION = QuestionSource.ANSWER_COUNT + 1;
+
+	/**
+	 * Class with only static methods, so it is never created.
+	 */
+	private QuestionBankFile()
+	{
+	}
+
+	/**
+	 * Compiles a question bank into the binary format. The file is written to a temporary
+	 * file first and then moved into place, so readers never see a half-written bank.
+	 *
+	 * @param bank the questions to compile
+	 * @param source the question file the bank was read from, recorded for the staleness check
+	 * @param target the compiled file to write
+	 * @throws IOException if the source cannot be read or the target cannot be written
+	 */
+	public static void write(QuestionSource bank, Path source, Path target) throws IOException
+	{
+		int questions = bank.size();
+
+		// Collect the distinct prefixes so each is stored once
+		List<String> prefixes = new ArrayList<>();
+		Map<String, Integer> prefixIds = new HashMap<>();
+		int[] questionPrefixes = new int[questions];
+		for (int id = 0; id < questions; id++) {
+			questionPrefixes[id] = prefixIds.computeIfAbsent(bank.prefix(id), prefix -> {
+				prefixes.add(prefix);
+				return prefixes.size() - 1;
+			});
+		}
+
+		// The first pass over the text only measures it so the offsets can be written before the pool
+		long poolSize = 0;
+		for (int id = 0; id < questions; id++) {
+			for (int text = 0; text < TEXTS_PER_QUESTION; text++) {
+				poolSize += text(bank, id, text).getBytes(StandardCharsets.UTF_8).length;
+			}
+		}
+		if (poolSize > Integer.MAX_VALUE) {
+			throw new IOException("Question text is larger than 2 GB and cannot be compiled");
+		}
+
+		Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+			// Header
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(Files.size(source));
+			out.writeLong(Files.getLastModifiedTime(source).toMillis());
+			out.writeLong(checksum(source));
+			out.writeInt(questions);
+			out.writeInt(bank.categoryCount());
+			out.writeInt(bank.valueCount());
+			out.writeInt(prefixes.size());
+			out.writeLong(poolSize);
+
+			// Tables
+			writeString(out, source.getFileName().toString());
+			for (int category = 0; category < bank.categoryCount(); category++) {
+				writeString(out, bank.categoryName(category));
+			}
+			for (String prefix : prefixes) {
+				writeString(out, prefix);
+			}
+			for (int value = 0; value < bank.valueCount(); value++) {
+				out.writeInt(bank.pointValue(value));
+			}
+			while (out.size() % 4 != 0) {
+				out.writeByte(0);
+			}
+
+			// Index
+			int start = 0;
+			for (int category = 0; category < bank.categoryCount(); category++) {
+				for (int value = 0; value < bank.valueCount(); value++) {
+					out.writeInt(start);
+					start += bank.bucketSize(category, value);
+				}
+			}
+			out.writeInt(start);
+			for (int category = 0; category < bank.categoryCount(); category++) {
+				for (int value = 0; value < bank.valueCount(); value++) {
+					for (int i = 0; i < bank.bucketSize(category, value); i++) {
+						out.writeInt(bank.questionId(category, value, i));
+					}
+				}
+			}
+
+			// Columns
+			for (int id = 0; id < questions; id++) {
+				out.writeInt(bank.categoryOf(id));
+			}
+			for (int id = 0; id < questions; id++) {
+				out.writeInt(bank.valueOf(id));
+			}
+			for (int id = 0; id < questions; id++) {
+				out.writeInt(questionPrefixes[id]);
+			}
+			int offset = 0;
+			for (int id = 0; id < questions; id++) {
+				for (int text = 0; text < TEXTS_PER_QUESTION; text++) {
+					out.writeInt(offset);
+					offset += text(bank, id, text).getBytes(StandardCharsets.UTF_8).length;
+				}
+			}
+			out.writeInt(offset);
+
+			// Pool
+			for (int id = 0; id < questions; id++) {
+				for (int text = 0; text < TEXTS_PER_QUESTION; text++) {
+					out.write(text(bank, id, text).getBytes(StandardCharsets.UTF_8));
+				}
+			}
+		}
+		Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Maps a compiled bank if it was compiled from the current contents of a source.
+	 * The bank is fresh when it was compiled from a file of the source's name and the source
+	 * has the recorded size and modified time. If only the modified time differs, the source
+	 * checksum decides. A bank whose source is missing is used as it is, so a game can ship
+	 * with only the compiled bank.
+	 *
+	 * @param compiled the compiled bank
+	 * @param source the question file the bank should have been compiled from
+	 * @return the mapped bank, or null if there is no compiled bank, it was compiled from
+	 *     another file or it is stale
+	 * @throws IOException if the compiled bank exists but cannot be read or is corrupt
+	 */
+	public static MappedQuestionBank openIfFresh(Path compiled, Path source) throws IOException
+	{
+		if (!Files.isRegularFile(compiled)) {
+			return null;
+		}
+		MappedQuestionBank bank = map(compiled);
+		if (Files.isRegularFile(source)) {
+			if (!source.getFileName().toString().equals(bank.sourceName())) {
+				return null;
+			}
+			if (Files.size(source) != bank.sourceSize()) {
+				return null;
+			}
+			if (Files.getLastModifiedTime(source).toMillis() != bank.sourceModified()
+					&& checksum(source) != bank.sourceChecksum()) {
+				return null;
+			}
+		}
+		return bank;
+	}
+
+	/**
+	 * Maps a compiled bank without checking it against its source.
+	 *
+	 * @param compiled the compiled bank
+	 * @return the mapped bank
+	 * @throws IOException if the file cannot be read or is not a compiled bank of this version
+	 */
+	public static MappedQuestionBank map(Path compiled) throws IOException
+	{
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(compiled, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(compiled + " is larger than 2 GB and cannot be mapped");
+			}
+			if (channel.size() < HEADER_SIZE) {
+				throw new IOException(compiled + " is not a compiled question bank");
+			}
+			// The mapping stays valid after the channel is closed
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		if (buffer.getInt(0) != MAGIC) {
+			throw new IOException(compiled + " is not a compiled question bank");
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IOException(compiled + " has format version " + buffer.getInt(4) + " but version " + VERSION + " is needed");
+		}
+		long sourceSize = buffer.getLong(8);
+		long sourceModified = buffer.getLong(16);
+		long sourceChecksum = buffer.getLong(24);
+		int questions = buffer.getInt(32);
+		int categoryCount = buffer.getInt(36);
+		int valueCount = buffer.getInt(40);
+		int prefixCount = buffer.getInt(44);
+		long poolSize = buffer.getLong(48);
+
+		try {
+			buffer.position(HEADER_SIZE);
+			String sourceName = readString(buffer);
+			String[] categories = new String[categoryCount];
+			for (int i = 0; i < categoryCount; i++) {
+				categories[i] = readString(buffer);
+			}
+			String[] prefixes = new String[prefixCount];
+			for (int i = 0; i < prefixCount; i++) {
+				prefixes[i] = readString(buffer);
+			}
+			int[] pointValues = new int[valueCount];
+			for (int i = 0; i < valueCount; i++) {
+				pointValues[i] = buffer.getInt();
+			}
+			buffer.position((buffer.position() + 3) & ~3);
+
+			IntBuffer bucketStarts = intSection(buffer, categoryCount * valueCount + 1);
+			IntBuffer bucketQuestions = intSection(buffer, questions);
+			IntBuffer categoryIds = intSection(buffer, questions);
+			IntBuffer valueIds = intSection(buffer, questions);
+			IntBuffer prefixIds = intSection(buffer, questions);
+			IntBuffer textOffsets = intSection(buffer, questions * TEXTS_PER_QUESTION + 1);
+			if (buffer.remaining() != poolSize) {
+				throw new IOException(compiled + " is truncated or corrupt");
+			}
+			ByteBuffer pool = buffer.slice();
+
+			return new MappedQuestionBank(sourceName, sourceSize, sourceModified, sourceChecksum, categories, pointValues, prefixes,
+					bucketStarts, bucketQuestions, categoryIds, valueIds, prefixIds, textOffsets, pool);
+		} catch (RuntimeException e) {
+			// Buffer underflows and bad lengths both mean the file is damaged
+			throw new IOException(compiled + " is truncated or corrupt", e);
+		}
+	}
+
+	/**
+	 * Computes the CRC32C checksum of a file.
+	 *
+	 * @param file the file to check
+	 * @return the checksum
+	 * @throws IOException if the file cannot be read
+	 */
+	public static long checksum(Path file) throws IOException
+	{
+		CRC32C crc = new CRC32C();
+		byte[] chunk = new byte[1 << 16];
+		try (InputStream in = Files.newInputStream(file)) {
+			int read;
+			while ((read = in.read(chunk)) > 0) {
+				crc.update(chunk, 0, read);
+			}
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * Returns the question text (text 0) or an answer text (texts 1-4) of a question.
+	 */
+	private static String text(QuestionSource bank, int id, int text)
+	{
+		return text == 0 ? bank.questionText(id) : bank.answerText(id, text - 1);
+	}
+
+	/**
+	 * Writes a string as its UTF-8 length followed by its UTF-8 bytes.
+	 */
+	private static void writeString(DataOutputStream out, String string) throws IOException
+	{
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by writeString at the buffer's position.
+	 */
+	private static String readString(ByteBuffer buffer)
+	{
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns a view of the next count ints in the buffer and moves past them.
+	 */
+	private static IntBuffer intSection(ByteBuffer buffer, int count)
+	{
+		ByteBuffer section = buffer.slice();
+		section.limit(Math.multiplyExact(count, 4));
+		buffer.position(buffer.position() + count * 4);
+		return section.asIntBuffer();
+	}
+}
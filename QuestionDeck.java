@@ -0,0 +1,161 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionDeck.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionDeck deals questions out of a question bank like a shuffled deck of cards.
+ * Each category and point value has its own deck, so a question is not dealt again until
+ * every other question in its bucket has been dealt. The shuffle is done one card at a time
+ * (an incremental Fisher-Yates shuffle), so each draw is O(1) and a deck is only set up the
+ * first time its bucket is used. Very large buckets, such as those of a PagedQuestionBank,
+ * remember only the positions the shuffle has moved instead of one int per question, so a
+ * deck over a huge bank stays small.
+ *
+ * <p>An unseeded deck uses ThreadLocalRandom and can be shared by games on different
+ * threads. A seeded deck deals the same questions every time for the same seed, which makes
+ * a game replayable; it belongs to one game and should only be drawn from by one thread.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionDeck
+{
+	// Buckets larger than this keep their shuffle in a map of moved positions
+	private static final int DENSE_LIMIT = 4096;
+
+	private final QuestionSource bank;
+	private final SplittableRandom random; // null when the deck uses ThreadLocalRandom
+	private final Bucket[] buckets; // one deck per category and value
+
+	/**
+	 * Creates an unseeded deck that can be shared between games.
+	 *
+	 * @param bank the bank to deal questions from
+	 */
+	public QuestionDeck(QuestionSource bank)
+	{
+		this(bank, null);
+	}
+
+	/**
+	 * Creates a seeded deck that deals the same questions in the same order for the same seed.
+	 *
+	 * @param bank the bank to deal questions from
+	 * @param seed the seed for the shuffle
+	 */
+	public QuestionDeck(QuestionSource bank, long seed)
+	{
+		this(bank, new SplittableRandom(seed));
+	}
+
+	private QuestionDeck(QuestionSource bank, SplittableRandom random)
+	{
+		this.bank = bank;
+		this.random = random;
+		this.buckets = new Bucket[bank.categoryCount() * bank.valueCount()];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new Bucket();
+		}
+	}
+
+	/**
+	 * Returns the bank this deck deals from.
+	 *
+	 * @return the question bank
+	 */
+	public QuestionSource bank()
+	{
+		return bank;
+	}
+
+	/**
+	 * Deals the next question of a category and point value.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @return the id of the dealt question
+	 * @throws IllegalStateException if the bucket has no questions
+	 */
+	public int draw(int category, int value)
+	{
+		Bucket bucket = buckets[category * bank.valueCount() + value];
+		synchronized (bucket) {
+			if (bucket.size < 0) {
+				int size = bank.bucketSize(category, value);
+				if (size == 0) {
+					throw new IllegalStateException("There are no " + bank.pointValue(value)
+							+ " point questions in " + bank.categoryName(category));
+				}
+				bucket.size = size;
+				if (size <= DENSE_LIMIT) {
+					bucket.order = new int[size];
+					for (int i = 0; i < size; i++) {
+						bucket.order[i] = i;
+					}
+				} else {
+					bucket.moved = new HashMap<>();
+				}
+			}
+
+			// Once every question has been dealt, start a new pass through the whole bucket
+			if (bucket.cursor == bucket.size) {
+				bucket.cursor = 0;
+				if (bucket.moved != null) {
+					bucket.moved.clear();
+				}
+			}
+
+			// Swap a random undealt question into the next position and deal it
+			int next = bucket.cursor;
+			int pick = next + nextInt(bucket.size - next);
+			int index;
+			if (bucket.order != null) {
+				int[] order = bucket.order;
+				index = order[pick];
+				order[pick] = order[next];
+				order[next] = index;
+			} else {
+				// Dealt positions are never read again in this pass, so only the undealt one is kept
+				Map<Integer, Integer> moved = bucket.moved;
+				index = moved.getOrDefault(pick, pick);
+				Integer displaced = moved.remove(next);
+				if (pick != next) {
+					moved.put(pick, displaced != null ? displaced : next);
+				}
+			}
+			bucket.cursor = next + 1;
+			return bank.questionId(category, value, index);
+		}
+	}
+
+	/**
+	 * Returns a random number from 0 up to but not including bound.
+	 */
+	private int nextInt(int bound)
+	{
+		return random != null ? random.nextInt(bound) : ThreadLocalRandom.current().nextInt(bound);
+	}
+
+	/**
+	 * The deal order and position of one category and value.
+	 */
+	private static class Bucket
+	{
+		int size = -1; // the number of questions, or -1 until the bucket is first used
+		int[] order; // positions in the bucket, dealt ones first, for small buckets
+		Map<Integer, Integer> moved; // the position now held at each moved slot, for large buckets
+		int cursor; // how many have been dealt in this pass
+	}
+}
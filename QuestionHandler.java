@@ -1,5 +1,3 @@
-import java.util.Random;
-
 /**
  * ---------------------------------------------------------------------------
  * File name: QuestionHandler.java
@@ -20,61 +18,122 @@ import java.util.Random;
 public class QuestionHandler
 {
     // Instance variables
-	String[][][][] questions; // A four-dimensional array to hold all of the game questions
-	String[] highScoreData; // An array to hold the current high score and name
-	FileManager fileManager; // A FileManager object to read and write to files
+	QuestionSource questions; // The question bank holding all of the game questions
+	QuestionDeck deck; // Deals the questions so none repeats until its category and value run out
+	AdaptiveDeck adaptive; // Deals the questions that suit the player, or null to deal them at random
+	Clue clue = new Clue(); // The view of the most recently drawn question
+	Leaderboard leaderboard; // The high scores shared by every game
 
 	/**
 	 * Constructor for the QuestionHandler class.
-	 * Initializes the instance variables by reading from files.
+	 * Initializes the instance variables from the shared question bank and leaderboard.
+	 * Games made this way share one deck, so a new game does not repeat the last game's questions.
 	 */
 	public QuestionHandler()
 	{
-		// Create a new FileManager object
-		fileManager = new FileManager();
+		this(QuestionBankCache.getDeck());
+	}
+
+	/**
+	 * Constructor for a replayable game. The game gets its own deck, which deals the same
+	 * questions in the same order every time the same seed is used.
+	 *
+	 * @param seed the seed for the question deck
+	 */
+	public QuestionHandler(long seed)
+	{
+		// Share the process-wide question bank but deal from a deck of our own
+		this(new QuestionDeck(QuestionBankCache.get(), seed));
+	}
 
-		// Read the questions from the file and initialize the questions array
-		questions = fileManager.getQuestionsFromFile();
+	/**
+	 * Constructor for a game that deals from a given deck, such as a server room.
+	 * When the program is run with -Djeopardy.adaptive=true, questions are dealt from the
+	 * shared AdaptiveDeck instead.
+	 *
+	 * @param deck the deck to deal questions from
+	 */
+	public QuestionHandler(QuestionDeck deck)
+	{
+		this(deck, AdaptiveDeck.ENABLED ? AdaptiveDeck.shared(deck.bank()) : null);
+	}
+
+	/**
+	 * Constructor for a game that deals the questions that suit the player from an adaptive deck.
+	 *
+	 * @param deck the deck of the bank to deal questions from
+	 * @param adaptive the adaptive deck over the same bank, or null to deal from the deck at random
+	 */
+	public QuestionHandler(QuestionDeck deck, AdaptiveDeck adaptive)
+	{
+		if (adaptive != null && adaptive.bank() != deck.bank()) {
+			throw new IllegalArgumentException("The adaptive deck deals from a different question bank");
+		}
+		this.deck = deck;
+		this.adaptive = adaptive;
+		questions = deck.bank();
 
-		// Read the high score data from the file and initialize the highScoreData array
-		highScoreData = fileManager.getHighScoreInfoFromFile();
+		// The high scores are loaded once per process, not once per game
+		leaderboard = Leaderboard.shared();
 	}
 
 	/**
-	 * This method retrieves a single question from the questions array at a given category and value level.
+	 * This method deals a question from the question bank at a given category and value level.
+	 * No question is dealt twice until every question at that level has been dealt.
+	 * The returned Clue is reused by the next call, so read what you need from it first.
 	 * @param category The category of the question.
 	 * @param value The point value of the question.
-	 * @return An array of Strings containing the question and its answer choices.
+	 * @return A read-only view of the question and its answer choices, with the correct answer first.
 	 */
-	public String[] getQuestion(int category, int value)
+	public Clue getQuestion(int category, int value)
 	{
-		// Create a new Random object to generate a random index
-		Random random = new Random();
-
-		// Get the length of the questions array at the specified category and value level
-		int length = questions[category][value].length;
+		// Deal the next question and point the reusable view at it
+		long start = Metrics.start();
+		clue.bind(questions, deck.draw(category, value));
+		Metrics.GET_QUESTION.stop(start);
+		return clue;
+	}
 
-		// Generate a random index within the length of the questions array
-	    int randomIndex = random.nextInt(length);
+	/**
+	 * This method deals the question at a given category and value level that best suits a player.
+	 * Without an adaptive deck it deals at random, the same as getQuestion(category, value).
+	 * The returned Clue is reused by the next call, so read what you need from it first.
+	 * @param category The category of the question.
+	 * @param value The point value of the question.
+	 * @param player The player the question is for.
+	 * @return A read-only view of the question and its answer choices, with the correct answer first.
+	 */
+	public Clue getQuestion(int category, int value, Player player)
+	{
+		if (adaptive == null) {
+			return getQuestion(category, value);
+		}
+		long start = Metrics.start();
+		clue.bind(questions, adaptive.draw(category, value, player));
+		Metrics.GET_QUESTION.stop(start);
+		return clue;
+	}
 
-	    // Create a new array to hold the question and its answer choices
-	     String[] question = new String[5];
-	     question[0] = questions[category][value][randomIndex][0];
-	     question[1] = questions[category][value][randomIndex][1];
-	     question[2] = questions[category][value][randomIndex][2];
-	     question[3] = questions[category][value][randomIndex][3];
-	     question[4] = questions[category][value][randomIndex][4];
-	     return question;
+	/**
+	 * This method updates the player's skill and the question's difficulty after the last
+	 * question dealt was answered. It does nothing without an adaptive deck.
+	 * @param player The player who answered.
+	 * @param correct Whether the answer was correct; a timeout counts as wrong.
+	 */
+	public void recordAnswer(Player player, boolean correct)
+	{
+		if (adaptive != null) {
+			adaptive.update(player, clue.id(), correct);
+		}
 	}
 
 	/**
 	 * This method retrieves the current high score value.
-	 * @return The current high score value.
+	 * @return The current high score value, or 0 if nobody has set one.
 	 */
 	public int getHighScore()
 	{
-	     int highScore = Integer.parseInt(highScoreData[1]);
-	     return highScore;
+	     return leaderboard.getHighScore();
 	}
 
 	/**
@@ -83,22 +142,17 @@ public class QuestionHandler
 	 */
 	public String getHighScoreName()
 	{
-	     String highScore = highScoreData[0];
-	     return highScore;
+	     return leaderboard.getHighScoreName();
 	}
 
 	/**
-	 * This method writes a new high score value to the file.
+	 * This method submits a new score to the leaderboard, which saves it if it makes the board.
 	 * @param highScoreName The name associated with the new high score value.
 	 * @param highScore The new high score value.
 	 */
 	public void newHighScore(String highScoreName, int highScore) 
 	{
-		// Create a new array to hold the high score data
-	    String[] returnHighScore = new String[]{highScoreName, Integer.toString(highScore)};
-	    
-	    // Write the high score data to the file
-	    fileManager.writeHighScoreToFile(returnHighScore);
+	    leaderboard.submit(highScoreName, highScore);
 	}
 }
 
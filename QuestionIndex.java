@@ -0,0 +1,649 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionIndex.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionIndex is a full-text index over the questions and answers of a question bank, for
+ * the tools editors use to look after Questions.txt. It is built in memory from a parsed bank
+ * and never changes; build a new one after the bank changes.
+ *
+ * <p>Text is split into terms of letters and digits and lower-cased. The terms are kept
+ * sorted, so a prefix matches one range of them, found by binary search. Each term's list of
+ * question ids is stored in ascending order as the gaps between ids, written in as few bytes
+ * as they need (7 bits per byte, with the top bit set on every byte but the last), all in one
+ * byte array. Every term of three or more characters is also listed under each of its
+ * trigrams, so the terms containing a fragment are found without reading the whole
+ * dictionary.
+ *
+ * <p>A query is a list of words, every one of which must match. A word matches the term it
+ * equals; "word*" matches every term starting with word; and "*word*" matches every term
+ * containing it.
+ *
+ * <p>Run "java QuestionIndex search &lt;query&gt; [questions file]" to search the bank, or
+ * "java QuestionIndex duplicates [questions file] [similarity]" to list the questions that are
+ * nearly the same as another, found by DuplicateFinder. Without a file the game's own
+ * questions are used.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionIndex
+{
+	private final QuestionSource bank;
+	private final String[] terms; // every term, sorted
+	private final int[] postingStart; // where each term's postings start in postings, then the end
+	private final int[] questionCount; // how many questions each term is in
+	private final byte[] postings; // the gaps between the question ids of each term, as variable length integers
+	private final int[] grams; // the key of every trigram of the terms, sorted
+	private final int[] gramStart; // where each trigram's terms start in gramTerms, then the end
+	private final int[] gramTerms; // the ids of the terms containing each trigram, ascending
+
+	/**
+	 * Indexes the questions and answers of a bank.
+	 *
+	 * @param bank the question bank
+	 */
+	public QuestionIndex(QuestionSource bank)
+	{
+		this.bank = bank;
+
+		// Give each term a number in the order it is first seen, and list the terms of every question
+		TermTable termIds = new TermTable();
+		IntList pairTerms = new IntList();
+		IntList pairQuestions = new IntList();
+		IntList questionTerms = new IntList();
+		for (int id = 0; id < bank.size(); id++) {
+			questionTerms.size = 0;
+			termIds.addTerms(bank.questionText(id), questionTerms);
+			for (int answer = 0; answer < QuestionSource.ANSWER_COUNT; answer++) {
+				termIds.addTerms(bank.answerText(id, answer), questionTerms);
+			}
+			// A question is listed once under each of its terms
+			Arrays.sort(questionTerms.values, 0, questionTerms.size);
+			for (int i = 0; i < questionTerms.size; i++) {
+				if (i == 0 || questionTerms.values[i] != questionTerms.values[i - 1]) {
+					pairTerms.add(questionTerms.values[i]);
+					pairQuestions.add(id);
+				}
+			}
+		}
+
+		// Sort the terms and renumber them in that order
+		terms = termIds.terms();
+		Arrays.sort(terms);
+		int[] sortedId = new int[terms.length];
+		for (int i = 0; i < terms.length; i++) {
+			sortedId[termIds.idOf(terms[i])] = i;
+		}
+
+		// Group the questions by term, keeping them in ascending order, and write them as gaps
+		questionCount = new int[terms.length];
+		for (int i = 0; i < pairTerms.size; i++) {
+			questionCount[sortedId[pairTerms.values[i]]]++;
+		}
+		int[] next = new int[terms.length + 1];
+		for (int term = 0; term < terms.length; term++) {
+			next[term + 1] = next[term] + questionCount[term];
+		}
+		int[] grouped = new int[pairTerms.size];
+		for (int i = 0; i < pairTerms.size; i++) {
+			grouped[next[sortedId[pairTerms.values[i]]]++] = pairQuestions.values[i];
+		}
+		ByteList encoded = new ByteList(pairTerms.size * 2);
+		postingStart = new int[terms.length + 1];
+		int position = 0;
+		for (int term = 0; term < terms.length; term++) {
+			postingStart[term] = encoded.size;
+			int previous = -1;
+			for (int end = position + questionCount[term]; position < end; position++) {
+				encoded.addVarInt(grouped[position] - previous);
+				previous = grouped[position];
+			}
+		}
+		postingStart[terms.length] = encoded.size;
+		postings = Arrays.copyOf(encoded.values, encoded.size);
+
+		// List every term under each of its trigrams, sorting the pairs as one long each
+		IntList gramCount = new IntList();
+		long[] pairs = new long[16];
+		int pairCount = 0;
+		for (int term = 0; term < terms.length; term++) {
+			String text = terms[term];
+			for (int i = 0; i + 3 <= text.length(); i++) {
+				if (pairCount == pairs.length) {
+					pairs = Arrays.copyOf(pairs, pairs.length * 2);
+				}
+				pairs[pairCount++] = (long) gramKey(text, i) << 32 | term;
+			}
+		}
+		Arrays.sort(pairs, 0, pairCount);
+		IntList gramList = new IntList();
+		IntList termList = new IntList();
+		for (int i = 0; i < pairCount; i++) {
+			if (i > 0 && pairs[i] == pairs[i - 1]) {
+				continue; // a term with the same trigram twice
+			}
+			int gram = (int) (pairs[i] >>> 32);
+			if (gramList.size == 0 || gramList.values[gramList.size - 1] != gram) {
+				gramList.add(gram);
+				gramCount.add(termList.size);
+			}
+			termList.add((int) pairs[i]);
+		}
+		gramCount.add(termList.size);
+		grams = Arrays.copyOf(gramList.values, gramList.size);
+		gramStart = Arrays.copyOf(gramCount.values, gramCount.size);
+		gramTerms = Arrays.copyOf(termList.values, termList.size);
+	}
+
+	/**
+	 * Searches the bank, or lists its near duplicates, and prints what was found.
+	 *
+	 * @param args "search" and a query, or "duplicates", then optionally a question file,
+	 *     and for duplicates the smallest similarity to report
+	 * @throws IOException if the questions cannot be read
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 1 || !(args[0].equals("search") && args.length > 1 || args[0].equals("duplicates"))) {
+			System.out.println("Usage: java QuestionIndex search <query> [questions file]");
+			System.out.println("       java QuestionIndex duplicates [questions file] [similarity]");
+			return;
+		}
+		boolean search = args[0].equals("search");
+		int fileArgument = search ? 2 : 1;
+		long start = System.nanoTime();
+		QuestionSource bank = args.length > fileArgument ? parse(Path.of(args[fileArgument])) : FileManager.loadQuestionBank();
+		long loaded = System.nanoTime();
+
+		if (!search) {
+			double similarity = args.length > 2 ? Double.parseDouble(args[2]) : DuplicateFinder.DEFAULT_SIMILARITY;
+			DuplicateFinder.Report report = DuplicateFinder.find(bank, similarity);
+			System.out.printf("Checked %,d questions in %,d ms%n", bank.size(), (System.nanoTime() - loaded) / 1_000_000);
+			report.print(System.out, bank, 20);
+			return;
+		}
+
+		QuestionIndex index = new QuestionIndex(bank);
+		long built = System.nanoTime();
+		int[] found = index.search(args[1]);
+		long searched = System.nanoTime();
+		System.out.printf("Indexed %,d questions (%,d terms, %,d bytes of postings) in %,d ms after loading them in %,d ms%n",
+				bank.size(), index.getTermCount(), index.postings.length, (built - loaded) / 1_000_000, (loaded - start) / 1_000_000);
+		System.out.printf("%,d questions match \"%s\", found in %,d us%n", found.length, args[1], (searched - built) / 1000);
+		for (int i = 0; i < found.length && i < 20; i++) {
+			int id = found[i];
+			System.out.printf("%6d  %s $%d: %s%n", id, bank.categoryName(bank.categoryOf(id)),
+					bank.pointValue(bank.valueOf(id)), bank.questionText(id));
+		}
+		if (found.length > 20) {
+			System.out.printf("... and %,d more%n", found.length - 20);
+		}
+	}
+
+	/**
+	 * Parses a question file the way the game does, printing any lines it skips.
+	 *
+	 * @param file the question file
+	 * @return the parsed bank
+	 * @throws IOException if the file cannot be read
+	 */
+	static QuestionBank parse(Path file) throws IOException
+	{
+		ParseErrors errors = new ParseErrors();
+		QuestionBank bank;
+		try (BufferedReader reader = FileManager.openQuestionsFile(file)) {
+			bank = FileManager.parseQuestionBank(reader, errors);
+		}
+		if (!errors.isEmpty()) {
+			errors.print(System.out, file);
+		}
+		return bank;
+	}
+
+	/**
+	 * Returns the bank this index was built from.
+	 *
+	 * @return the question bank
+	 */
+	public QuestionSource bank()
+	{
+		return bank;
+	}
+
+	/**
+	 * Returns the number of distinct terms.
+	 *
+	 * @return the number of terms
+	 */
+	public int getTermCount()
+	{
+		return terms.length;
+	}
+
+	/**
+	 * Finds the questions matching every word of a query.
+	 *
+	 * @param query words, each of which may end with * to match a prefix, or also start with *
+	 *     to match anywhere in a term
+	 * @return the ids of the matching questions, ascending
+	 */
+	public int[] search(String query)
+	{
+		int[] result = null;
+		for (String word : lowerCase(query.trim()).split("\\s+")) {
+			if (word.isEmpty() || word.equals("*")) {
+				continue;
+			}
+			int[] matches;
+			if (word.length() > 1 && word.startsWith("*") && word.endsWith("*")) {
+				matches = containing(word.substring(1, word.length() - 1));
+			} else if (word.endsWith("*")) {
+				matches = prefix(word.substring(0, word.length() - 1));
+			} else {
+				// A word such as "u.s." is several terms, all of which must match
+				List<String> parts = new ArrayList<>();
+				tokenize(word, parts);
+				matches = parts.isEmpty() ? new int[0] : term(parts.get(0));
+				for (int i = 1; i < parts.size(); i++) {
+					matches = intersect(matches, term(parts.get(i)));
+				}
+			}
+			result = result == null ? matches : intersect(result, matches);
+			if (result.length == 0) {
+				break;
+			}
+		}
+		return result == null ? new int[0] : result;
+	}
+
+	/**
+	 * Finds the questions containing a term.
+	 *
+	 * @param term the term, in lower case
+	 * @return the ids of the questions, ascending
+	 */
+	public int[] term(String term)
+	{
+		int found = Arrays.binarySearch(terms, term);
+		return found < 0 ? new int[0] : decode(found);
+	}
+
+	/**
+	 * Finds the questions containing a term that starts with a prefix.
+	 *
+	 * @param prefix the prefix, in lower case
+	 * @return the ids of the questions, ascending
+	 */
+	public int[] prefix(String prefix)
+	{
+		int first = lowerBound(prefix);
+		int end = first;
+		while (end < terms.length && terms[end].startsWith(prefix)) {
+			end++;
+		}
+		if (end - first == 1) {
+			return decode(first);
+		}
+		BitSet questions = new BitSet(bank.size());
+		for (int term = first; term < end; term++) {
+			decodeInto(term, questions);
+		}
+		return questions.stream().toArray();
+	}
+
+	/**
+	 * Finds the questions containing a term that contains a fragment anywhere.
+	 *
+	 * @param fragment the fragment, in lower case
+	 * @return the ids of the questions, ascending
+	 */
+	public int[] containing(String fragment)
+	{
+		BitSet questions = new BitSet(bank.size());
+		if (fragment.length() < 3) {
+			// Too short for a trigram, so every term is checked
+			for (int term = 0; term < terms.length; term++) {
+				if (terms[term].contains(fragment)) {
+					decodeInto(term, questions);
+				}
+			}
+			return questions.stream().toArray();
+		}
+
+		// The terms with every trigram of the fragment
+		int[] candidates = null;
+		for (int i = 0; i + 3 <= fragment.length(); i++) {
+			int gram = Arrays.binarySearch(grams, gramKey(fragment, i));
+			if (gram < 0) {
+				return new int[0];
+			}
+			int[] withGram = Arrays.copyOfRange(gramTerms, gramStart[gram], gramStart[gram + 1]);
+			candidates = candidates == null ? withGram : intersect(candidates, withGram);
+		}
+		for (int term : candidates) {
+			// Having every trigram does not mean they are in the right order
+			if (terms[term].contains(fragment)) {
+				decodeInto(term, questions);
+			}
+		}
+		return questions.stream().toArray();
+	}
+
+	/**
+	 * Returns the terms that start with a prefix, for suggesting words as an editor types.
+	 *
+	 * @param prefix the prefix, in lower case
+	 * @param limit the most terms to return
+	 * @return the terms, in alphabetical order
+	 */
+	public List<String> complete(String prefix, int limit)
+	{
+		List<String> completions = new ArrayList<>();
+		for (int term = lowerBound(prefix); term < terms.length && completions.size() < limit && terms[term].startsWith(prefix); term++) {
+			completions.add(terms[term]);
+		}
+		return completions;
+	}
+
+	/**
+	 * Splits text into lower-case terms of letters and digits. Each character is lower-cased
+	 * on its own, the same way the index does it.
+	 *
+	 * @param text the text
+	 * @param into the list to add the terms to
+	 */
+	static void tokenize(String text, List<String> into)
+	{
+		StringBuilder term = new StringBuilder();
+		for (int i = 0; i <= text.length(); i++) {
+			char c = i < text.length() ? text.charAt(i) : ' ';
+			if (Character.isLetterOrDigit(c)) {
+				term.append(Character.toLowerCase(c));
+			} else if (term.length() > 0) {
+				into.add(term.toString());
+				term.setLength(0);
+			}
+		}
+	}
+
+	/**
+	 * Lower-cases each character on its own, as the terms were.
+	 */
+	private static String lowerCase(String text)
+	{
+		char[] chars = text.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Returns the position of the first term at or after a string.
+	 */
+	private int lowerBound(String text)
+	{
+		int found = Arrays.binarySearch(terms, text);
+		return found < 0 ? -found - 1 : found;
+	}
+
+	/**
+	 * Reads the question ids of a term.
+	 */
+	private int[] decode(int term)
+	{
+		int[] questions = new int[questionCount[term]];
+		int position = postingStart[term];
+		int id = -1;
+		for (int i = 0; i < questions.length; i++) {
+			int gap = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = postings[position++];
+				gap |= (b & 0x7f) << shift;
+				shift += 7;
+			} while (b < 0);
+			id += gap;
+			questions[i] = id;
+		}
+		return questions;
+	}
+
+	/**
+	 * Reads the question ids of a term into a set.
+	 */
+	private void decodeInto(int term, BitSet questions)
+	{
+		for (int id : decode(term)) {
+			questions.set(id);
+		}
+	}
+
+	/**
+	 * Returns the ids in both of two ascending arrays.
+	 */
+	private static int[] intersect(int[] a, int[] b)
+	{
+		int[] both = new int[Math.min(a.length, b.length)];
+		int count = 0;
+		for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				both[count++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(both, count);
+	}
+
+	/**
+	 * Returns the key of the trigram at a position of a string. Trigrams of characters below
+	 * 1024, which covers the Latin alphabets and digits, are packed 10 bits to a character;
+	 * others are hashed above those, so two of them can share a key. Candidate terms are
+	 * always checked against the fragment, so that only costs a check.
+	 */
+	private static int gramKey(String text, int start)
+	{
+		char a = text.charAt(start);
+		char b = text.charAt(start + 1);
+		char c = text.charAt(start + 2);
+		if ((a | b | c) < 1024) {
+			return a << 20 | b << 10 | c;
+		}
+		return 0x40000000 | ((a * 31 + b) * 31 + c) & 0x3fffffff;
+	}
+
+	/**
+	 * A hash table from term to term id that reads the terms straight out of the text into a
+	 * buffer. The characters of every term are kept one after another in one array, and each
+	 * slot holds a term's hash next to its id, so a lookup touches few cache lines and no
+	 * String is made until the terms are all known.
+	 */
+	private static class TermTable
+	{
+		int size; // the number of terms
+		private char[] pool = new char[1 << 14]; // the characters of every term, in id order
+		private int[] starts = new int[1025]; // where each term starts in pool, then the end
+		private int[] slots = new int[2 * 2048]; // the hash and one more than the id of the term in each slot, or 0 if it is free
+		private char[] buffer = new char[64];
+
+		/**
+		 * Splits text into terms the way tokenize does and adds the id of each to a list.
+		 */
+		void addTerms(String text, IntList into)
+		{
+			int length = 0;
+			int hash = 0;
+			for (int i = 0; i <= text.length(); i++) {
+				char c = i < text.length() ? text.charAt(i) : ' ';
+				if (Character.isLetterOrDigit(c)) {
+					if (length == buffer.length) {
+						buffer = Arrays.copyOf(buffer, length * 2);
+					}
+					c = Character.toLowerCase(c);
+					buffer[length++] = c;
+					hash = hash * 31 + c;
+				} else if (length > 0) {
+					into.add(idOf(buffer, length, hash, true));
+					length = 0;
+					hash = 0;
+				}
+			}
+		}
+
+		/**
+		 * Returns the id of a term that is in the table, or -1.
+		 */
+		int idOf(String term)
+		{
+			char[] chars = term.toCharArray();
+			return idOf(chars, chars.length, term.hashCode(), false);
+		}
+
+		/**
+		 * Returns every term, by id.
+		 */
+		String[] terms()
+		{
+			String[] terms = new String[size];
+			for (int id = 0; id < size; id++) {
+				terms[id] = new String(pool, starts[id], starts[id + 1] - starts[id]);
+			}
+			return terms;
+		}
+
+		private int idOf(char[] chars, int length, int hash, boolean add)
+		{
+			int mask = slots.length / 2 - 1;
+			for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+				int id = slots[2 * slot + 1] - 1;
+				if (id < 0) {
+					return add ? add(chars, length, hash, slot) : -1;
+				}
+				if (slots[2 * slot] == hash && matches(id, chars, length)) {
+					return id;
+				}
+			}
+		}
+
+		private int add(char[] chars, int length, int hash, int slot)
+		{
+			int id = size++;
+			if (id + 1 == starts.length) {
+				starts = Arrays.copyOf(starts, starts.length * 2);
+			}
+			int start = starts[id];
+			if (start + length > pool.length) {
+				pool = Arrays.copyOf(pool, Math.max(pool.length * 2, start + length));
+			}
+			System.arraycopy(chars, 0, pool, start, length);
+			starts[id + 1] = start + length;
+			slots[2 * slot] = hash;
+			slots[2 * slot + 1] = id + 1;
+			if (size * 4 > slots.length) {
+				// Keep the table at most half full, so probes stay short
+				int[] old = slots;
+				slots = new int[old.length * 2];
+				int mask = slots.length / 2 - 1;
+				for (int i = 0; i < old.length; i += 2) {
+					if (old[i + 1] != 0) {
+						int free = mix(old[i]) & mask;
+						while (slots[2 * free + 1] != 0) {
+							free = (free + 1) & mask;
+						}
+						slots[2 * free] = old[i];
+						slots[2 * free + 1] = old[i + 1];
+					}
+				}
+			}
+			return id;
+		}
+
+		private boolean matches(int id, char[] chars, int length)
+		{
+			int start = starts[id];
+			if (starts[id + 1] - start != length) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (pool[start + i] != chars[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Spreads the bits of a String hash code, so ids of similar terms do not crowd together.
+		 */
+		private static int mix(int hash)
+		{
+			hash *= 0x9E3779B9;
+			return hash ^ (hash >>> 16);
+		}
+	}
+
+	/**
+	 * A growable array of ints.
+	 */
+	private static class IntList
+	{
+		int[] values = new int[16];
+		int size;
+
+		void add(int value)
+		{
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+
+	/**
+	 * A growable array of bytes that variable length integers are written to.
+	 */
+	private static class ByteList
+	{
+		byte[] values;
+		int size;
+
+		ByteList(int capacity)
+		{
+			values = new byte[Math.max(capacity, 16)];
+		}
+
+		void addVarInt(int value)
+		{
+			if (size + 5 > values.length) {
+				values = Arrays.copyOf(values, values.length * 2);
+			}
+			while ((value & ~0x7f) != 0) {
+				values[size++] = (byte) ((value & 0x7f) | 0x80);
+				value >>>= 7;
+			}
+			values[size++] = (byte) value;
+		}
+	}
+}
@@ -0,0 +1,487 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionPackLoader.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionPackLoader reads many question files, such as per-season and per-topic packs, into
+ * one bank. The files are parsed in parallel on a ForkJoinPool: every file is a task, and a
+ * large file is split in half at a line boundary again and again until each piece is at most
+ * CHUNK_BYTES, so one big pack is spread over every core just like many small ones. Each
+ * piece is parsed into its own small QuestionBank by FileManager's line parser.
+ *
+ * <p>The pieces are then merged in file order, which is cheap because questions are copied as
+ * UTF-8 bytes. A question whose text has already been seen is left out; questions are matched
+ * by a 64-bit hash of their text, worked out in parallel by the parse, and the texts are
+ * compared when two hashes are equal. The first copy of a question wins, so files are read in
+ * name order to keep the result the same from run to run.
+ *
+ * <p>Run it with "java QuestionPackLoader [directory or glob] [threads]" to print the parse
+ * time, question count, duplicates and rejected lines of every file.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class QuestionPackLoader
+{
+	/** Files are split until each piece parsed by one task is at most this many bytes. */
+	static final int CHUNK_BYTES = 1 << 22;
+
+	/**
+	 * Loads the packs named on the command line and prints the report.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @param args the optional directory or glob of question files and number of threads
+	 * @throws IOException if a question file cannot be read
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		String source = args.length > 0 ? args[0] : FileManager.QUESTION_PACKS.toString();
+		ForkJoinPool pool = args.length > 1 ? new ForkJoinPool(Integer.parseInt(args[1])) : ForkJoinPool.commonPool();
+		load(source, pool).print(System.out);
+	}
+
+	/**
+	 * Loads every question file in a directory, or every file matching a glob, on the common pool.
+	 *
+	 * @param source a directory, whose .txt files are read, or a glob such as "packs/season*.txt"
+	 * @return the merged bank and the report for each file
+	 * @throws IOException if no file matches or a file cannot be read
+	 */
+	public static Result load(String source) throws IOException
+	{
+		return load(source, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Loads every question file in a directory, or every file matching a glob.
+	 *
+	 * @param source a directory, whose .txt files are read, or a glob such as "packs/season*.txt"
+	 * @param pool the pool to parse on
+	 * @return the merged bank and the report for each file
+	 * @throws IOException if no file matches or a file cannot be read
+	 */
+	public static Result load(String source, ForkJoinPool pool) throws IOException
+	{
+		List<Path> files = findFiles(source);
+		if (files.isEmpty()) {
+			throw new IOException("No question files match " + source);
+		}
+		long start = System.nanoTime();
+
+		// Parse every file in parallel, each file splitting itself into pieces
+		List<FileChannel> channels = new ArrayList<>();
+		List<ParseTask> tasks = new ArrayList<>();
+		try {
+			for (Path file : files) {
+				FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+				channels.add(channel);
+				tasks.add(new ParseTask(channel, 0, channel.size()));
+			}
+			List<List<Chunk>> parsed;
+			try {
+				parsed = pool.invoke(ForkJoinTask.adapt(() -> {
+					ForkJoinTask.invokeAll(tasks);
+					List<List<Chunk>> results = new ArrayList<>();
+					for (ParseTask task : tasks) {
+						results.add(task.join());
+					}
+					return results;
+				}));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+
+			// Merge the pieces in file order, leaving out questions that were already seen
+			QuestionBank.Builder builder = FileManager.newBankBuilder();
+			SeenQuestions seen = new SeenQuestions();
+			List<FileReport> reports = new ArrayList<>();
+			for (int f = 0; f < files.size(); f++) {
+				int added = 0;
+				int duplicates = 0;
+				int rejected = 0;
+				long parseNanos = 0;
+				for (Chunk chunk : parsed.get(f)) {
+					rejected += chunk.rejected;
+					parseNanos += chunk.parseNanos;
+					QuestionBank bank = chunk.bank;
+					int[] categoryIds = new int[bank.categoryCount()];
+					for (int i = 0; i < categoryIds.length; i++) {
+						categoryIds[i] = builder.categoryId(bank.categoryName(i));
+					}
+					int[] valueIds = new int[bank.valueCount()];
+					for (int i = 0; i < valueIds.length; i++) {
+						valueIds[i] = builder.valueId(bank.pointValue(i));
+					}
+					for (int id = 0; id < bank.size(); id++) {
+						if (seen.add(chunk, id)) {
+							builder.addQuestion(bank, id, categoryIds[bank.categoryOf(id)], valueIds[bank.valueOf(id)]);
+							added++;
+						} else {
+							duplicates++;
+						}
+					}
+				}
+				reports.add(new FileReport(files.get(f), channels.get(f).size(), parsed.get(f).size(), added, duplicates,
+						rejected, parseNanos));
+			}
+			return new Result(builder.build(), reports, System.nanoTime() - start, pool.getParallelism());
+		} finally {
+			for (FileChannel channel : channels) {
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * Lists the question files named by a directory or a glob, in name order.
+	 *
+	 * @param source a directory, whose .txt files are listed, or a glob
+	 * @return the matching regular files
+	 * @throws IOException if the directory cannot be listed
+	 */
+	static List<Path> findFiles(String source) throws IOException
+	{
+		Path directory = Path.of(source);
+		PathMatcher matcher;
+		int depth = 1;
+		if (Files.isDirectory(directory)) {
+			matcher = path -> path.getFileName().toString().toLowerCase().endsWith(".txt");
+		} else {
+			// Search from the directory part of the glob, before its first wildcard
+			int wildcard = 0;
+			while (wildcard < source.length() && "*?[{".indexOf(source.charAt(wildcard)) < 0) {
+				wildcard++;
+			}
+			int separator = Math.max(source.lastIndexOf('/', wildcard), source.lastIndexOf('\\', wildcard));
+			directory = Path.of(separator < 0 ? "" : source.substring(0, Math.max(separator, 1)));
+			matcher = FileSystems.getDefault().getPathMatcher("glob:" + source);
+			depth = Integer.MAX_VALUE;
+		}
+		List<Path> files = new ArrayList<>();
+		try (Stream<Path> paths = Files.walk(directory, depth)) {
+			paths.filter(Files::isRegularFile).filter(matcher::matches).forEach(files::add);
+		}
+		Collections.sort(files);
+		return files;
+	}
+
+	/**
+	 * Parses a byte range of a file that starts at the beginning of a line. A range larger than
+	 * CHUNK_BYTES is split at the first line break after its middle and both halves are parsed
+	 * as subtasks; the pieces come back in file order.
+	 */
+	private static final class ParseTask extends RecursiveTask<List<Chunk>>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final transient FileChannel file;
+		private final long start;
+		private final long end;
+
+		ParseTask(FileChannel file, long start, long end)
+		{
+			this.file = file;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected List<Chunk> compute()
+		{
+			try {
+				if (end - start > CHUNK_BYTES) {
+					long split = nextLineStart(start + (end - start) / 2);
+					if (split < end) {
+						ParseTask left = new ParseTask(file, start, split);
+						ParseTask right = new ParseTask(file, split, end);
+						right.fork();
+						List<Chunk> chunks = new ArrayList<>(left.compute());
+						chunks.addAll(right.join());
+						return chunks;
+					}
+				}
+				return List.of(parse());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		/**
+		 * Finds where the line holding a position ends, returning the start of the next line.
+		 */
+		private long nextLineStart(long position) throws IOException
+		{
+			ByteBuffer buffer = ByteBuffer.allocate(1 << 12);
+			while (position < end) {
+				buffer.clear();
+				int read = file.read(buffer, position);
+				if (read <= 0) {
+					break;
+				}
+				for (int i = 0; i < read; i++) {
+					if (buffer.get(i) == '\n') {
+						return position + i + 1;
+					}
+				}
+				position += read;
+			}
+			return end;
+		}
+
+		/**
+		 * Reads and parses the whole range as one piece.
+		 */
+		private Chunk parse() throws IOException
+		{
+			long started = System.nanoTime();
+			byte[] bytes = new byte[(int) (end - start)];
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (buffer.hasRemaining()) {
+				if (file.read(buffer, start + buffer.position()) < 0) {
+					throw new IOException("The question file got shorter while it was read");
+				}
+			}
+
+			// Lines end with \n, \r\n or \r, the same as BufferedReader.readLine; blank lines are not counted
+			String text = new String(bytes, StandardCharsets.UTF_8);
+			QuestionBank.Builder builder = new QuestionBank.Builder();
+			int rejected = 0;
+			int lineStart = 0;
+			for (int i = 0; i <= text.length(); i++) {
+				if (i == text.length() || text.charAt(i) == '\n' || text.charAt(i) == '\r') {
+					if (i > lineStart && !FileManager.addLine(builder, text.substring(lineStart, i))) {
+						rejected++;
+					}
+					lineStart = i + 1;
+				}
+			}
+			QuestionBank bank = builder.build();
+			long[] hashes = new long[bank.size()];
+			for (int id = 0; id < hashes.length; id++) {
+				hashes[id] = bank.questionHash(id);
+			}
+			return new Chunk(bank, hashes, rejected, System.nanoTime() - started);
+		}
+	}
+
+	/**
+	 * One parsed piece of a file.
+	 */
+	private static final class Chunk
+	{
+		final QuestionBank bank;
+		final long[] hashes; // the question text hash of each question in the bank
+		final int rejected;
+		final long parseNanos;
+
+		Chunk(QuestionBank bank, long[] hashes, int rejected, long parseNanos)
+		{
+			this.bank = bank;
+			this.hashes = hashes;
+			this.rejected = rejected;
+			this.parseNanos = parseNanos;
+		}
+	}
+
+	/**
+	 * The question texts merged so far, as an open-addressing table of text hashes. Each slot
+	 * also remembers which question it came from, so equal hashes can be checked against the
+	 * actual texts.
+	 */
+	private static final class SeenQuestions
+	{
+		private long[] hashes = new long[1 << 10];
+		private Chunk[] chunks = new Chunk[1 << 10];
+		private int[] ids = new int[1 << 10];
+		private int size;
+
+		/**
+		 * Records a question, returning false if a question with the same text was already recorded.
+		 */
+		boolean add(Chunk chunk, int id)
+		{
+			long hash = chunk.hashes[id];
+			int mask = chunks.length - 1;
+			int slot = (int) (hash ^ (hash >>> 32)) & mask;
+			while (chunks[slot] != null) {
+				if (hashes[slot] == hash && chunk.bank.sameQuestionText(id, chunks[slot].bank, ids[slot])) {
+					return false;
+				}
+				slot = (slot + 1) & mask;
+			}
+			hashes[slot] = hash;
+			chunks[slot] = chunk;
+			ids[slot] = id;
+			if (++size * 2 > chunks.length) {
+				grow();
+			}
+			return true;
+		}
+
+		private void grow()
+		{
+			long[] oldHashes = hashes;
+			Chunk[] oldChunks = chunks;
+			int[] oldIds = ids;
+			hashes = new long[oldChunks.length * 2];
+			chunks = new Chunk[oldChunks.length * 2];
+			ids = new int[oldChunks.length * 2];
+			int mask = chunks.length - 1;
+			for (int i = 0; i < oldChunks.length; i++) {
+				if (oldChunks[i] != null) {
+					long hash = oldHashes[i];
+					int slot = (int) (hash ^ (hash >>> 32)) & mask;
+					while (chunks[slot] != null) {
+						slot = (slot + 1) & mask;
+					}
+					hashes[slot] = hash;
+					chunks[slot] = oldChunks[i];
+					ids[slot] = oldIds[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * What happened to one question file.
+	 */
+	public static class FileReport
+	{
+		private final Path file;
+		private final long bytes;
+		private final int chunks;
+		private final int questions;
+		private final int duplicates;
+		private final int rejectedLines;
+		private final long parseNanos;
+
+		FileReport(Path file, long bytes, int chunks, int questions, int duplicates, int rejectedLines, long parseNanos)
+		{
+			this.file = file;
+			this.bytes = bytes;
+			this.chunks = chunks;
+			this.questions = questions;
+			this.duplicates = duplicates;
+			this.rejectedLines = rejectedLines;
+			this.parseNanos = parseNanos;
+		}
+
+		/** @return the question file */
+		public Path getFile()
+		{
+			return file;
+		}
+
+		/** @return the number of questions the file added to the bank */
+		public int getQuestions()
+		{
+			return questions;
+		}
+
+		/** @return the number of questions left out because an earlier question had the same text */
+		public int getDuplicates()
+		{
+			return duplicates;
+		}
+
+		/** @return the number of non-blank lines that were not valid questions */
+		public int getRejectedLines()
+		{
+			return rejectedLines;
+		}
+
+		/** @return the parse time of the file, added up over all of its pieces */
+		public long getParseNanos()
+		{
+			return parseNanos;
+		}
+	}
+
+	/**
+	 * The merged bank and what happened to each file.
+	 */
+	public static class Result
+	{
+		private final QuestionBank bank;
+		private final List<FileReport> files;
+		private final long elapsedNanos;
+		private final int threads;
+
+		Result(QuestionBank bank, List<FileReport> files, long elapsedNanos, int threads)
+		{
+			this.bank = bank;
+			this.files = Collections.unmodifiableList(files);
+			this.elapsedNanos = elapsedNanos;
+			this.threads = threads;
+		}
+
+		/** @return the merged question bank */
+		public QuestionBank getBank()
+		{
+			return bank;
+		}
+
+		/** @return the report of every file, in the order they were merged */
+		public List<FileReport> getFiles()
+		{
+			return files;
+		}
+
+		/** @return the wall clock time of the whole load, from listing the files to building the bank */
+		public long getElapsedNanos()
+		{
+			return elapsedNanos;
+		}
+
+		/**
+		 * Prints a line for each file and a total.
+		 *
+		 * @param out where to print
+		 */
+		public void print(PrintStream out)
+		{
+			long parseNanos = 0;
+			for (FileReport file : files) {
+				out.printf("%s: %,d bytes in %d pieces, %,d questions, %,d duplicates, %,d rejected lines, parsed in %,d ms%n",
+						file.file, file.bytes, file.chunks, file.questions, file.duplicates, file.rejectedLines,
+						file.parseNanos / 1_000_000);
+				parseNanos += file.parseNanos;
+			}
+			out.printf("%,d files, %,d questions in %d categories loaded in %,d ms on %d threads (%,d ms of parsing, %.1fx)%n",
+					files.size(), bank.size(), bank.categoryCount(), elapsedNanos / 1_000_000, threads,
+					parseNanos / 1_000_000, elapsedNanos == 0 ? 0.0 : (double) parseNanos / elapsedNanos);
+			if (bank.size() == 0) {
+				out.println("The packs hold no valid questions");
+			}
+		}
+	}
+}
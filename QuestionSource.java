@@ -0,0 +1,171 @@
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionSource.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * QuestionSource is a read-only view of a question bank, wherever its data lives.
+ * Questions are identified by an int id and grouped into buckets by category and point value.
+ * Every question has exactly ANSWER_COUNT answers and answer 0 is always the correct one.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public interface QuestionSource
+{
+	/** The number of answer choices every question has. */
+	int ANSWER_COUNT = 4;
+
+	/**
+	 * Returns the number of questions in the bank.
+	 *
+	 * @return the number of questions
+	 */
+	int size();
+
+	/**
+	 * Returns the number of categories in the bank.
+	 *
+	 * @return the number of categories
+	 */
+	int categoryCount();
+
+	/**
+	 * Returns the name of a category.
+	 *
+	 * @param category the category id
+	 * @return the category name
+	 */
+	String categoryName(int category);
+
+	/**
+	 * Returns the number of distinct point values in the bank.
+	 *
+	 * @return the number of point values
+	 */
+	int valueCount();
+
+	/**
+	 * Returns a point value. Value ids are ordered from the lowest value to the highest.
+	 *
+	 * @param value the value id
+	 * @return the point value, for example 200
+	 */
+	int pointValue(int value);
+
+	/**
+	 * Returns how many questions share a category and point value.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @return the number of questions in the bucket
+	 */
+	int bucketSize(int category, int value);
+
+	/**
+	 * Returns the id of a question within a category and point value.
+	 *
+	 * @param category the category id
+	 * @param value the value id
+	 * @param index the position of the question in the bucket, from 0 to bucketSize - 1
+	 * @return the question id
+	 */
+	int questionId(int category, int value, int index);
+
+	/**
+	 * Returns the category id of a question.
+	 *
+	 * @param id the question id
+	 * @return the category id
+	 */
+	int categoryOf(int id);
+
+	/**
+	 * Returns the value id of a question.
+	 *
+	 * @param id the question id
+	 * @return the value id
+	 */
+	int valueOf(int id);
+
+	/**
+	 * Returns the text of a question.
+	 *
+	 * @param id the question id
+	 * @return the question text
+	 */
+	String questionText(int id);
+
+	/**
+	 * Returns the answer prefix of a question, such as "What is".
+	 *
+	 * @param id the question id
+	 * @return the answer prefix
+	 */
+	String prefix(int id);
+
+	/**
+	 * Returns an answer without its prefix. Answer 0 is always the correct one.
+	 *
+	 * @param id the question id
+	 * @param answer the answer index, from 0 to ANSWER_COUNT - 1
+	 * @return the answer text
+	 */
+	String answerText(int id, int answer);
+
+	/**
+	 * Returns an answer the way it is shown to the player, with the prefix in front.
+	 * Answer 0 is always the correct one.
+	 *
+	 * @param id the question id
+	 * @param answer the answer index, from 0 to ANSWER_COUNT - 1
+	 * @return the prefixed answer, for example "What is 1995"
+	 */
+	default String answer(int id, int answer)
+	{
+		return prefix(id) + " " + answerText(id, answer);
+	}
+
+	/**
+	 * Returns a question and its prefixed answers in the layout the game has always used:
+	 * index 0 holds the question and indices 1-4 the answers, with the correct one first.
+	 *
+	 * @param id the question id
+	 * @return the question followed by its answers
+	 */
+	default String[] getQuestion(int id)
+	{
+		String[] question = new String[ANSWER_COUNT + 1];
+		question[0] = questionText(id);
+		for (int i = 0; i < ANSWER_COUNT; i++) {
+			question[i + 1] = answer(id, i);
+		}
+		return question;
+	}
+
+	/**
+	 * Copies the bank into the 4D array layout [category][value][question][question and answers].
+	 *
+	 * @return a 4D array of questions
+	 */
+	default String[][][][] toArray()
+	{
+		String[][][][] array = new String[categoryCount()][valueCount()][][];
+		for (int category = 0; category < array.length; category++) {
+			for (int value = 0; value < array[category].length; value++) {
+				String[][] bucket = new String[bucketSize(category, value)][];
+				for (int i = 0; i < bucket.length; i++) {
+					bucket[i] = getQuestion(questionId(category, value, i));
+				}
+				array[category][value] = bucket;
+			}
+		}
+		return array;
+	}
+}
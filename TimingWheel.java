@@ -0,0 +1,308 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: TimingWheel.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * TimingWheel runs timeouts for any number of games from one thread. Time is cut into ticks
+ * measured from System.nanoTime, and a timeout runs on the first tick at or after its
+ * deadline, so it is never early and, unless the thread is starved, never more than a tick
+ * late. Deadlines are absolute, so a late tick does not push back the ticks after it.
+ *
+ * <p>Timeouts are kept in a hierarchical wheel: four levels of 64 slots, where a slot on the
+ * first level holds one tick and a slot on each level above holds a whole turn of the level
+ * below. Scheduling and cancelling take constant time however many timeouts are pending.
+ * When a level comes round to a new slot, the timeouts in it move down to the level below,
+ * until they reach the first level and run. Timeouts further away than the top level
+ * reaches wait in its last slot and are placed again when it comes round.
+ *
+ * <p>Any thread can schedule or cancel a timeout. Tasks run on the wheel's thread, so they
+ * must be quick and hand anything slow to another thread. The thread sleeps until the next
+ * tick while timeouts are pending, and until the next timeout is scheduled otherwise.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class TimingWheel
+{
+	/** The length of a tick on the shared wheel. */
+	public static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int LEVELS = 4;
+
+	private static final Object SHARED_LOCK = new Object();
+	private static TimingWheel shared;
+
+	private final long tickNanos;
+	private final long startNanos;
+	private final Timeout[][] slots = new Timeout[LEVELS][SLOTS]; // a list of timeouts in each slot
+	private final ConcurrentLinkedQueue<Timeout> added = new ConcurrentLinkedQueue<>();
+	private final Thread thread;
+	private volatile boolean idle;
+	private volatile boolean closed;
+
+	// Only used by the wheel's thread
+	private long tick; // the tick being run, counted from startNanos
+	private int pending; // timeouts in the slots, including cancelled ones not yet dropped
+
+	/**
+	 * Creates a wheel and starts its thread.
+	 *
+	 * @param name the name of the wheel's thread
+	 * @param tickNanos the length of a tick in nanoseconds
+	 */
+	public TimingWheel(String name, long tickNanos)
+	{
+		if (tickNanos <= 0) {
+			throw new IllegalArgumentException("The tick must be positive");
+		}
+		this.tickNanos = tickNanos;
+		startNanos = System.nanoTime();
+		thread = new Thread(this::run, name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Returns the wheel shared by every game in the process, with a 10 millisecond tick.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 *
+	 * @return the shared wheel
+	 */
+	public static TimingWheel shared()
+	{
+		synchronized (SHARED_LOCK) {
+			if (shared == null) {
+				shared = new TimingWheel("game-clock", DEFAULT_TICK_NANOS);
+			}
+			return shared;
+		}
+	}
+
+	/**
+	 * Returns the length of a tick, which is how late a timeout can run.
+	 *
+	 * @return the tick in nanoseconds
+	 */
+	public long getTickNanos()
+	{
+		return tickNanos;
+	}
+
+	/**
+	 * Runs a task once a delay has passed.
+	 *
+	 * @param delayNanos the delay in nanoseconds; 0 or less runs the task on the next tick
+	 * @param task the task, which runs on the wheel's thread
+	 * @return the timeout, which can be cancelled
+	 */
+	public Timeout schedule(long delayNanos, Runnable task)
+	{
+		if (closed) {
+			throw new IllegalStateException("The timing wheel is closed");
+		}
+		long deadline = System.nanoTime() + Math.max(delayNanos, 0);
+		Timeout timeout = new Timeout(deadline, (deadline - startNanos + tickNanos - 1) / tickNanos, task);
+		added.add(timeout);
+		if (idle) {
+			LockSupport.unpark(thread);
+		}
+		return timeout;
+	}
+
+	/**
+	 * Stops the wheel's thread. Timeouts that have not run yet never will.
+	 */
+	public void close()
+	{
+		closed = true;
+		LockSupport.unpark(thread);
+	}
+
+	/**
+	 * Runs ticks until the wheel is closed.
+	 */
+	private void run()
+	{
+		while (!closed) {
+			if (pending == 0 && added.isEmpty()) {
+				// Nothing to run, so sleep until a timeout is scheduled instead of ticking
+				idle = true;
+				if (added.isEmpty() && !closed) {
+					LockSupport.park(this);
+				}
+				idle = false;
+				if (pending == 0) {
+					// The empty slots need not be run, so skip ahead to the current tick
+					tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos);
+				}
+				continue;
+			}
+			long wait = startNanos + tick * tickNanos - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(this, wait);
+				continue;
+			}
+			for (Timeout timeout; (timeout = added.poll()) != null; ) {
+				place(timeout);
+				pending++;
+			}
+			runTick();
+			tick++;
+		}
+	}
+
+	/**
+	 * Moves down the timeouts of every level that comes round to a new slot on this tick, and
+	 * then runs the timeouts in this tick's slot.
+	 */
+	private void runTick()
+	{
+		int top = 0;
+		while (top < LEVELS - 1 && (tick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+			top++;
+		}
+		for (int level = top; level > 0; level--) {
+			int slot = (int) (tick >>> (SLOT_BITS * level)) & (SLOTS - 1);
+			Timeout timeout = slots[level][slot];
+			slots[level][slot] = null;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				timeout.next = null;
+				if (timeout.isCancelled()) {
+					pending--;
+				} else {
+					place(timeout);
+				}
+				timeout = next;
+			}
+		}
+
+		int slot = (int) tick & (SLOTS - 1);
+		Timeout timeout = slots[0][slot];
+		slots[0][slot] = null;
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			timeout.next = null;
+			pending--;
+			timeout.expire();
+			timeout = next;
+		}
+	}
+
+	/**
+	 * Puts a timeout in the slot of the lowest level that reaches its tick.
+	 */
+	private void place(Timeout timeout)
+	{
+		long expiry = Math.max(timeout.tick, tick);
+		int level = 0;
+		while (level < LEVELS - 1 && (expiry >>> (SLOT_BITS * level)) - (tick >>> (SLOT_BITS * level)) >= SLOTS) {
+			level++;
+		}
+		int shift = SLOT_BITS * level;
+		// Beyond the reach of the top level, wait in the slot that comes round last
+		long position = Math.min(expiry >>> shift, (tick >>> shift) + SLOTS - 1);
+		int slot = (int) position & (SLOTS - 1);
+		timeout.next = slots[level][slot];
+		slots[level][slot] = timeout;
+	}
+
+	/**
+	 * Timeout is a task waiting in a TimingWheel.
+	 *
+	 * <hr>
+	 * Date created: Oct 18, 2026
+	 * <hr>
+	 */
+	public static final class Timeout
+	{
+		private static final int PENDING = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+
+		private final long deadline;
+		private final long tick;
+		private final Runnable task;
+		private final AtomicInteger state = new AtomicInteger(PENDING);
+		private Timeout next; // the next timeout in the same slot
+
+		private Timeout(long deadline, long tick, Runnable task)
+		{
+			this.deadline = deadline;
+			this.tick = tick;
+			this.task = task;
+		}
+
+		/**
+		 * Stops the task from running.
+		 *
+		 * @return true if the task had not run and now never will
+		 */
+		public boolean cancel()
+		{
+			return state.compareAndSet(PENDING, CANCELLED);
+		}
+
+		/**
+		 * Checks whether the timeout was cancelled.
+		 *
+		 * @return true if it was cancelled before it ran
+		 */
+		public boolean isCancelled()
+		{
+			return state.get() == CANCELLED;
+		}
+
+		/**
+		 * Checks whether the task has run or is running.
+		 *
+		 * @return true if the timeout expired
+		 */
+		public boolean isExpired()
+		{
+			return state.get() == EXPIRED;
+		}
+
+		/**
+		 * Returns when the task is due.
+		 *
+		 * @return the deadline on the System.nanoTime clock
+		 */
+		public long getDeadline()
+		{
+			return deadline;
+		}
+
+		/**
+		 * Runs the task unless the timeout was cancelled. A task that fails is reported and
+		 * does not stop the wheel.
+		 */
+		private void expire()
+		{
+			if (state.compareAndSet(PENDING, EXPIRED)) {
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					System.out.println("A timed task failed: " + e);
+				}
+			}
+		}
+	}
+}
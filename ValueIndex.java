@@ -0,0 +1,135 @@
+import java.util.Arrays;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: ValueIndex.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * ValueIndex gives every distinct point value a small int id, in the order the values are
+ * first added, through an open-addressing hash table of ids. It is the point value
+ * counterpart of CategoryIndex. An index is not thread-safe.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class ValueIndex
+{
+	private int[] slots = new int[16]; // id + 1 of the value in each slot, 0 for an empty slot
+	private int[] values = new int[8];
+	private int size;
+
+	/**
+	 * Returns the id of a point value, adding it if it is new.
+	 *
+	 * @param pointValue the point value
+	 * @return the value id
+	 */
+	public int add(int pointValue)
+	{
+		int slot = find(pointValue);
+		if (slots[slot] != 0) {
+			return slots[slot] - 1;
+		}
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size * 2);
+		}
+		int id = size++;
+		values[id] = pointValue;
+		slots[slot] = id + 1;
+		if (size * 2 > slots.length) {
+			rehash(slots.length * 2);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the id of a point value without adding it.
+	 *
+	 * @param pointValue the point value
+	 * @return the value id, or -1 if the value has not been added
+	 */
+	public int idOf(int pointValue)
+	{
+		return slots[find(pointValue)] - 1;
+	}
+
+	/**
+	 * Returns a point value.
+	 *
+	 * @param id the value id
+	 * @return the point value
+	 */
+	public int value(int id)
+	{
+		if (id < 0 || id >= size) {
+			throw new IndexOutOfBoundsException("No point value " + id);
+		}
+		return values[id];
+	}
+
+	/**
+	 * Returns the number of values added.
+	 *
+	 * @return the number of point values
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns every point value, indexed by id.
+	 *
+	 * @return a new array of the point values
+	 */
+	public int[] toArray()
+	{
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * Finds the slot holding a value, or the empty slot where it belongs.
+	 */
+	private int find(int pointValue)
+	{
+		int mask = slots.length - 1;
+		for (int slot = spread(pointValue) & mask; ; slot = (slot + 1) & mask) {
+			int id = slots[slot] - 1;
+			if (id < 0 || values[id] == pointValue) {
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the table at a new size.
+	 */
+	private void rehash(int capacity)
+	{
+		slots = new int[capacity];
+		int mask = capacity - 1;
+		for (int id = 0; id < size; id++) {
+			int slot = spread(values[id]) & mask;
+			while (slots[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = id + 1;
+		}
+	}
+
+	/**
+	 * Scrambles a point value, since values are usually round numbers whose low bits are all zero.
+	 */
+	private static int spread(int pointValue)
+	{
+		int hash = pointValue * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,798 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: XlsxQuestionImporter.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * XlsxQuestionImporter reads questions straight from an Excel workbook such as
+ * QuestionBank.xlsx, so the spreadsheet no longer has to be exported to Questions.txt by hand.
+ * An .xlsx file is a zip of XML parts. The first sheet and the shared strings table are read
+ * with a streaming StAX reader, one element at a time, and each row goes into the bank
+ * builder as soon as it ends, so no document tree is ever built. Memory grows only with the
+ * shared strings, which the sheet refers to by number and which therefore have to be kept,
+ * and with the bank itself.
+ *
+ * <p>The sheet has the same columns as a line of Questions.txt: category, value, question,
+ * answer prefix and the four answers with the correct one first. A row whose value is not a
+ * number, such as the header row, is skipped, as are empty rows. Number cells are shown the
+ * way Excel shows them: the number format of the cell's style is read from the workbook's
+ * styles, so dates and times such as d-mmm-yy and numbers such as #,##0 or 0.0% come out as
+ * they look in the sheet, and General numbers lose Excel's ".0". Scientific and fraction
+ * formats are shown as General. Category names are matched to the standard
+ * board categories ignoring case, spaces and punctuation, so "US History" is filed under
+ * "U.S. History".
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class XlsxQuestionImporter
+{
+	private static final String RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+	private static final int COLUMNS = 4 + QuestionSource.ANSWER_COUNT;
+	private static final int CATEGORY = 0;
+	private static final int VALUE = 1;
+	private static final int QUESTION = 2;
+	private static final int PREFIX = 3;
+	private static final LocalDate EPOCH_1900 = LocalDate.of(1899, 12, 30); // day 0 of the 1900 date system, once past its false 29 February 1900
+	private static final LocalDate EPOCH_1904 = LocalDate.of(1904, 1, 1);
+	private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+	// The codes of the built-in number formats a style can refer to by id, as Excel shows them in English
+	private static final String[] BUILT_IN_FORMATS = new String[50];
+	static {
+		BUILT_IN_FORMATS[1] = "0";
+		BUILT_IN_FORMATS[2] = "0.00";
+		BUILT_IN_FORMATS[3] = "#,##0";
+		BUILT_IN_FORMATS[4] = "#,##0.00";
+		BUILT_IN_FORMATS[9] = "0%";
+		BUILT_IN_FORMATS[10] = "0.00%";
+		BUILT_IN_FORMATS[14] = "m/d/yyyy";
+		BUILT_IN_FORMATS[15] = "d-mmm-yy";
+		BUILT_IN_FORMATS[16] = "d-mmm";
+		BUILT_IN_FORMATS[17] = "mmm-yy";
+		BUILT_IN_FORMATS[18] = "h:mm AM/PM";
+		BUILT_IN_FORMATS[19] = "h:mm:ss AM/PM";
+		BUILT_IN_FORMATS[20] = "h:mm";
+		BUILT_IN_FORMATS[21] = "h:mm:ss";
+		BUILT_IN_FORMATS[22] = "m/d/yyyy h:mm";
+		BUILT_IN_FORMATS[37] = "#,##0 ;(#,##0)";
+		BUILT_IN_FORMATS[38] = "#,##0 ;(#,##0)";
+		BUILT_IN_FORMATS[39] = "#,##0.00;(#,##0.00)";
+		BUILT_IN_FORMATS[40] = "#,##0.00;(#,##0.00)";
+		BUILT_IN_FORMATS[45] = "mm:ss";
+		BUILT_IN_FORMATS[46] = "[h]:mm:ss";
+		BUILT_IN_FORMATS[47] = "mm:ss";
+	}
+
+	private final XMLInputFactory factory;
+	private final QuestionBank.Builder builder;
+	private final Map<String, String> standardNames = new HashMap<>();
+	private String[] sharedStrings = new String[0];
+	private String[] styleFormats = new String[0]; // the number format code of each cell style, or null for General
+	private boolean date1904; // whether the workbook counts days from 1904 instead of 1900
+	private int rows;
+	private int skippedRows;
+
+	/**
+	 * Creates an importer that adds to a bank builder.
+	 *
+	 * @param builder the bank to add the questions to
+	 * @param standardCategories the category names that differently written names are matched to
+	 */
+	public XlsxQuestionImporter(QuestionBank.Builder builder, String[] standardCategories)
+	{
+		this.builder = builder;
+		for (String category : standardCategories) {
+			standardNames.put(fold(category), category);
+		}
+		factory = XMLInputFactory.newInstance();
+		// A workbook is data, so it may not pull in DTDs or external files
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+	}
+
+	/**
+	 * Adds every question on the first sheet of a workbook to the builder.
+	 *
+	 * @param workbook the .xlsx file
+	 * @throws IOException if the file cannot be read or is not a workbook
+	 */
+	public void read(Path workbook) throws IOException
+	{
+		try (ZipFile zip = new ZipFile(workbook.toFile())) {
+			// The workbook names its sheets; its relationships part says which file holds each one
+			String sheetId = firstSheetId(zip);
+			Map<String, String> targets = new HashMap<>();
+			String sharedStringsPart = null;
+			String stylesPart = null;
+			try (InputStream in = open(zip, "xl/_rels/workbook.xml.rels")) {
+				XMLStreamReader xml = factory.createXMLStreamReader(in);
+				while (xml.hasNext()) {
+					if (xml.next() == XMLStreamConstants.START_ELEMENT && xml.getLocalName().equals("Relationship")) {
+						String target = partName(xml.getAttributeValue(null, "Target"));
+						targets.put(xml.getAttributeValue(null, "Id"), target);
+						String type = xml.getAttributeValue(null, "Type");
+						if (type.endsWith("/sharedStrings")) {
+							sharedStringsPart = target;
+						} else if (type.endsWith("/styles")) {
+							stylesPart = target;
+						}
+					}
+				}
+				xml.close();
+			}
+			String sheetPart = targets.get(sheetId);
+			if (sheetPart == null) {
+				throw new IOException(workbook + " has no worksheets");
+			}
+			if (sharedStringsPart != null) {
+				try (InputStream in = open(zip, sharedStringsPart)) {
+					readSharedStrings(factory.createXMLStreamReader(in));
+				}
+			}
+			if (stylesPart != null) {
+				try (InputStream in = open(zip, stylesPart)) {
+					readStyles(factory.createXMLStreamReader(in));
+				}
+			}
+			try (InputStream in = open(zip, sheetPart)) {
+				readSheet(factory.createXMLStreamReader(in));
+			}
+		} catch (XMLStreamException e) {
+			throw new IOException(workbook + " is not a valid workbook: " + e.getMessage(), e);
+		} finally {
+			sharedStrings = new String[0];
+			styleFormats = new String[0];
+		}
+	}
+
+	/**
+	 * Returns the number of sheet rows that held a question.
+	 *
+	 * @return the rows added to the bank
+	 */
+	public int getRows()
+	{
+		return rows;
+	}
+
+	/**
+	 * Returns the number of rows that had cells but no numeric value, such as the header row.
+	 *
+	 * @return the rows that were skipped
+	 */
+	public int getSkippedRows()
+	{
+		return skippedRows;
+	}
+
+	/**
+	 * Finds the relationship id of the first sheet in the workbook, noting on the way whether
+	 * the workbook uses the 1904 date system.
+	 */
+	private String firstSheetId(ZipFile zip) throws IOException, XMLStreamException
+	{
+		try (InputStream in = open(zip, "xl/workbook.xml")) {
+			XMLStreamReader xml = factory.createXMLStreamReader(in);
+			while (xml.hasNext()) {
+				if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+					continue;
+				}
+				if (xml.getLocalName().equals("workbookPr")) {
+					String date1904 = xml.getAttributeValue(null, "date1904");
+					this.date1904 = "1".equals(date1904) || "true".equals(date1904);
+				} else if (xml.getLocalName().equals("sheet")) {
+					return xml.getAttributeValue(RELATIONSHIPS, "id");
+				}
+			}
+			throw new IOException("The workbook has no sheets");
+		}
+	}
+
+	/**
+	 * Reads the shared strings table. A string made of several formatted runs is joined into
+	 * one; phonetic guides (rPh) are left out, as Excel leaves them out of the cell value.
+	 */
+	private void readSharedStrings(XMLStreamReader xml) throws XMLStreamException
+	{
+		int count = 0;
+		StringBuilder text = new StringBuilder();
+		int phonetic = 0;
+		while (xml.hasNext()) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				switch (xml.getLocalName()) {
+					case "sst":
+						String unique = xml.getAttributeValue(null, "uniqueCount");
+						sharedStrings = new String[unique == null ? 64 : Math.max(1, Integer.parseInt(unique))];
+						break;
+					case "si":
+						text.setLength(0);
+						break;
+					case "rPh":
+						phonetic++;
+						break;
+					case "t":
+						if (phonetic == 0) {
+							text.append(xml.getElementText());
+						}
+						break;
+					default:
+						break;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				if (xml.getLocalName().equals("rPh")) {
+					phonetic--;
+				} else if (xml.getLocalName().equals("si")) {
+					if (count == sharedStrings.length) {
+						sharedStrings = Arrays.copyOf(sharedStrings, count * 2);
+					}
+					sharedStrings[count++] = text.toString();
+				}
+			}
+		}
+		xml.close();
+	}
+
+	/**
+	 * Reads the number format of every cell style. A cell refers to its style by its position
+	 * in cellXfs, and a style to its format by id, either one of the workbook's own numFmts or
+	 * a built-in one.
+	 */
+	private void readStyles(XMLStreamReader xml) throws XMLStreamException
+	{
+		Map<Integer, String> customFormats = new HashMap<>();
+		List<String> formats = new ArrayList<>();
+		boolean cellStyles = false; // cellStyleXfs holds xf elements too, which cells do not refer to
+		while (xml.hasNext()) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				switch (xml.getLocalName()) {
+					case "numFmt":
+						customFormats.put(Integer.parseInt(xml.getAttributeValue(null, "numFmtId").trim()), xml.getAttributeValue(null, "formatCode"));
+						break;
+					case "cellXfs":
+						cellStyles = true;
+						break;
+					case "xf":
+						if (cellStyles) {
+							String id = xml.getAttributeValue(null, "numFmtId");
+							int formatId = id == null ? 0 : Integer.parseInt(id.trim());
+							formats.add(customFormats.containsKey(formatId) ? customFormats.get(formatId)
+									: formatId >= 0 && formatId < BUILT_IN_FORMATS.length ? BUILT_IN_FORMATS[formatId] : null);
+						}
+						break;
+					default:
+						break;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("cellXfs")) {
+				cellStyles = false;
+			}
+		}
+		xml.close();
+		styleFormats = formats.toArray(new String[0]);
+	}
+
+	/**
+	 * Reads the rows of a sheet, adding each one to the bank when it ends.
+	 */
+	private void readSheet(XMLStreamReader xml) throws XMLStreamException
+	{
+		String[] cells = new String[COLUMNS];
+		int column = -1;
+		String type = null;
+		int style = 0;
+		while (xml.hasNext()) {
+			int event = xml.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				switch (xml.getLocalName()) {
+					case "row":
+						Arrays.fill(cells, null);
+						column = -1;
+						break;
+					case "c":
+						// Cells without a reference follow the cell before them
+						String reference = xml.getAttributeValue(null, "r");
+						column = reference == null ? column + 1 : columnOf(reference);
+						type = xml.getAttributeValue(null, "t");
+						String styleIndex = xml.getAttributeValue(null, "s");
+						style = styleIndex == null ? 0 : Integer.parseInt(styleIndex.trim());
+						break;
+					case "v":
+						String value = xml.getElementText();
+						if (column >= 0 && column < COLUMNS) {
+							cells[column] = cellText(value, type, style);
+						}
+						break;
+					case "t":
+						// The text of an inline string cell
+						String inline = xml.getElementText();
+						if (column >= 0 && column < COLUMNS) {
+							cells[column] = cells[column] == null ? inline : cells[column] + inline;
+						}
+						break;
+					default:
+						break;
+				}
+			} else if (event == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("row")) {
+				addRow(cells);
+			}
+		}
+		xml.close();
+	}
+
+	/**
+	 * Adds a finished row to the bank, or skips it if it is not a question.
+	 */
+	private void addRow(String[] cells)
+	{
+		boolean empty = true;
+		for (String cell : cells) {
+			if (cell != null && !cell.isBlank()) {
+				empty = false;
+			}
+		}
+		if (empty) {
+			return;
+		}
+		int pointValue = pointValue(cells[VALUE]);
+		if (pointValue < 0 || cells[CATEGORY] == null || cells[QUESTION] == null) {
+			skippedRows++;
+			return;
+		}
+
+		String category = cells[CATEGORY].trim();
+		category = standardNames.getOrDefault(fold(category), category);
+		String prefix = cells[PREFIX] == null ? "" : cells[PREFIX].trim();
+		builder.startQuestion(builder.categoryId(category), builder.valueId(pointValue), prefix, 0, prefix.length());
+		builder.addText(cells[QUESTION], 0, cells[QUESTION].length());
+		for (int i = 0; i < QuestionSource.ANSWER_COUNT; i++) {
+			String answer = cells[PREFIX + 1 + i] == null ? "" : cells[PREFIX + 1 + i];
+			builder.addText(answer, 0, answer.length());
+		}
+		builder.finishQuestion();
+		rows++;
+	}
+
+	/**
+	 * Turns the stored value of a cell into its text, looking shared strings up by number and
+	 * formatting numbers with the number format of the cell's style.
+	 */
+	private String cellText(String value, String type, int style)
+	{
+		if ("s".equals(type)) {
+			int index = Integer.parseInt(value.trim());
+			return index >= 0 && index < sharedStrings.length && sharedStrings[index] != null ? sharedStrings[index] : "";
+		}
+		if ("b".equals(type)) {
+			return "1".equals(value.trim()) ? "TRUE" : "FALSE";
+		}
+		if (type == null || "n".equals(type)) {
+			return numberText(value, style >= 0 && style < styleFormats.length ? styleFormats[style] : null);
+		}
+		return value; // str, e and inlineStr hold their text as it is
+	}
+
+	/**
+	 * Writes a number the way Excel shows it with a number format. A format has up to three
+	 * sections separated by semicolons, for positive numbers, negative numbers and zero; a
+	 * negative number shown by its own section is shown without its sign.
+	 *
+	 * @param value the number as stored in the sheet
+	 * @param format the format code, or null for General
+	 */
+	private String numberText(String value, String format)
+	{
+		double number;
+		try {
+			number = Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			// Not a number after all, so it is shown as it was stored
+			return value;
+		}
+		if (format != null) {
+			List<String> sections = sections(format);
+			int section = number < 0 && sections.size() > 1 ? 1 : number == 0 && sections.size() > 2 ? 2 : 0;
+			String code = sections.get(section);
+			double shown = section == 0 ? number : Math.abs(number);
+			String text = isDateFormat(code) ? dateText(shown, code) : decimalText(shown, code);
+			if (text != null) {
+				return text;
+			}
+		}
+		// General: whole numbers lose Excel's ".0", so 1995.0 becomes 1995
+		if (number == Math.rint(number) && Math.abs(number) < 1e15) {
+			return Long.toString((long) number);
+		}
+		return value;
+	}
+
+	/**
+	 * Splits a format code into its sections at the semicolons outside quotes and brackets.
+	 */
+	private static List<String> sections(String format)
+	{
+		List<String> sections = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i < format.length(); i++) {
+			char c = format.charAt(i);
+			if (c == '"') {
+				i = skipQuoted(format, i);
+			} else if (c == '\\' || c == '_' || c == '*') {
+				i++;
+			} else if (c == '[') {
+				int end = format.indexOf(']', i);
+				i = end < 0 ? format.length() : end;
+			} else if (c == ';') {
+				sections.add(format.substring(start, i));
+				start = i + 1;
+			}
+		}
+		sections.add(format.substring(start));
+		return sections;
+	}
+
+	/**
+	 * Checks whether a format section shows a date or time, that is whether it has a day,
+	 * month, year, hour or second outside its quoted text.
+	 */
+	private static boolean isDateFormat(String code)
+	{
+		for (int i = 0; i < code.length(); i++) {
+			char c = Character.toLowerCase(code.charAt(i));
+			if (c == '"') {
+				i = skipQuoted(code, i);
+			} else if (c == '\\' || c == '_' || c == '*') {
+				i++;
+			} else if (c == '[') {
+				// [h], [mm] and [ss] are elapsed times; colours and locales are not dates
+				int end = code.indexOf(']', i);
+				String inside = code.substring(i + 1, end < 0 ? code.length() : end).toLowerCase(Locale.ROOT);
+				if (!inside.isEmpty() && inside.chars().allMatch(ch -> ch == 'h' || ch == 'm' || ch == 's')) {
+					return true;
+				}
+				i = end < 0 ? code.length() : end;
+			} else if (c == 'd' || c == 'm' || c == 'y' || c == 'h' || c == 's') {
+				return !code.equalsIgnoreCase("General");
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Writes a date serial number, days since the workbook's epoch with the time of day as the
+	 * fraction, with a date and time format section.
+	 */
+	private String dateText(double serial, String code)
+	{
+		long days = (long) Math.floor(serial);
+		long seconds = Math.round((serial - days) * SECONDS_PER_DAY);
+		LocalDate date;
+		if (date1904) {
+			date = EPOCH_1904.plusDays(days);
+		} else if (days >= 61) {
+			date = EPOCH_1900.plusDays(days);
+		} else {
+			// Excel counts a 29 February 1900 that never was, so earlier days are one day off
+			date = EPOCH_1900.plusDays(Math.min(days + 1, 60));
+		}
+		LocalDateTime time = date.atStartOfDay().plusSeconds(seconds);
+		long elapsedSeconds = Math.round(serial * SECONDS_PER_DAY);
+		boolean twelveHour = code.toUpperCase(Locale.ROOT).contains("AM/PM") || code.toUpperCase(Locale.ROOT).contains("A/P");
+
+		// Split the code into runs of one letter and literal text; an m run is minutes when it
+		// comes after an hour or before a second, and months otherwise
+		List<String> parts = new ArrayList<>();
+		for (int i = 0; i < code.length(); i++) {
+			char c = code.charAt(i);
+			char letter = Character.toLowerCase(c);
+			if (c == '"') {
+				int end = skipQuoted(code, i);
+				parts.add("'" + code.substring(i + 1, Math.min(end, code.length())));
+				i = end;
+			} else if (c == '\\' && i + 1 < code.length()) {
+				parts.add("'" + code.charAt(++i));
+			} else if (c == '_') {
+				parts.add("' ");
+				i++;
+			} else if (c == '*') {
+				i++;
+			} else if (c == '[') {
+				int end = code.indexOf(']', i);
+				String inside = code.substring(i + 1, end < 0 ? code.length() : end).toLowerCase(Locale.ROOT);
+				if (!inside.isEmpty() && inside.chars().allMatch(ch -> ch == 'h' || ch == 'm' || ch == 's')) {
+					parts.add("[" + inside);
+				}
+				i = end < 0 ? code.length() : end;
+			} else if (code.regionMatches(true, i, "AM/PM", 0, 5)) {
+				parts.add("'" + (time.getHour() < 12 ? "AM" : "PM"));
+				i += 4;
+			} else if (code.regionMatches(true, i, "A/P", 0, 3)) {
+				parts.add("'" + (time.getHour() < 12 ? "A" : "P"));
+				i += 2;
+			} else if (letter == 'd' || letter == 'm' || letter == 'y' || letter == 'h' || letter == 's') {
+				int end = i;
+				while (end < code.length() && Character.toLowerCase(code.charAt(end)) == letter) {
+					end++;
+				}
+				parts.add(code.substring(i, end).toLowerCase(Locale.ROOT));
+				i = end - 1;
+			} else {
+				parts.add("'" + c);
+			}
+		}
+
+		StringBuilder text = new StringBuilder();
+		String previous = "";
+		for (int index = 0; index < parts.size(); index++) {
+			String part = parts.get(index);
+			char kind = part.charAt(0);
+			int width = part.length();
+			switch (kind) {
+				case '\'':
+					text.append(part, 1, part.length());
+					continue;
+				case '[':
+					// An elapsed time counts past 24 hours or 60 minutes
+					char unit = part.charAt(1);
+					long elapsed = unit == 'h' ? elapsedSeconds / 3600 : unit == 'm' ? elapsedSeconds / 60 : elapsedSeconds;
+					text.append(pad(elapsed, width - 1));
+					previous = String.valueOf(unit);
+					continue;
+				case 'y':
+					text.append(width <= 2 ? pad(time.getYear() % 100, 2) : String.valueOf(time.getYear()));
+					break;
+				case 'd':
+					if (width <= 2) {
+						text.append(pad(time.getDayOfMonth(), width));
+					} else {
+						text.append(time.getDayOfWeek().getDisplayName(width == 3 ? TextStyle.SHORT : TextStyle.FULL, Locale.ENGLISH));
+					}
+					break;
+				case 'h':
+					int hour = time.getHour();
+					if (twelveHour) {
+						hour = hour % 12 == 0 ? 12 : hour % 12;
+					}
+					text.append(pad(hour, Math.min(width, 2)));
+					break;
+				case 's':
+					text.append(pad(time.getSecond(), Math.min(width, 2)));
+					break;
+				default:
+					if (width <= 2 && (previous.equals("h") || nextTimeUnit(parts, index + 1) == 's')) {
+						text.append(pad(time.getMinute(), width));
+					} else if (width <= 2) {
+						text.append(pad(time.getMonthValue(), width));
+					} else if (width == 5) {
+						text.append(time.getMonth().getDisplayName(TextStyle.NARROW, Locale.ENGLISH));
+					} else {
+						text.append(time.getMonth().getDisplayName(width == 3 ? TextStyle.SHORT : TextStyle.FULL, Locale.ENGLISH));
+					}
+					break;
+			}
+			previous = String.valueOf(kind);
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Returns the letter of the next date or time run from a position, or 0 if there is none.
+	 */
+	private static char nextTimeUnit(List<String> parts, int from)
+	{
+		for (int i = from; i < parts.size(); i++) {
+			char kind = parts.get(i).charAt(0);
+			if (kind == '[') {
+				return parts.get(i).charAt(1);
+			}
+			if (kind != '\'') {
+				return kind;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Writes a number with a plain number format section such as 0.00, #,##0 or 0%, with any
+	 * text around the digits. Thousands separators, decimals, percentages and trailing commas
+	 * that count in thousands are applied.
+	 *
+	 * @return the text, or null for a section this does not handle, such as General,
+	 *     scientific and fraction formats
+	 */
+	private static String decimalText(double number, String code)
+	{
+		StringBuilder prefix = new StringBuilder();
+		StringBuilder suffix = new StringBuilder();
+		int integerZeros = 0;
+		int minimumDecimals = 0;
+		int maximumDecimals = 0;
+		int trailingCommas = 0;
+		boolean digits = false;
+		boolean decimals = false;
+		boolean grouping = false;
+		boolean percent = false;
+		for (int i = 0; i < code.length(); i++) {
+			char c = code.charAt(i);
+			StringBuilder literal = digits ? suffix : prefix;
+			if (c == '"') {
+				int end = skipQuoted(code, i);
+				literal.append(code, i + 1, Math.min(end, code.length()));
+				i = end;
+			} else if (c == '\\' && i + 1 < code.length()) {
+				literal.append(code.charAt(++i));
+			} else if (c == '_') {
+				literal.append(' ');
+				i++;
+			} else if (c == '*') {
+				i++;
+			} else if (c == '[') {
+				int end = code.indexOf(']', i);
+				i = end < 0 ? code.length() : end;
+			} else if (c == '0' || c == '#' || c == '?') {
+				if (suffix.length() > 0) {
+					return null; // digits after text, as in a fraction
+				}
+				digits = true;
+				if (trailingCommas > 0) {
+					grouping = true;
+					trailingCommas = 0;
+				}
+				if (decimals) {
+					maximumDecimals++;
+					if (c != '#') {
+						minimumDecimals = maximumDecimals;
+					}
+				} else if (c != '#') {
+					integerZeros++;
+				}
+			} else if (c == '.' && !decimals && (digits || i + 1 < code.length() && "0#?".indexOf(code.charAt(i + 1)) >= 0)) {
+				decimals = true;
+				digits = true;
+			} else if (c == ',' && digits && suffix.length() == 0) {
+				trailingCommas++;
+			} else if (c == 'E' || c == 'e' || c == '/' || c == '@') {
+				return null;
+			} else {
+				if (c == '%') {
+					percent = true;
+				}
+				literal.append(c);
+			}
+		}
+		if (!digits) {
+			// A section of text alone, such as "zero", shows its text instead of the number
+			return code.isBlank() || code.trim().equalsIgnoreCase("General") ? null : prefix.toString();
+		}
+
+		double shown = number * (percent ? 100 : 1) / Math.pow(1000, trailingCommas);
+		DecimalFormat format = new DecimalFormat("0", DecimalFormatSymbols.getInstance(Locale.ROOT));
+		format.setGroupingUsed(grouping);
+		format.setGroupingSize(3);
+		format.setMinimumIntegerDigits(integerZeros);
+		format.setMinimumFractionDigits(minimumDecimals);
+		format.setMaximumFractionDigits(maximumDecimals);
+		format.setRoundingMode(RoundingMode.HALF_UP);
+		return prefix + format.format(shown) + suffix;
+	}
+
+	/**
+	 * Returns the position of the quote that closes a quoted text starting at a position, or
+	 * the length of the code if it is never closed.
+	 */
+	private static int skipQuoted(String code, int start)
+	{
+		int end = code.indexOf('"', start + 1);
+		return end < 0 ? code.length() : end;
+	}
+
+	/**
+	 * Writes a number with at least a number of digits, padding it with zeros.
+	 */
+	private static String pad(long number, int width)
+	{
+		String digits = Long.toString(number);
+		return digits.length() >= width ? digits : "0".repeat(width - digits.length()) + digits;
+	}
+
+	/**
+	 * Reads a point value cell, which Excel stores as a number such as "200.0".
+	 *
+	 * @return the point value, or -1 if the cell is not a positive whole number
+	 */
+	private static int pointValue(String cell)
+	{
+		if (cell == null) {
+			return -1;
+		}
+		try {
+			double value = Double.parseDouble(cell.trim());
+			return value > 0 && value <= 100000 && value == Math.rint(value) ? (int) value : -1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Returns the zero-based column of a cell reference such as "C12".
+	 */
+	private static int columnOf(String reference)
+	{
+		int column = 0;
+		for (int i = 0; i < reference.length(); i++) {
+			char c = reference.charAt(i);
+			if (c < 'A' || c > 'Z') {
+				break;
+			}
+			column = column * 26 + (c - 'A' + 1);
+		}
+		return column - 1;
+	}
+
+	/**
+	 * Reduces a category name to its lower case letters and digits, for matching.
+	 */
+	private static String fold(String name)
+	{
+		StringBuilder folded = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				folded.append(Character.toLowerCase(c));
+			}
+		}
+		return folded.toString();
+	}
+
+	/**
+	 * Turns a relationship target into a zip entry name. Targets are relative to the xl folder
+	 * unless they start with a slash.
+	 */
+	private static String partName(String target)
+	{
+		return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+	}
+
+	/**
+	 * Opens a part of the workbook.
+	 */
+	private static InputStream open(ZipFile zip, String name) throws IOException
+	{
+		ZipEntry entry = zip.getEntry(name);
+		if (entry == null) {
+			throw new IOException("The workbook has no " + name);
+		}
+		return zip.getInputStream(entry);
+	}
+}
@@ -0,0 +1,53 @@
+package jeopardy.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: BenchmarkRunner.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Runs the benchmarks with the GC profiler, so every result comes with its allocation rate
+ * (gc.alloc.rate.norm is the bytes allocated per operation). It takes the usual JMH
+ * command line, for example "java -jar benchmarks/target/benchmarks.jar Parse -p bankSize=1000".
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class BenchmarkRunner
+{
+	/**
+	 * Class with only a main method, so it is never created.
+	 */
+	private BenchmarkRunner()
+	{
+	}
+
+	/**
+	 * Runs the benchmarks picked on the command line, or all of them.
+	 *
+	 * @param args JMH command line options
+	 * @throws CommandLineOptionException if the options cannot be read
+	 * @throws RunnerException if a benchmark fails
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException
+	{
+		CommandLineOptions options = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder()
+				.parent(options)
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
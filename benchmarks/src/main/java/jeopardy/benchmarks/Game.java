@@ -0,0 +1,298 @@
+package jeopardy.benchmarks;
+
+import java.io.BufferedReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Path;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: Game.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Gives the benchmarks access to the game classes. The game lives in the default package,
+ * which Java code in a named package cannot refer to, and JMH will not generate benchmarks
+ * in the default package. So the game's methods are looked up once as constant method
+ * handles, which the JIT inlines like direct calls, and game objects are passed around as
+ * Object. Each method below calls the game method of the same name.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+final class Game
+{
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+	private static final MethodHandle WRITE_SYNTHETIC_BANK = staticMethod("ParserBenchmark", "writeSyntheticBank",
+			void.class, Path.class, int.class);
+	private static final MethodHandle PARSE_QUESTION_BANK = staticMethod("FileManager", "parseQuestionBank",
+			type("QuestionBank"), BufferedReader.class);
+	private static final MethodHandle PARSE_QUESTION_BANK_VALIDATING = staticMethod("FileManager", "parseQuestionBank",
+			type("QuestionBank"), BufferedReader.class, type("ParseErrors"));
+	private static final MethodHandle NEW_PARSE_ERRORS = constructor("ParseErrors");
+	private static final MethodHandle TO_ARRAY = method("QuestionSource", "toArray", String[][][][].class);
+	private static final MethodHandle CATEGORY_COUNT = method("QuestionSource", "categoryCount", int.class);
+	private static final MethodHandle VALUE_COUNT = method("QuestionSource", "valueCount", int.class);
+
+	private static final MethodHandle NEW_DECK = constructor("QuestionDeck", type("QuestionSource"), long.class);
+	private static final MethodHandle NEW_QUESTION_HANDLER = constructor("QuestionHandler", type("QuestionDeck"));
+	private static final MethodHandle GET_QUESTION = method("QuestionHandler", "getQuestion", type("Clue"), int.class, int.class);
+
+	private static final MethodHandle NEW_ADAPTIVE_DECK = constructor("AdaptiveDeck", type("QuestionSource"));
+	private static final MethodHandle NEW_ADAPTIVE_QUESTION_HANDLER = constructor("QuestionHandler", type("QuestionDeck"), type("AdaptiveDeck"));
+	private static final MethodHandle GET_QUESTION_FOR = method("QuestionHandler", "getQuestion", type("Clue"), int.class, int.class, type("Player"));
+	private static final MethodHandle RECORD_ANSWER = method("QuestionHandler", "recordAnswer", void.class, type("Player"), boolean.class);
+
+	private static final MethodHandle QUESTION = method("Clue", "question", String.class);
+	private static final MethodHandle ANSWER_COUNT = method("Clue", "answerCount", int.class);
+	private static final MethodHandle ANSWER = method("Clue", "answer", String.class, int.class);
+
+	private static final MethodHandle NEW_ANSWER_SHUFFLER = constructor("AnswerShuffler", long.class);
+	private static final MethodHandle SHUFFLE = method("AnswerShuffler", "shuffle", void.class);
+	private static final MethodHandle ANSWER_AT = method("AnswerShuffler", "answerAt", int.class, int.class);
+	private static final MethodHandle CORRECT_SLOT = method("AnswerShuffler", "correctSlot", int.class);
+
+	private static final MethodHandle NEW_PLAYER = constructor("Player", String.class);
+	private static final MethodHandle ADD_POINTS = method("Player", "addPoints", void.class, int.class);
+	private static final MethodHandle SUBTRACT_POINTS = method("Player", "subtractPoints", void.class, int.class);
+	private static final MethodHandle GET_SCORE = method("Player", "getScore", int.class);
+
+	private static final MethodHandle NEW_LEADERBOARD = constructor("Leaderboard", Path.class, Path.class, int.class);
+	private static final MethodHandle GET_HIGH_SCORE = method("Leaderboard", "getHighScore", int.class);
+	private static final MethodHandle GET_HIGH_SCORE_NAME = method("Leaderboard", "getHighScoreName", String.class);
+	private static final MethodHandle SUBMIT = method("Leaderboard", "submit", boolean.class, String.class, int.class);
+	private static final MethodHandle CLOSE = method("Leaderboard", "close", void.class);
+
+	/**
+	 * Class with only static methods, so it is never created.
+	 */
+	private Game()
+	{
+	}
+
+	static void writeSyntheticBank(Path bank, int lines) throws Throwable
+	{
+		WRITE_SYNTHETIC_BANK.invokeExact(bank, lines);
+	}
+
+	static Object parseQuestionBank(BufferedReader reader) throws Throwable
+	{
+		return (Object) PARSE_QUESTION_BANK.invokeExact(reader);
+	}
+
+	static Object parseQuestionBank(BufferedReader reader, Object errors) throws Throwable
+	{
+		return (Object) PARSE_QUESTION_BANK_VALIDATING.invokeExact(reader, errors);
+	}
+
+	static Object newParseErrors() throws Throwable
+	{
+		return (Object) NEW_PARSE_ERRORS.invokeExact();
+	}
+
+	static String[][][][] toArray(Object bank) throws Throwable
+	{
+		return (String[][][][]) TO_ARRAY.invokeExact(bank);
+	}
+
+	static int categoryCount(Object bank) throws Throwable
+	{
+		return (int) CATEGORY_COUNT.invokeExact(bank);
+	}
+
+	static int valueCount(Object bank) throws Throwable
+	{
+		return (int) VALUE_COUNT.invokeExact(bank);
+	}
+
+	static Object newDeck(Object bank, long seed) throws Throwable
+	{
+		return (Object) NEW_DECK.invokeExact(bank, seed);
+	}
+
+	static Object newQuestionHandler(Object deck) throws Throwable
+	{
+		return (Object) NEW_QUESTION_HANDLER.invokeExact(deck);
+	}
+
+	static Object getQuestion(Object questionHandler, int category, int value) throws Throwable
+	{
+		return (Object) GET_QUESTION.invokeExact(questionHandler, category, value);
+	}
+
+	static Object newAdaptiveDeck(Object bank) throws Throwable
+	{
+		return (Object) NEW_ADAPTIVE_DECK.invokeExact(bank);
+	}
+
+	static Object newQuestionHandler(Object deck, Object adaptiveDeck) throws Throwable
+	{
+		return (Object) NEW_ADAPTIVE_QUESTION_HANDLER.invokeExact(deck, adaptiveDeck);
+	}
+
+	static Object getQuestion(Object questionHandler, int category, int value, Object player) throws Throwable
+	{
+		return (Object) GET_QUESTION_FOR.invokeExact(questionHandler, category, value, player);
+	}
+
+	static void recordAnswer(Object questionHandler, Object player, boolean correct) throws Throwable
+	{
+		RECORD_ANSWER.invokeExact(questionHandler, player, correct);
+	}
+
+	static String question(Object clue) throws Throwable
+	{
+		return (String) QUESTION.invokeExact(clue);
+	}
+
+	static int answerCount(Object clue) throws Throwable
+	{
+		return (int) ANSWER_COUNT.invokeExact(clue);
+	}
+
+	static String answer(Object clue, int index) throws Throwable
+	{
+		return (String) ANSWER.invokeExact(clue, index);
+	}
+
+	static Object newAnswerShuffler(long seed) throws Throwable
+	{
+		return (Object) NEW_ANSWER_SHUFFLER.invokeExact(seed);
+	}
+
+	static void shuffle(Object answerShuffler) throws Throwable
+	{
+		SHUFFLE.invokeExact(answerShuffler);
+	}
+
+	static int answerAt(Object answerShuffler, int slot) throws Throwable
+	{
+		return (int) ANSWER_AT.invokeExact(answerShuffler, slot);
+	}
+
+	static int correctSlot(Object answerShuffler) throws Throwable
+	{
+		return (int) CORRECT_SLOT.invokeExact(answerShuffler);
+	}
+
+	static Object newPlayer(String name) throws Throwable
+	{
+		return (Object) NEW_PLAYER.invokeExact(name);
+	}
+
+	static void addPoints(Object player, int points) throws Throwable
+	{
+		ADD_POINTS.invokeExact(player, points);
+	}
+
+	static void subtractPoints(Object player, int points) throws Throwable
+	{
+		SUBTRACT_POINTS.invokeExact(player, points);
+	}
+
+	static int getScore(Object player) throws Throwable
+	{
+		return (int) GET_SCORE.invokeExact(player);
+	}
+
+	static Object newLeaderboard(Path snapshot, Path log, int capacity) throws Throwable
+	{
+		return (Object) NEW_LEADERBOARD.invokeExact(snapshot, log, capacity);
+	}
+
+	static int getHighScore(Object leaderboard) throws Throwable
+	{
+		return (int) GET_HIGH_SCORE.invokeExact(leaderboard);
+	}
+
+	static String getHighScoreName(Object leaderboard) throws Throwable
+	{
+		return (String) GET_HIGH_SCORE_NAME.invokeExact(leaderboard);
+	}
+
+	static boolean submit(Object leaderboard, String name, int score) throws Throwable
+	{
+		return (boolean) SUBMIT.invokeExact(leaderboard, name, score);
+	}
+
+	static void close(Object leaderboard) throws Throwable
+	{
+		CLOSE.invokeExact(leaderboard);
+	}
+
+	/**
+	 * Loads a game class by name.
+	 */
+	private static Class<?> type(String name)
+	{
+		try {
+			return Class.forName(name);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("The game classes are not on the class path", e);
+		}
+	}
+
+	/**
+	 * Looks up a static method, with its game types replaced by Object.
+	 */
+	private static MethodHandle staticMethod(String owner, String name, Class<?> returnType, Class<?>... parameters)
+	{
+		try {
+			MethodHandle handle = LOOKUP.findStatic(type(owner), name, MethodType.methodType(returnType, parameters));
+			return handle.asType(MethodType.methodType(erase(returnType), erase(parameters)));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The game has no method " + owner + "." + name, e);
+		}
+	}
+
+	/**
+	 * Looks up an instance method, with the receiver and game types replaced by Object.
+	 */
+	private static MethodHandle method(String owner, String name, Class<?> returnType, Class<?>... parameters)
+	{
+		try {
+			MethodHandle handle = LOOKUP.findVirtual(type(owner), name, MethodType.methodType(returnType, parameters));
+			return handle.asType(MethodType.methodType(erase(returnType), erase(parameters)).insertParameterTypes(0, Object.class));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The game has no method " + owner + "." + name, e);
+		}
+	}
+
+	/**
+	 * Looks up a constructor, returning Object and with game parameter types replaced by Object.
+	 */
+	private static MethodHandle constructor(String owner, Class<?>... parameters)
+	{
+		try {
+			MethodHandle handle = LOOKUP.findConstructor(type(owner), MethodType.methodType(void.class, parameters));
+			return handle.asType(MethodType.methodType(Object.class, erase(parameters)));
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("The game has no constructor " + owner, e);
+		}
+	}
+
+	/**
+	 * Replaces a game type, which lives in the default package, with Object.
+	 */
+	private static Class<?> erase(Class<?> type)
+	{
+		return type.isPrimitive() || type.isArray() || type.getPackageName().startsWith("java.") ? type : Object.class;
+	}
+
+	private static Class<?>[] erase(Class<?>[] types)
+	{
+		Class<?>[] erased = new Class<?>[types.length];
+		for (int i = 0; i < types.length; i++) {
+			erased[i] = erase(types[i]);
+		}
+		return erased;
+	}
+}
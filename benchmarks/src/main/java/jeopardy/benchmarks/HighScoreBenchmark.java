@@ -0,0 +1,95 @@
+package jeopardy.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: HighScoreBenchmark.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Times reading and writing high scores through a Leaderboard kept in a temporary folder.
+ * newHighScore submits a score that beats the board, so it goes through the writer queue;
+ * lowScore is turned away by the board; both run on four threads at once, like games on a
+ * server.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HighScoreBenchmark
+{
+	private Path folder;
+	private Object leaderboard;
+	private final AtomicInteger score = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void openLeaderboard() throws Throwable
+	{
+		folder = Files.createTempDirectory("highscores");
+		leaderboard = Game.newLeaderboard(folder.resolve("HighScore.txt"), folder.resolve("HighScore.log"), 10);
+	}
+
+	@TearDown(Level.Trial)
+	public void closeLeaderboard() throws Throwable
+	{
+		Game.close(leaderboard);
+		try (Stream<Path> files = Files.list(folder)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(folder);
+	}
+
+	@Benchmark
+	public void getHighScore(Blackhole blackhole) throws Throwable
+	{
+		blackhole.consume(Game.getHighScoreName(leaderboard));
+		blackhole.consume(Game.getHighScore(leaderboard));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean newHighScore() throws Throwable
+	{
+		return Game.submit(leaderboard, "Benchmark", score.incrementAndGet());
+	}
+
+	@Benchmark
+	@Threads(4)
+	public boolean lowScore() throws Throwable
+	{
+		return Game.submit(leaderboard, "Benchmark", -1);
+	}
+}
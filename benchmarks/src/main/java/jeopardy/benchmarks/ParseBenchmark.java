@@ -0,0 +1,93 @@
+package jeopardy.benchmarks;
+
+import java.io.BufferedReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: ParseBenchmark.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Times reading a synthetic questions file. FileManager.getQuestionsFromFile always reads
+ * Questions.txt from the working directory, so these benchmarks run the same steps on a
+ * synthetic file of the chosen size: parseQuestionBank is the streaming parse,
+ * parseQuestionBankValidating is the same parse collecting errors as the game does, which
+ * should cost nothing extra on a clean file, and getQuestionsFromFile is the parse followed
+ * by the copy into the old array.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParseBenchmark
+{
+	@Param({"1000", "100000", "1000000"})
+	public int bankSize;
+
+	private Path bank;
+
+	@Setup(Level.Trial)
+	public void writeBank() throws Throwable
+	{
+		bank = Files.createTempFile("questions", ".txt");
+		Game.writeSyntheticBank(bank, bankSize);
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteBank() throws Exception
+	{
+		Files.deleteIfExists(bank);
+	}
+
+	@Benchmark
+	public Object parseQuestionBank() throws Throwable
+	{
+		try (BufferedReader reader = Files.newBufferedReader(bank)) {
+			return Game.parseQuestionBank(reader);
+		}
+	}
+
+	@Benchmark
+	public Object parseQuestionBankValidating() throws Throwable
+	{
+		try (BufferedReader reader = Files.newBufferedReader(bank)) {
+			return Game.parseQuestionBank(reader, Game.newParseErrors());
+		}
+	}
+
+	@Benchmark
+	public String[][][][] getQuestionsFromFile() throws Throwable
+	{
+		try (BufferedReader reader = Files.newBufferedReader(bank)) {
+			return Game.toArray(Game.parseQuestionBank(reader));
+		}
+	}
+}
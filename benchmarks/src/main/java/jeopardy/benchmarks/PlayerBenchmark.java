@@ -0,0 +1,64 @@
+package jeopardy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: PlayerBenchmark.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Times scoring with Player.addPoints and Player.subtractPoints. Neither depends on the
+ * size of the question bank, so these are not run per bank size.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark
+{
+	private Object player;
+
+	@Setup(Level.Trial)
+	public void createPlayer() throws Throwable
+	{
+		player = Game.newPlayer("Benchmark");
+	}
+
+	@Benchmark
+	public int addPoints() throws Throwable
+	{
+		Game.addPoints(player, 200);
+		return Game.getScore(player);
+	}
+
+	@Benchmark
+	public int subtractPoints() throws Throwable
+	{
+		Game.subtractPoints(player, 200);
+		return Game.getScore(player);
+	}
+}
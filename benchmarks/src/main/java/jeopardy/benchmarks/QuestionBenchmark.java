@@ -0,0 +1,93 @@
+package jeopardy.benchmarks;
+
+import java.io.BufferedReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: QuestionBenchmark.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Times dealing questions with QuestionHandler.getQuestion, walking the board cell by cell,
+ * at random and with an AdaptiveDeck that deals the question nearest the player's skill.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class QuestionBenchmark
+{
+	@Param({"1000", "100000", "1000000"})
+	public int bankSize;
+
+	private Object questionHandler;
+	private Object adaptiveHandler;
+	private Object player;
+	private int categories;
+	private int values;
+	private int cell;
+
+	@Setup(Level.Trial)
+	public void loadBank() throws Throwable
+	{
+		Path file = Files.createTempFile("questions", ".txt");
+		Object bank;
+		try {
+			Game.writeSyntheticBank(file, bankSize);
+			try (BufferedReader reader = Files.newBufferedReader(file)) {
+				bank = Game.parseQuestionBank(reader);
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+		categories = Game.categoryCount(bank);
+		values = Game.valueCount(bank);
+		questionHandler = Game.newQuestionHandler(Game.newDeck(bank, 42));
+		adaptiveHandler = Game.newQuestionHandler(Game.newDeck(bank, 42), Game.newAdaptiveDeck(bank));
+		player = Game.newPlayer("Benchmark");
+	}
+
+	@Benchmark
+	public Object getQuestion() throws Throwable
+	{
+		int next = cell++ % (categories * values);
+		return Game.getQuestion(questionHandler, next / values, next % values);
+	}
+
+	@Benchmark
+	public Object getAdaptiveQuestion() throws Throwable
+	{
+		int next = cell++ % (categories * values);
+		Object clue = Game.getQuestion(adaptiveHandler, next / values, next % values, player);
+		// Alternate the outcome so the player's skill keeps moving and the target with it
+		Game.recordAnswer(adaptiveHandler, player, (next & 1) == 0);
+		return clue;
+	}
+}
@@ -0,0 +1,80 @@
+package jeopardy.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: ShuffleBenchmark.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Times shuffling the four answer choices of a question. answerShuffler is the
+ * AnswerShuffler that GUI.shuffleAnswers and the game engine use, which should show a
+ * gc.alloc.rate.norm of about 0 bytes; collectionsShuffle is the list of boxed positions
+ * and Collections.shuffle that GUI.shuffleAnswers used before it, kept as the baseline.
+ * Neither depends on the size of the question bank.
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShuffleBenchmark
+{
+	private static final int ANSWER_COUNT = 4;
+
+	private Object answerShuffler;
+
+	@Setup(Level.Trial)
+	public void createShuffler() throws Throwable
+	{
+		answerShuffler = Game.newAnswerShuffler(42);
+	}
+
+	@Benchmark
+	public int answerShuffler() throws Throwable
+	{
+		Game.shuffle(answerShuffler);
+		return Game.correctSlot(answerShuffler);
+	}
+
+	@Benchmark
+	public int collectionsShuffle()
+	{
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < ANSWER_COUNT; i++) {
+			order.add(i);
+		}
+		Collections.shuffle(order);
+		int[] answerOrder = new int[order.size()];
+		for (int i = 0; i < answerOrder.length; i++) {
+			answerOrder[i] = order.get(i);
+		}
+		return order.indexOf(0) + answerOrder[0];
+	}
+}
@@ -0,0 +1,94 @@
+package jeopardy.benchmarks;
+
+import java.util.Arrays;
+
+/**
+ * ---------------------------------------------------------------------------
+ * File name: ShuffleUniformityCheck.java
+ * Project name: Jeopardy
+ * ---------------------------------------------------------------------------
+ * Creator's name and email: Oluwaseyi Ariyo, ariyoseyiariyo@gmail.com
+ * Creation Date: Oct 18, 2026
+ * ---------------------------------------------------------------------------
+ */
+
+/**
+ * Checks that AnswerShuffler shows every order of the four answers equally often, and that
+ * its correct slot always holds the correct answer. It counts each of the 24 orders over
+ * many shuffles and runs a chi-square test on the counts; with 23 degrees of freedom a
+ * statistic above 49.73 happens by chance only 0.1% of the time.
+ *
+ * <p>Run it with "java -cp benchmarks/target/benchmarks.jar jeopardy.benchmarks.ShuffleUniformityCheck [shuffles]".
+ *
+ * <hr>
+ * Date created: Oct 18, 2026
+ * <hr>
+ */
+public class ShuffleUniformityCheck
+{
+	private static final int ANSWER_COUNT = 4;
+	private static final int ORDERS = 24; // 4!
+	private static final double CRITICAL_VALUE = 49.73; // chi-square, 23 degrees of freedom, p = 0.001
+
+	/**
+	 * Class with only a main method, so it is never created.
+	 */
+	private ShuffleUniformityCheck()
+	{
+	}
+
+	/**
+	 * Shuffles many times and reports whether the orders are uniform.
+	 *
+	 * @param args optional number of shuffles; the default is 2,400,000
+	 * @throws Throwable if the game classes cannot be called
+	 */
+	public static void main(String[] args) throws Throwable
+	{
+		int shuffles = args.length > 0 ? Integer.parseInt(args[0]) : 2_400_000;
+		Object shuffler = Game.newAnswerShuffler(System.nanoTime());
+		long[] counts = new long[ORDERS];
+		long[] correctSlots = new long[ANSWER_COUNT];
+		for (int n = 0; n < shuffles; n++) {
+			Game.shuffle(shuffler);
+			int correctSlot = Game.correctSlot(shuffler);
+			if (Game.answerAt(shuffler, correctSlot) != 0) {
+				throw new IllegalStateException("The correct slot does not hold the correct answer");
+			}
+			correctSlots[correctSlot]++;
+			counts[rank(shuffler)]++;
+		}
+
+		double expected = (double) shuffles / ORDERS;
+		double chiSquare = 0;
+		for (long count : counts) {
+			chiSquare += (count - expected) * (count - expected) / expected;
+		}
+		System.out.printf("%,d shuffles, correct answer per slot %s, chi-square %.2f (limit %.2f)%n",
+				shuffles, Arrays.toString(correctSlots), chiSquare, CRITICAL_VALUE);
+		if (chiSquare > CRITICAL_VALUE) {
+			System.out.println("FAILED: the answer orders are not uniform");
+			System.exit(1);
+		}
+		System.out.println("PASSED: every answer order is equally likely");
+	}
+
+	/**
+	 * Numbers the order in the shuffler from 0 to 23 (its Lehmer code).
+	 */
+	private static int rank(Object shuffler) throws Throwable
+	{
+		int rank = 0;
+		for (int i = 0; i < ANSWER_COUNT; i++) {
+			int smallerAfter = 0;
+			int answer = Game.answerAt(shuffler, i);
+			for (int j = i + 1; j < ANSWER_COUNT; j++) {
+				if (Game.answerAt(shuffler, j) < answer) {
+					smallerAfter++;
+				}
+			}
+			rank = rank * (ANSWER_COUNT - i) + smallerAfter;
+		}
+		return rank;
+	}
+}